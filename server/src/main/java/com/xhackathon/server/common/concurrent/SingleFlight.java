@@ -0,0 +1,88 @@
+package com.xhackathon.server.common.concurrent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 key의 동시 요청을 하나의 실행으로 합치는 single-flight
+ *
+ * - 처음 들어온 호출(leader)이 자기 스레드에서 작업을 실행하고, 실행 중에 들어온 호출은
+ *   락을 기다리지 않고 같은 CompletableFuture를 받습니다 (submit).
+ *   execute는 그 future를 기다리므로 합류한 호출의 스레드가 leader의 작업이 끝날 때까지 멈춥니다.
+ * - 결과(예외 포함)는 그 실행에 합류한 호출에만 공유되고 저장하지 않습니다.
+ *   완료 후 들어온 호출은 새로 실행하므로, 결과 재사용이 필요하면 호출 측 캐시와 함께 사용합니다.
+ * - 작업 안에서 같은 key로 다시 execute를 호출하면 자기 결과를 기다리게 되므로 금지합니다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * 실행 중인 같은 key의 작업이 있으면 그 결과를, 없으면 현재 스레드에서 task를 실행한 결과를 반환
+     *
+     * 반환된 future에 thenApply 등을 이어 붙이면 합류한 호출도 스레드를 점유하지 않습니다.
+     */
+    public CompletableFuture<V> submit(K key, Supplier<? extends V> task) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+
+        executions.increment();
+        try {
+            V value = task.get();
+            inFlight.remove(key, call);
+            call.complete(value);
+        } catch (Throwable t) {
+            failures.increment();
+            inFlight.remove(key, call);
+            call.completeExceptionally(t);
+        }
+        return call;
+    }
+
+    /**
+     * submit 후 결과를 기다려 반환 (동기 호출용, 요청 스레드에서는 submit 사용)
+     *
+     * task가 던진 RuntimeException은 감싸지 않고 그대로 다시 던집니다.
+     */
+    public V execute(K key, Supplier<? extends V> task) {
+        try {
+            return submit(key, task).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long executionCount = executions.sum();
+        long coalescedCount = coalesced.sum();
+        long total = executionCount + coalescedCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inFlight", inFlight.size());
+        stats.put("executions", executionCount);
+        stats.put("coalescedCallers", coalescedCount);
+        stats.put("failures", failures.sum());
+        stats.put("coalesceRatio", total == 0 ? 0.0 : (double) coalescedCount / total);
+        return stats;
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -23,26 +24,18 @@ public class AwsConfig {
     @Value("${aws.secret-key:}")
     private String secretKey;
 
+    /**
+     * S3Presigner, S3Client, 일괄 서명(S3BatchPresigner)이 함께 쓰는 자격 증명 공급자
+     */
     @Bean
-    public S3Presigner s3Presigner() {
-        log.info("=== AwsConfig: S3Presigner Bean 생성 시작 ===");
-        Region awsRegion = Region.of(region);
-        
+    public AwsCredentialsProvider awsCredentialsProvider() {
         // 우선순위 1: aws.access-key와 aws.secret-key 설정값이 있으면 사용
         if (accessKey != null && !accessKey.isEmpty() && !accessKey.equals("local-access-key") &&
             secretKey != null && !secretKey.isEmpty() && !secretKey.equals("local-secret-key")) {
             
             log.info("AwsConfig: 설정값 자격 증명 사용 (AccessKey 앞 4자리: {}...)", 
                      accessKey.length() > 4 ? accessKey.substring(0, 4) : "****");
-            AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
-            
-            S3Presigner presigner = S3Presigner.builder()
-                    .region(awsRegion)
-                    .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                    .build();
-            
-            log.info("✅ AwsConfig: S3Presigner Bean 생성 완료 (설정값 자격 증명 사용)");
-            return presigner;
+            return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
         }
         
         // 우선순위 2: 환경변수 AWS_ACCESS_KEY_ID와 AWS_SECRET_ACCESS_KEY에서 직접 가져와서 사용
@@ -54,15 +47,7 @@ public class AwsConfig {
             
             log.info("AwsConfig: 환경변수 자격 증명 사용 (AccessKey 앞 4자리: {}...)", 
                      envAccessKey.length() > 4 ? envAccessKey.substring(0, 4) : "****");
-            AwsBasicCredentials credentials = AwsBasicCredentials.create(envAccessKey, envSecretKey);
-            
-            S3Presigner presigner = S3Presigner.builder()
-                    .region(awsRegion)
-                    .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                    .build();
-            
-            log.info("✅ AwsConfig: S3Presigner Bean 생성 완료 (환경변수 자격 증명 사용)");
-            return presigner;
+            return StaticCredentialsProvider.create(AwsBasicCredentials.create(envAccessKey, envSecretKey));
         }
         
         // 실패시: 자격증명이 없으면 IllegalStateException 발생
@@ -76,54 +61,26 @@ public class AwsConfig {
     }
 
     @Bean
-    public S3Client s3Client() {
-        log.info("=== AwsConfig: S3Client Bean 생성 시작 ===");
-        Region awsRegion = Region.of(region);
-        
-        // 우선순위 1: aws.access-key와 aws.secret-key 설정값이 있으면 사용
-        if (accessKey != null && !accessKey.isEmpty() && !accessKey.equals("local-access-key") &&
-            secretKey != null && !secretKey.isEmpty() && !secretKey.equals("local-secret-key")) {
-            
-            log.info("AwsConfig: 설정값 자격 증명 사용 (AccessKey 앞 4자리: {}...)", 
-                     accessKey.length() > 4 ? accessKey.substring(0, 4) : "****");
-            AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
-            
-            S3Client client = S3Client.builder()
-                    .region(awsRegion)
-                    .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                    .build();
-            
-            log.info("✅ AwsConfig: S3Client Bean 생성 완료 (설정값 자격 증명 사용)");
-            return client;
-        }
-        
-        // 우선순위 2: 환경변수 AWS_ACCESS_KEY_ID와 AWS_SECRET_ACCESS_KEY에서 직접 가져와서 사용
-        String envAccessKey = System.getenv("AWS_ACCESS_KEY_ID");
-        String envSecretKey = System.getenv("AWS_SECRET_ACCESS_KEY");
+    public S3Presigner s3Presigner(AwsCredentialsProvider awsCredentialsProvider) {
+        log.info("=== AwsConfig: S3Presigner Bean 생성 시작 ===");
+        S3Presigner presigner = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(awsCredentialsProvider)
+                .build();
         
-        if (envAccessKey != null && !envAccessKey.isEmpty() && 
-            envSecretKey != null && !envSecretKey.isEmpty()) {
-            
-            log.info("AwsConfig: 환경변수 자격 증명 사용 (AccessKey 앞 4자리: {}...)", 
-                     envAccessKey.length() > 4 ? envAccessKey.substring(0, 4) : "****");
-            AwsBasicCredentials credentials = AwsBasicCredentials.create(envAccessKey, envSecretKey);
-            
-            S3Client client = S3Client.builder()
-                    .region(awsRegion)
-                    .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                    .build();
-            
-            log.info("✅ AwsConfig: S3Client Bean 생성 완료 (환경변수 자격 증명 사용)");
-            return client;
-        }
+        log.info("✅ AwsConfig: S3Presigner Bean 생성 완료");
+        return presigner;
+    }
+
+    @Bean
+    public S3Client s3Client(AwsCredentialsProvider awsCredentialsProvider) {
+        log.info("=== AwsConfig: S3Client Bean 생성 시작 ===");
+        S3Client client = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(awsCredentialsProvider)
+                .build();
         
-        // 실패시: 자격증명이 없으면 IllegalStateException 발생
-        log.error("❌ AwsConfig: AWS 자격 증명을 찾을 수 없습니다.");
-        log.error("설정 방법:");
-        log.error("  1. application.properties에 aws.access-key와 aws.secret-key 설정");
-        log.error("  2. 환경변수 AWS_ACCESS_KEY_ID와 AWS_SECRET_ACCESS_KEY 설정");
-        throw new IllegalStateException("AWS 자격 증명이 설정되지 않았습니다. " +
-                "application.properties의 aws.access-key/aws.secret-key 또는 " +
-                "환경변수 AWS_ACCESS_KEY_ID/AWS_SECRET_ACCESS_KEY를 설정해주세요.");
+        log.info("✅ AwsConfig: S3Client Bean 생성 완료");
+        return client;
     }
 }
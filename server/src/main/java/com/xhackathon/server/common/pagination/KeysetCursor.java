@@ -0,0 +1,67 @@
+package com.xhackathon.server.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * (created_at, id) 복합 키셋 커서
+ *
+ * ORDER BY created_at DESC, id DESC 정렬에서 마지막 항목의 위치를 나타냅니다.
+ * 다음 페이지는 (created_at, id) < (커서) 조건으로 인덱스에서 바로 이어서 읽으므로
+ * 페이지 깊이와 관계없이 페이지 크기만큼만 읽습니다.
+ *
+ * 인코딩: Base64URL("{created_at epoch 마이크로초}:{id}")
+ * 이전 형식(Base64("{id}"))도 읽을 수 있으며, 이 경우 createdAt이 null입니다.
+ */
+public record KeysetCursor(OffsetDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = ':';
+
+    public static KeysetCursor of(OffsetDateTime createdAt, Long id) {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("커서에는 createdAt과 id가 모두 필요합니다.");
+        }
+        return new KeysetCursor(createdAt, id);
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                // 이전 형식: id만 있는 커서
+                return new KeysetCursor(null, Long.parseLong(decoded));
+            }
+
+            long epochMicros = Long.parseLong(decoded.substring(0, separator));
+            long id = Long.parseLong(decoded.substring(separator + 1));
+            Instant instant = Instant.ofEpochSecond(
+                    Math.floorDiv(epochMicros, 1_000_000L),
+                    Math.floorMod(epochMicros, 1_000_000L) * 1_000L);
+            return new KeysetCursor(OffsetDateTime.ofInstant(instant, ZoneOffset.UTC), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * id만 있는 이전 형식 커서인지 여부
+     */
+    public boolean isLegacy() {
+        return createdAt == null;
+    }
+
+    public String encode() {
+        if (isLegacy()) {
+            throw new IllegalStateException("이전 형식 커서는 다시 인코딩할 수 없습니다.");
+        }
+        // DB(timestamptz) 정밀도에 맞춰 마이크로초 단위로 저장
+        Instant instant = createdAt.toInstant();
+        long epochMicros = Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000L);
+        String raw = epochMicros + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,27 +4,32 @@ import com.xhackathon.server.domain.bookmark.entity.Bookmark;
 import com.xhackathon.server.domain.bookmark.repository.BookmarkRepository;
 import com.xhackathon.server.domain.companypage.dto.BookmarkedShortFormInfo;
 import com.xhackathon.server.domain.companypage.dto.response.CompanyPageResponse;
-import com.xhackathon.server.domain.follow.repository.FollowRepository;
+import com.xhackathon.server.domain.follow.service.FollowCountService;
 import com.xhackathon.server.domain.shortform.entity.ShortForm;
+import com.xhackathon.server.domain.shortform.entity.ShortFormAi;
 import com.xhackathon.server.domain.shortform.repository.ShortFormRepository;
-import com.xhackathon.server.domain.shortform.service.AwsS3Service;
+import com.xhackathon.server.domain.shortform.service.SummaryIngestionService;
 import com.xhackathon.server.domain.user.entity.User;
 import com.xhackathon.server.domain.user.repository.UserRepository;
+import com.xhackathon.server.domain.user.service.UserProfile;
+import com.xhackathon.server.domain.user.service.UserProfileCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class CompanyPageService {
 
     private final UserRepository userRepository;
-    private final FollowRepository followRepository;
+    private final FollowCountService followCountService;
     private final BookmarkRepository bookmarkRepository;
     private final ShortFormRepository shortFormRepository;
-    private final AwsS3Service awsS3Service;
+    private final SummaryIngestionService summaryIngestionService;
+    private final UserProfileCache userProfileCache;
 
     @Transactional(readOnly = true)
     public CompanyPageResponse getCompanyPage(String companyPid) {
@@ -33,31 +38,37 @@ public class CompanyPageService {
                 .orElseThrow(() -> new IllegalArgumentException("기업을 찾을 수 없습니다."));
 
         // 1) 팔로워 수 조회
-        int followerCnt = followRepository.countByFolloweePid(companyPid);
+        int followerCnt = (int) followCountService.getFollowerCount(companyPid);
 
         // 2) 북마크한 숏폼 조회
         List<Bookmark> bookmarks = bookmarkRepository.findByCompanyPid(companyPid);
         int bookmarkCnt = bookmarks.size();
 
-        // 3) 숏폼 상세 데이터 만들기
-        List<BookmarkedShortFormInfo> shortForms = bookmarks.stream()
-                .map(b -> {
-                    ShortForm sf = shortFormRepository.findById(b.getShortFormId())
-                            .orElseThrow(() -> new IllegalArgumentException("숏폼을 찾을 수 없음"));
+        // 3) 숏폼 상세 데이터 만들기 (요약은 저장된 AI 결과에서 일괄 조회)
+        List<ShortForm> bookmarkedShortForms = bookmarks.stream()
+                .map(b -> shortFormRepository.findById(b.getShortFormId())
+                        .orElseThrow(() -> new IllegalArgumentException("숏폼을 찾을 수 없음")))
+                .toList();
+        Map<Long, ShortFormAi> summaries = summaryIngestionService.findOrBackfill(bookmarkedShortForms);
+        Map<String, UserProfile> owners = userProfileCache.getAll(bookmarkedShortForms.stream()
+                .map(ShortForm::getOwnerPid)
+                .toList());
 
-                    User owner = userRepository.findById(sf.getOwnerPid())
-                            .orElseThrow(() -> new IllegalArgumentException("소유자 없음"));
+        List<BookmarkedShortFormInfo> shortForms = bookmarkedShortForms.stream()
+                .map(sf -> {
+                    UserProfile owner = owners.get(sf.getOwnerPid());
+                    if (owner == null) {
+                        throw new IllegalArgumentException("소유자 없음");
+                    }
 
-                    String summary = awsS3Service.getSummary(
-                            sf.getId(),
-                            sf.getVideoKey()
-                    );
+                    ShortFormAi ai = summaries.get(sf.getId());
+                    String summary = ai != null && ai.getSummary() != null ? ai.getSummary() : "";
 
                     return BookmarkedShortFormInfo.builder()
                             .shortFormId(sf.getId())
                             .summary(summary)
-                            .ownerName(owner.getDisplayName())
-                            .ownerProfileImageUrl(owner.getProfileImageUrl())
+                            .ownerName(owner.displayName())
+                            .ownerProfileImageUrl(owner.profileImageUrl())
                             .build();
                 })
                 .toList();
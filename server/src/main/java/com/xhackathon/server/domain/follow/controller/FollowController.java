@@ -1,13 +1,19 @@
 package com.xhackathon.server.domain.follow.controller;
 
+import com.xhackathon.server.domain.follow.dto.request.FollowBulkRequest;
 import com.xhackathon.server.domain.follow.dto.request.FollowListRequest;
 import com.xhackathon.server.domain.follow.dto.request.FollowRequest;
+import com.xhackathon.server.domain.follow.dto.response.FollowBulkResponse;
+import com.xhackathon.server.domain.follow.dto.response.FollowPageResponse;
 import com.xhackathon.server.domain.follow.dto.response.FollowResponse;
 import com.xhackathon.server.domain.follow.service.FollowService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -30,6 +36,24 @@ public class FollowController {
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping("/follow")
+    public ResponseEntity<FollowResponse> follow(
+            @RequestBody FollowRequest request) {
+        return ResponseEntity.ok(followService.follow(request.getFollowerPid(), request.getFolloweePid()));
+    }
+
+    @DeleteMapping("/follow")
+    public ResponseEntity<FollowResponse> unfollow(
+            @RequestBody FollowRequest request) {
+        return ResponseEntity.ok(followService.unfollow(request.getFollowerPid(), request.getFolloweePid()));
+    }
+
+    @PostMapping("/follow/bulk")
+    public ResponseEntity<FollowBulkResponse> followAll(
+            @RequestBody FollowBulkRequest request) {
+        return ResponseEntity.ok(followService.followAll(request.getFollowerPid(), request.getFolloweePids()));
+    }
+
     @GetMapping("/followings")
     public ResponseEntity<List<String>> getFollowings(
             @RequestBody FollowListRequest request) {
@@ -44,6 +68,22 @@ public class FollowController {
         return ResponseEntity.ok(followers);
     }
 
+    @GetMapping("/followings/page")
+    public ResponseEntity<FollowPageResponse> getFollowingPage(
+            @RequestParam String pid,
+            @RequestParam(required = false) String pageParam,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(followService.getFollowingPage(pid, pageParam, size));
+    }
+
+    @GetMapping("/followers/page")
+    public ResponseEntity<FollowPageResponse> getFollowerPage(
+            @RequestParam String pid,
+            @RequestParam(required = false) String pageParam,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(followService.getFollowerPage(pid, pageParam, size));
+    }
+
     @GetMapping("/followers/count")
     public ResponseEntity<Long> getFollowerCount(
             @RequestBody FollowListRequest request) {
@@ -0,0 +1,18 @@
+package com.xhackathon.server.domain.follow.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class FollowBulkRequest {
+
+    private String followerPid;
+
+    private List<String> followeePids; // 최대 100명
+
+    public FollowBulkRequest() {}
+
+}
@@ -0,0 +1,19 @@
+package com.xhackathon.server.domain.follow.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class FollowBulkResponse {
+
+    private List<String> followedPids; // 이번 요청으로 새로 팔로우한 pid
+
+    private int skippedCount; // 이미 팔로우 중이거나 없는 사용자, 본인
+
+    public FollowBulkResponse(List<String> followedPids, int skippedCount) {
+        this.followedPids = followedPids;
+        this.skippedCount = skippedCount;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.xhackathon.server.domain.follow.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class FollowPageResponse {
+
+    private List<FollowUserResponse> data;
+
+    private String nextPageParam;
+
+    private Boolean hasNextPage;
+
+    public FollowPageResponse(List<FollowUserResponse> data, String nextPageParam, Boolean hasNextPage) {
+        this.data = data;
+        this.nextPageParam = nextPageParam;
+        this.hasNextPage = hasNextPage;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.xhackathon.server.domain.follow.dto.response;
+
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+@Getter
+public class FollowUserResponse {
+
+    private String pid;
+
+    private String displayName;
+
+    private String profileImageUrl;
+
+    private OffsetDateTime followedAt;
+
+    public FollowUserResponse(String pid, String displayName, String profileImageUrl, OffsetDateTime followedAt) {
+        this.pid = pid;
+        this.displayName = displayName;
+        this.profileImageUrl = profileImageUrl;
+        this.followedAt = followedAt;
+    }
+
+}
@@ -7,7 +7,13 @@ import java.time.OffsetDateTime;
 
 @Entity
 @Getter
-@Table(name = "follows")
+@Table(name = "follows",
+        uniqueConstraints = @UniqueConstraint(name = "uk_follows_follower_followee",
+                columnNames = {"follower_pid", "followee_pid"}),
+        indexes = {
+                @Index(name = "idx_follows_follower_created_at_id", columnList = "follower_pid, created_at DESC, id DESC"),
+                @Index(name = "idx_follows_followee_created_at_id", columnList = "followee_pid, created_at DESC, id DESC")
+        })
 public class Follow {
 
     @Id
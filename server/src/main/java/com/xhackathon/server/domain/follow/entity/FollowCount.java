@@ -0,0 +1,31 @@
+package com.xhackathon.server.domain.follow.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 사용자별 팔로워/팔로잉 수 (follows 집계의 비정규화 값)
+ * 팔로우 변경은 메모리에 모았다가 주기적으로 더하고, 정합성 작업이 follows 기준으로 보정합니다.
+ */
+@Entity
+@Getter
+@Table(name = "follow_counts")
+public class FollowCount {
+
+    @Id
+    @Column(name = "pid", nullable = false)
+    private String pid;
+
+    @Column(name = "follower_count", nullable = false)
+    private long followerCount;
+
+    @Column(name = "following_count", nullable = false)
+    private long followingCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    protected FollowCount() {}
+}
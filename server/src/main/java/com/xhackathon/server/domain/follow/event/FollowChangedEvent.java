@@ -0,0 +1,9 @@
+package com.xhackathon.server.domain.follow.event;
+
+/**
+ * 팔로우/언팔로우 이벤트 (트랜잭션 커밋 후 처리)
+ *
+ * @param following true면 팔로우, false면 언팔로우
+ */
+public record FollowChangedEvent(String followerPid, String followeePid, boolean following) {
+}
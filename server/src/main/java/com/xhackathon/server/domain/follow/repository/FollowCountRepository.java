@@ -0,0 +1,38 @@
+package com.xhackathon.server.domain.follow.repository;
+
+import com.xhackathon.server.domain.follow.entity.FollowCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FollowCountRepository extends JpaRepository<FollowCount, String> {
+
+    //변경분 반영. 행이 없으면 follows에서 집계해 생성 (이미 커밋된 변경이 포함되므로 변경분은 더하지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO follow_counts (pid, follower_count, following_count, updated_at) " +
+           "SELECT :pid, " +
+           "(SELECT COUNT(*) FROM follows WHERE followee_pid = :pid), " +
+           "(SELECT COUNT(*) FROM follows WHERE follower_pid = :pid), now() " +
+           "ON CONFLICT (pid) DO UPDATE " +
+           "SET follower_count = GREATEST(follow_counts.follower_count + :followerDelta, 0), " +
+           "following_count = GREATEST(follow_counts.following_count + :followingDelta, 0), " +
+           "updated_at = now()",
+           nativeQuery = true)
+    int applyDeltas(@Param("pid") String pid,
+                    @Param("followerDelta") long followerDelta,
+                    @Param("followingDelta") long followingDelta);
+
+    //follows 기준으로 어긋난 행 보정
+    @Modifying
+    @Query(value = "UPDATE follow_counts c " +
+           "SET follower_count = x.follower_count, following_count = x.following_count, updated_at = now() " +
+           "FROM (SELECT p.pid, " +
+           "(SELECT COUNT(*) FROM follows f WHERE f.followee_pid = p.pid) AS follower_count, " +
+           "(SELECT COUNT(*) FROM follows f WHERE f.follower_pid = p.pid) AS following_count " +
+           "FROM follow_counts p) x " +
+           "WHERE c.pid = x.pid " +
+           "AND (c.follower_count <> x.follower_count OR c.following_count <> x.following_count)",
+           nativeQuery = true)
+    int reconcile();
+}
@@ -0,0 +1,9 @@
+package com.xhackathon.server.domain.follow.repository;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 팔로우 목록 한 줄 (상대 pid와 페이지 커서용 id, created_at)
+ */
+public record FollowEdge(Long id, String pid, OffsetDateTime createdAt) {
+}
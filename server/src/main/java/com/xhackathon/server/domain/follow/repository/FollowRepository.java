@@ -1,8 +1,14 @@
 package com.xhackathon.server.domain.follow.repository;
 
 import com.xhackathon.server.domain.follow.entity.Follow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,15 +16,89 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
     Optional<Follow> findByFollowerPidAndFolloweePid(String followerPid, String followeePid);
 
-    //내 팔로잉 찾기
-    List<Follow> findByFollowerPid(String followerPid);
+    //팔로우 토글 (한 문장): 있으면 삭제, 없으면 추가. 동시 요청이 먼저 추가했으면 아무것도 하지 않음
+    @Transactional
+    @Query(value = "WITH deleted AS (" +
+           "DELETE FROM follows WHERE follower_pid = :followerPid AND followee_pid = :followeePid RETURNING id), " +
+           "inserted AS (" +
+           "INSERT INTO follows (follower_pid, followee_pid, created_at) " +
+           "SELECT :followerPid, :followeePid, now() WHERE NOT EXISTS (SELECT 1 FROM deleted) " +
+           "ON CONFLICT DO NOTHING RETURNING id) " +
+           "SELECT (SELECT id FROM inserted) AS \"insertedId\", (SELECT id FROM deleted LIMIT 1) AS \"deletedId\"",
+           nativeQuery = true)
+    FollowToggleResult toggle(@Param("followerPid") String followerPid, @Param("followeePid") String followeePid);
 
-    //내 팔로워 찾기
-    List<Follow> findByFolloweePid(String followeePid);
+    //팔로우 (이미 팔로우 중이면 null)
+    @Transactional
+    @Query(value = "INSERT INTO follows (follower_pid, followee_pid, created_at) " +
+           "VALUES (:followerPid, :followeePid, now()) ON CONFLICT DO NOTHING RETURNING id",
+           nativeQuery = true)
+    Long insertIfAbsent(@Param("followerPid") String followerPid, @Param("followeePid") String followeePid);
+
+    //언팔로우 (팔로우 중이 아니면 빈 목록)
+    @Transactional
+    @Query(value = "DELETE FROM follows WHERE follower_pid = :followerPid AND followee_pid = :followeePid RETURNING id",
+           nativeQuery = true)
+    List<Long> deleteReturningIds(@Param("followerPid") String followerPid, @Param("followeePid") String followeePid);
+
+    //여러 명 한 번에 팔로우 (존재하는 사용자만, 본인 제외). 새로 팔로우한 pid 반환
+    @Transactional
+    @Query(value = "INSERT INTO follows (follower_pid, followee_pid, created_at) " +
+           "SELECT :followerPid, u.pid, now() FROM users u " +
+           "WHERE u.pid IN (:followeePids) AND u.pid <> :followerPid " +
+           "ON CONFLICT DO NOTHING RETURNING followee_pid",
+           nativeQuery = true)
+    List<String> insertAllIfAbsent(@Param("followerPid") String followerPid,
+                                   @Param("followeePids") Collection<String> followeePids);
+
+    //여러 대상에 대한 팔로우 여부를 한 번에 조회
+    List<Follow> findByFollowerPidAndFolloweePidIn(String followerPid, Collection<String> followeePids);
+
+    //내 팔로잉 pid만 조회 (팔로우 여부 캐시 적재용)
+    @Query("SELECT f.followeePid FROM Follow f WHERE f.followerPid = :followerPid")
+    List<String> findFolloweePidsByFollowerPid(@Param("followerPid") String followerPid);
+
+    //내 팔로워 pid만 조회
+    @Query("SELECT f.followerPid FROM Follow f WHERE f.followeePid = :followeePid")
+    List<String> findFollowerPidsByFolloweePid(@Param("followeePid") String followeePid);
+
+    //팔로잉 목록 첫 페이지 (최근 팔로우 순) - idx_follows_follower_created_at_id 인덱스 사용
+    @Query("SELECT new com.xhackathon.server.domain.follow.repository.FollowEdge(f.id, f.followeePid, f.createdAt) " +
+           "FROM Follow f WHERE f.followerPid = :followerPid " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FollowEdge> findFollowingFirstPage(@Param("followerPid") String followerPid, Pageable pageable);
+
+    //팔로잉 목록 (created_at, id) 키셋 페이지
+    @Query("SELECT new com.xhackathon.server.domain.follow.repository.FollowEdge(f.id, f.followeePid, f.createdAt) " +
+           "FROM Follow f WHERE f.followerPid = :followerPid " +
+           "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FollowEdge> findFollowingPageBefore(@Param("followerPid") String followerPid,
+                                             @Param("createdAt") OffsetDateTime createdAt,
+                                             @Param("id") Long id, Pageable pageable);
+
+    //팔로워 목록 첫 페이지 (최근 팔로우 순) - idx_follows_followee_created_at_id 인덱스 사용
+    @Query("SELECT new com.xhackathon.server.domain.follow.repository.FollowEdge(f.id, f.followerPid, f.createdAt) " +
+           "FROM Follow f WHERE f.followeePid = :followeePid " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FollowEdge> findFollowerFirstPage(@Param("followeePid") String followeePid, Pageable pageable);
+
+    //팔로워 목록 (created_at, id) 키셋 페이지
+    @Query("SELECT new com.xhackathon.server.domain.follow.repository.FollowEdge(f.id, f.followerPid, f.createdAt) " +
+           "FROM Follow f WHERE f.followeePid = :followeePid " +
+           "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FollowEdge> findFollowerPageBefore(@Param("followeePid") String followeePid,
+                                            @Param("createdAt") OffsetDateTime createdAt,
+                                            @Param("id") Long id, Pageable pageable);
 
     //팔로워 수 카운트
     int countByFolloweePid(String followeePid);
 
     //팔로잉 수 카운트
     int countByFollowerPid(String followerPid);
+
+    //팔로워 수가 기준을 넘는 계정 (타임라인 fan-out 제외 대상)
+    @Query("SELECT f.followeePid FROM Follow f GROUP BY f.followeePid HAVING COUNT(f) > :threshold")
+    List<String> findFolloweePidsWithFollowerCountOver(@Param("threshold") long threshold);
 }
@@ -0,0 +1,11 @@
+package com.xhackathon.server.domain.follow.repository;
+
+/**
+ * 팔로우 토글 결과 (둘 다 null이면 동시 요청이 먼저 팔로우해 아무것도 바꾸지 않음)
+ */
+public interface FollowToggleResult {
+
+    Long getInsertedId(); // 새로 팔로우한 행 id
+
+    Long getDeletedId(); // 언팔로우로 삭제한 행 id
+}
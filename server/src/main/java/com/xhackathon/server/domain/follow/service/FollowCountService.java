@@ -0,0 +1,323 @@
+package com.xhackathon.server.domain.follow.service;
+
+import com.xhackathon.server.domain.follow.event.FollowChangedEvent;
+import com.xhackathon.server.domain.follow.repository.FollowCountRepository;
+import com.xhackathon.server.domain.follow.repository.FollowRepository;
+import com.xhackathon.server.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 팔로워/팔로잉 수 (follow_counts)
+ *
+ * - 팔로우 변경은 커밋 후 pid별 LongAdder에 더해 두고(인기 계정의 동시 변경도 같은 값을 CAS로 다투지 않음),
+ *   주기적으로 변경분만 follow_counts에 한 번에 반영합니다.
+ * - 조회는 follow_counts 행 + 아직 반영하지 않은 변경분입니다. 행이 없으면 follows를 집계해 답하고,
+ *   users에 있는 pid면 다음 반영 때 행을 만듭니다 (없는 pid는 기록하지 않음).
+ * - 정합성 작업이 주기적으로 follows 기준으로 어긋난 행을 보정합니다.
+ *   보정과 겹친 팔로우 변경은 한 번 더 반영될 수 있으며, 다음 보정 때 바로잡힙니다.
+ * - 반영 트랜잭션이 커밋되는 짧은 동안에는 조회 값이 반영분만큼 작게 보일 수 있습니다.
+ * - 반영 후 0이 된 변경분 항목은 제거합니다 (최근 팔로우를 변경한 사용자만 유지).
+ */
+@Slf4j
+@Service
+public class FollowCountService {
+
+    private final Store store;
+
+    private final ConcurrentHashMap<String, PendingDelta> pending = new ConcurrentHashMap<>();
+    // follow_counts 행이 없어 다음 반영 때 만들 pid (users에 있는 pid만)
+    private final Set<String> seeds = ConcurrentHashMap.newKeySet();
+    // 반영과 보정이 겹치지 않도록
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LongAdder changes = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder flushFailures = new LongAdder();
+    private final LongAdder repairedRows = new LongAdder();
+    private final LongAdder fallbackCounts = new LongAdder();
+
+    @Autowired
+    public FollowCountService(FollowCountRepository followCountRepository, FollowRepository followRepository,
+                              UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this(new RepositoryStore(followCountRepository, followRepository, userRepository,
+                new TransactionTemplate(transactionManager)));
+    }
+
+    FollowCountService(Store store) {
+        this.store = store;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        long delta = event.following() ? 1 : -1;
+        add(event.followeePid(), delta, 0);
+        add(event.followerPid(), 0, delta);
+        changes.increment();
+    }
+
+    public long getFollowerCount(String pid) {
+        Optional<Counts> stored = store.find(pid);
+        PendingDelta delta = pending.get(pid);
+        if (stored.isPresent()) {
+            return Math.max(0, stored.get().followers() + (delta != null ? delta.followers.sum() : 0));
+        }
+        // 집계값에는 커밋된 변경이 이미 포함되어 있으므로 변경분을 더하지 않음
+        fallbackCounts.increment();
+        seedIfUser(pid);
+        return store.countFollowers(pid);
+    }
+
+    public long getFollowingCount(String pid) {
+        Optional<Counts> stored = store.find(pid);
+        PendingDelta delta = pending.get(pid);
+        if (stored.isPresent()) {
+            return Math.max(0, stored.get().followings() + (delta != null ? delta.followings.sum() : 0));
+        }
+        fallbackCounts.increment();
+        seedIfUser(pid);
+        return store.countFollowings(pid);
+    }
+
+    private void seedIfUser(String pid) {
+        if (pid != null && !seeds.contains(pid) && store.userExists(pid)) {
+            seeds.add(pid);
+        }
+    }
+
+    /**
+     * 쌓인 변경분을 follow_counts에 반영
+     */
+    @Scheduled(fixedDelayString = "${app.follow.count-flush-interval:PT5S}",
+               initialDelayString = "${app.follow.count-flush-interval:PT5S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * follows 기준 정합성 보정 (먼저 쌓인 변경분을 반영한 뒤 실행)
+     */
+    @Scheduled(fixedDelayString = "${app.follow.count-reconcile-interval:PT1H}",
+               initialDelayString = "${app.follow.count-reconcile-interval:PT1H}")
+    public void reconcile() {
+        flushLock.lock();
+        try {
+            flushPending();
+            int count = store.reconcile();
+            repairedRows.add(count);
+            log.info("팔로우 수 정합성 보정 완료 - 보정: {}개", count);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        // 반영할 양을 먼저 빼두고, 실패하면 되돌림 (빼는 사이 들어온 변경은 다음 반영으로)
+        Map<String, Snapshot> batch = new LinkedHashMap<>();
+        pending.forEach((pid, delta) -> {
+            long followers = delta.followers.sum();
+            long followings = delta.followings.sum();
+            if (followers == 0 && followings == 0) {
+                retire(pid, delta);
+                return;
+            }
+            delta.followers.add(-followers);
+            delta.followings.add(-followings);
+            batch.put(pid, new Snapshot(pid, delta, followers, followings, false));
+        });
+        for (Iterator<String> iterator = seeds.iterator(); iterator.hasNext(); ) {
+            String pid = iterator.next();
+            iterator.remove();
+            Snapshot snapshot = batch.get(pid);
+            batch.put(pid, snapshot != null
+                    ? new Snapshot(pid, snapshot.delta(), snapshot.followers(), snapshot.followings(), true)
+                    : new Snapshot(pid, null, 0, 0, true));
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Snapshot> snapshots = new ArrayList<>(batch.values());
+        try {
+            store.applyDeltas(snapshots);
+            flushedRows.add(snapshots.size());
+            log.debug("팔로우 수 반영 - {}개 계정", snapshots.size());
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            snapshots.forEach(snapshot -> {
+                if (snapshot.followers() != 0 || snapshot.followings() != 0) {
+                    add(snapshot.pid(), snapshot.followers(), snapshot.followings());
+                }
+                if (snapshot.seed()) {
+                    seeds.add(snapshot.pid());
+                }
+            });
+            log.error("팔로우 수 반영 실패 (다음 주기에 재시도) - {}개 계정: {}", snapshots.size(), e.getMessage(), e);
+            return;
+        }
+        // 반영 후 0이 된 항목 제거 (반영 중 들어온 변경이 있으면 유지)
+        for (Snapshot snapshot : snapshots) {
+            if (snapshot.delta() != null) {
+                retire(snapshot.pid(), snapshot.delta());
+            }
+        }
+    }
+
+    /**
+     * 변경분 누적 (제거 중인 항목에는 더하지 않고 결과를 기다렸다가 다시 시도)
+     */
+    private void add(String pid, long followers, long followings) {
+        while (true) {
+            PendingDelta delta = pending.computeIfAbsent(pid, k -> new PendingDelta());
+            delta.writers.incrementAndGet();
+            try {
+                if (delta.state == PendingDelta.ACTIVE) {
+                    delta.followers.add(followers);
+                    delta.followings.add(followings);
+                    return;
+                }
+            } finally {
+                delta.writers.decrementAndGet();
+            }
+            while (delta.state == PendingDelta.RETIRING) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * 0인 항목을 제거 (flushLock 안에서만 호출)
+     *
+     * RETIRING을 먼저 표시한 뒤 더하는 중인 스레드가 없고 합계가 0일 때만 제거합니다.
+     * 표시 이후에 온 변경은 더하지 않고 기다리므로, 제거되면 새 항목에 더해집니다.
+     */
+    private void retire(String pid, PendingDelta delta) {
+        delta.state = PendingDelta.RETIRING;
+        if (delta.writers.get() == 0 && delta.followers.sum() == 0 && delta.followings.sum() == 0) {
+            pending.remove(pid, delta);
+            delta.state = PendingDelta.REMOVED;
+        } else {
+            delta.state = PendingDelta.ACTIVE;
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long pendingFollowers = 0;
+        int pendingAccounts = 0;
+        for (PendingDelta delta : pending.values()) {
+            long followers = delta.followers.sum();
+            if (followers != 0 || delta.followings.sum() != 0) {
+                pendingAccounts++;
+            }
+            pendingFollowers += Math.abs(followers);
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("trackedAccounts", pending.size());
+        stats.put("pendingSeeds", seeds.size());
+        stats.put("pendingAccounts", pendingAccounts);
+        stats.put("pendingFollowerDelta", pendingFollowers);
+        stats.put("changes", changes.sum());
+        stats.put("flushedRows", flushedRows.sum());
+        stats.put("flushFailures", flushFailures.sum());
+        stats.put("repairedRows", repairedRows.sum());
+        stats.put("fallbackCounts", fallbackCounts.sum());
+        return stats;
+    }
+
+    private static final class PendingDelta {
+        private static final int ACTIVE = 0;
+        private static final int RETIRING = 1;
+        private static final int REMOVED = 2;
+
+        private final LongAdder followers = new LongAdder();
+        private final LongAdder followings = new LongAdder();
+        // 더하는 중인 스레드 수 (retire가 더하는 도중의 항목을 제거하지 않도록)
+        private final AtomicInteger writers = new AtomicInteger();
+        private volatile int state = ACTIVE;
+    }
+
+    record Snapshot(String pid, PendingDelta delta, long followers, long followings, boolean seed) {
+    }
+
+    record Counts(long followers, long followings) {
+    }
+
+    /**
+     * follow_counts/follows/users 접근 (테스트에서 대체)
+     */
+    interface Store {
+
+        Optional<Counts> find(String pid);
+
+        long countFollowers(String pid);
+
+        long countFollowings(String pid);
+
+        boolean userExists(String pid);
+
+        // 한 트랜잭션으로 반영 (행이 없으면 follows를 집계해 생성)
+        void applyDeltas(List<Snapshot> snapshots);
+
+        int reconcile();
+    }
+
+    private record RepositoryStore(FollowCountRepository followCountRepository, FollowRepository followRepository,
+                                   UserRepository userRepository, TransactionTemplate transactionTemplate) implements Store {
+
+        @Override
+        public Optional<Counts> find(String pid) {
+            return followCountRepository.findById(pid)
+                    .map(count -> new Counts(count.getFollowerCount(), count.getFollowingCount()));
+        }
+
+        @Override
+        public long countFollowers(String pid) {
+            return followRepository.countByFolloweePid(pid);
+        }
+
+        @Override
+        public long countFollowings(String pid) {
+            return followRepository.countByFollowerPid(pid);
+        }
+
+        @Override
+        public boolean userExists(String pid) {
+            return userRepository.existsById(pid);
+        }
+
+        @Override
+        public void applyDeltas(List<Snapshot> snapshots) {
+            transactionTemplate.executeWithoutResult(status -> snapshots.forEach(snapshot ->
+                    followCountRepository.applyDeltas(snapshot.pid(), snapshot.followers(), snapshot.followings())));
+        }
+
+        @Override
+        public int reconcile() {
+            Integer repaired = transactionTemplate.execute(status -> followCountRepository.reconcile());
+            return repaired != null ? repaired : 0;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.xhackathon.server.domain.follow.service;
+
+import com.xhackathon.server.common.concurrent.SingleFlight;
+import com.xhackathon.server.domain.follow.event.FollowChangedEvent;
+import com.xhackathon.server.domain.follow.repository.FollowRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 팔로우 여부 확인 (피드/릴스의 isFollowed)
+ *
+ * - 최근 조회한 사용자(viewer)별 팔로잉 집합을 메모리에 두고 DB 조회 없이 답합니다.
+ *   집합은 첫 확인 때 한 번 읽어오며(동시 요청은 한 번만 조회), 최대 viewer 수를 넘으면
+ *   가장 오래 사용하지 않은 viewer부터 제거합니다.
+ * - 팔로우/언팔로우가 커밋되면 FollowChangedEvent로 캐시된 집합을 바로 갱신합니다.
+ *   ttl은 다른 경로로 바뀐 follows 행을 따라잡기 위한 안전장치입니다.
+ * - filterFollowed로 페이지 단위 확인을 한 번에 처리합니다.
+ */
+@Slf4j
+@Service
+public class FollowMembershipService {
+
+    private final Map<String, Entry> viewers = new LinkedHashMap<>(256, 0.75f, true); // 접근 순서
+    private final ReentrantLock viewersLock = new ReentrantLock();
+    private final SingleFlight<String, FolloweeSet> loadFlight = new SingleFlight<>();
+    // DB에서 읽는 중인 viewer별 팔로우 변경/무효화 횟수 (읽는 동안만 유지, 0이 아니면 읽은 집합을 저장하지 않음)
+    private final ConcurrentHashMap<String, Long> loadingChanges = new ConcurrentHashMap<>();
+
+    private final Function<String, List<String>> loader;
+    private final int maxViewers;
+    private final Duration ttl;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder bloomRejects = new LongAdder();
+    private final LongAdder viewerHits = new LongAdder();
+    private final LongAdder viewerLoads = new LongAdder();
+    private final LongAdder updates = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public FollowMembershipService(
+            FollowRepository followRepository,
+            @Value("${app.follow.membership.max-viewers:50000}") int maxViewers,
+            @Value("${app.follow.membership.ttl:PT30M}") Duration ttl) {
+        this(followRepository::findFolloweePidsByFollowerPid, maxViewers, ttl);
+    }
+
+    FollowMembershipService(Function<String, List<String>> loader, int maxViewers, Duration ttl) {
+        this.loader = loader;
+        this.maxViewers = maxViewers;
+        this.ttl = ttl;
+    }
+
+    public boolean isFollowing(String viewerPid, String followeePid) {
+        if (viewerPid == null || followeePid == null) {
+            return false;
+        }
+        return !filterFollowed(viewerPid, List.of(followeePid)).isEmpty();
+    }
+
+    /**
+     * followeePids 중 viewer가 팔로우하는 pid
+     */
+    public Set<String> filterFollowed(String viewerPid, Collection<String> followeePids) {
+        if (viewerPid == null || followeePids.isEmpty()) {
+            return Collections.emptySet();
+        }
+        FolloweeSet followees = followeesOf(viewerPid);
+        Set<String> followed = new HashSet<>();
+        int rejected = 0;
+        for (String pid : followeePids) {
+            if (pid == null) {
+                continue;
+            }
+            long hash = FolloweeSet.hash(pid);
+            if (!followees.mightContain(hash)) {
+                rejected++;
+            } else if (followees.containsExact(hash)) {
+                followed.add(pid);
+            }
+        }
+        checks.add(followeePids.size());
+        bloomRejects.add(rejected);
+        return followed;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        markChanged(event.followerPid());
+        viewersLock.lock();
+        try {
+            // 캐시된 viewer만 갱신 (없으면 다음 확인 때 DB에서 읽음)
+            Entry entry = viewers.get(event.followerPid());
+            if (entry != null) {
+                FolloweeSet next = event.following()
+                        ? entry.followees().with(event.followeePid())
+                        : entry.followees().without(event.followeePid());
+                viewers.put(event.followerPid(), new Entry(next, entry.expiresAt()));
+                updates.increment();
+            }
+        } finally {
+            viewersLock.unlock();
+        }
+    }
+
+    public void invalidate(String viewerPid) {
+        markChanged(viewerPid);
+        viewersLock.lock();
+        try {
+            viewers.remove(viewerPid);
+        } finally {
+            viewersLock.unlock();
+        }
+    }
+
+    private FolloweeSet followeesOf(String viewerPid) {
+        viewersLock.lock();
+        try {
+            Entry entry = viewers.get(viewerPid);
+            if (entry != null && Instant.now().isBefore(entry.expiresAt())) {
+                viewerHits.increment();
+                return entry.followees();
+            }
+        } finally {
+            viewersLock.unlock();
+        }
+
+        // 같은 viewer의 읽기는 loadFlight가 하나로 합치므로 loadingChanges 항목은 읽기당 하나
+        return loadFlight.execute(viewerPid, () -> {
+            loadingChanges.put(viewerPid, 0L);
+            try {
+                FolloweeSet loaded = FolloweeSet.of(loader.apply(viewerPid));
+                viewerLoads.increment();
+                store(viewerPid, loaded);
+                return loaded;
+            } finally {
+                loadingChanges.remove(viewerPid);
+            }
+        });
+    }
+
+    // 다른 viewer의 팔로우 변경은 영향을 주지 않음
+    private void markChanged(String viewerPid) {
+        loadingChanges.computeIfPresent(viewerPid, (pid, changes) -> changes + 1);
+    }
+
+    private void store(String viewerPid, FolloweeSet followees) {
+        viewersLock.lock();
+        try {
+            // 읽는 동안 이 viewer의 팔로우가 바뀌었으면 저장하지 않음 (다음 확인 때 다시 읽음)
+            Long changes = loadingChanges.get(viewerPid);
+            if (changes == null || changes != 0L) {
+                return;
+            }
+            viewers.put(viewerPid, new Entry(followees, Instant.now().plus(ttl)));
+            Iterator<String> eldest = viewers.keySet().iterator();
+            while (viewers.size() > maxViewers && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            viewersLock.unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long followees = 0;
+        long bytes = 0;
+        viewersLock.lock();
+        try {
+            stats.put("viewers", viewers.size());
+            for (Entry entry : viewers.values()) {
+                followees += entry.followees().size();
+                bytes += entry.followees().memoryBytes();
+            }
+        } finally {
+            viewersLock.unlock();
+        }
+        long checkCount = checks.sum();
+        stats.put("maxViewers", maxViewers);
+        stats.put("followees", followees);
+        stats.put("approxBytes", bytes);
+        stats.put("checks", checkCount);
+        stats.put("bloomRejects", bloomRejects.sum());
+        stats.put("bloomRejectRatio", checkCount == 0 ? 0.0 : (double) bloomRejects.sum() / checkCount);
+        stats.put("viewerHits", viewerHits.sum());
+        stats.put("viewerLoads", viewerLoads.sum());
+        stats.put("updates", updates.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("loadFlight", loadFlight.stats());
+        return stats;
+    }
+
+    private record Entry(FolloweeSet followees, Instant expiresAt) {
+    }
+}
@@ -1,66 +1,212 @@
 package com.xhackathon.server.domain.follow.service;
 
+import com.xhackathon.server.common.pagination.KeysetCursor;
+import com.xhackathon.server.domain.follow.dto.response.FollowBulkResponse;
+import com.xhackathon.server.domain.follow.dto.response.FollowPageResponse;
 import com.xhackathon.server.domain.follow.dto.response.FollowResponse;
-import com.xhackathon.server.domain.follow.entity.Follow;
+import com.xhackathon.server.domain.follow.dto.response.FollowUserResponse;
+import com.xhackathon.server.domain.follow.event.FollowChangedEvent;
+import com.xhackathon.server.domain.follow.repository.FollowEdge;
 import com.xhackathon.server.domain.follow.repository.FollowRepository;
+import com.xhackathon.server.domain.follow.repository.FollowToggleResult;
+import com.xhackathon.server.domain.timeline.service.TimelineService;
+import com.xhackathon.server.domain.user.service.UserProfile;
+import com.xhackathon.server.domain.user.service.UserProfileCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class FollowService {
 
+    private static final int MAX_BULK_FOLLOW = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final FollowRepository followRepository;
+    private final TimelineService timelineService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FollowCountService followCountService;
+    private final UserProfileCache userProfileCache;
 
+    /**
+     * 팔로우 토글 (DELETE/INSERT를 한 문장으로 처리해 연속 요청에도 중복 행이 생기지 않음)
+     */
     @Transactional
     public FollowResponse toggleFollow(String followerPid, String followeePid) {
-        return followRepository.findByFollowerPidAndFolloweePid(followerPid, followeePid)
-                .map(existing -> {// 있으면 -> 언팔로우 (삭제)
-                    followRepository.delete(existing);
-                    return new FollowResponse(
-                            null,
-                            false,
-                            "언팔로우 되었습니다."
-                    );
-                })
-                .orElseGet(() -> {// 없으면 -> 새로 팔로우
-                    Follow newFollow = new Follow(followerPid, followeePid);
-                    Follow saved = followRepository.save(newFollow);
-                    return new FollowResponse(
-                            saved.getId(),
-                            true,
-                            "팔로우 되었습니다."
-                    );
-                });
+        FollowToggleResult result = followRepository.toggle(followerPid, followeePid);
+
+        if (result.getDeletedId() != null) {// 있었으면 -> 언팔로우 (삭제)
+            onUnfollowed(followerPid, followeePid);
+            return new FollowResponse(null, false, "언팔로우 되었습니다.");
+        }
+        if (result.getInsertedId() != null) {// 없었으면 -> 새로 팔로우
+            onFollowed(followerPid, followeePid);
+            return new FollowResponse(result.getInsertedId(), true, "팔로우 되었습니다.");
+        }
+        // 동시 요청이 먼저 팔로우함
+        return new FollowResponse(null, true, "이미 팔로우 중입니다.");
+    }
+
+    /**
+     * 팔로우 (이미 팔로우 중이면 변경 없음)
+     */
+    @Transactional
+    public FollowResponse follow(String followerPid, String followeePid) {
+        Long followId = followRepository.insertIfAbsent(followerPid, followeePid);
+        if (followId == null) {
+            return new FollowResponse(null, true, "이미 팔로우 중입니다.");
+        }
+        onFollowed(followerPid, followeePid);
+        return new FollowResponse(followId, true, "팔로우 되었습니다.");
+    }
+
+    /**
+     * 언팔로우 (팔로우 중이 아니면 변경 없음)
+     */
+    @Transactional
+    public FollowResponse unfollow(String followerPid, String followeePid) {
+        if (followRepository.deleteReturningIds(followerPid, followeePid).isEmpty()) {
+            return new FollowResponse(null, false, "팔로우 중이 아닙니다.");
+        }
+        onUnfollowed(followerPid, followeePid);
+        return new FollowResponse(null, false, "언팔로우 되었습니다.");
+    }
+
+    /**
+     * 여러 명 한 번에 팔로우 (온보딩 추천 등). 없는 사용자, 본인, 이미 팔로우 중인 사용자는 건너뜀
+     */
+    @Transactional
+    public FollowBulkResponse followAll(String followerPid, List<String> followeePids) {
+        if (followerPid == null || followerPid.isBlank()) {
+            throw new IllegalArgumentException("followerPid가 필요합니다.");
+        }
+        if (followeePids == null || followeePids.isEmpty()) {
+            return new FollowBulkResponse(List.of(), 0);
+        }
+        Set<String> targets = new LinkedHashSet<>(followeePids);
+        targets.remove(null);
+        if (targets.size() > MAX_BULK_FOLLOW) {
+            throw new IllegalArgumentException("한 번에 " + MAX_BULK_FOLLOW + "명까지 팔로우할 수 있습니다.");
+        }
+        if (targets.isEmpty()) {
+            return new FollowBulkResponse(List.of(), followeePids.size());
+        }
+
+        List<String> followed = followRepository.insertAllIfAbsent(followerPid, targets);
+        followed.forEach(followeePid -> onFollowed(followerPid, followeePid));
+        return new FollowBulkResponse(followed, followeePids.size() - followed.size());
+    }
+
+    private void onFollowed(String followerPid, String followeePid) {
+        timelineService.onFollow(followerPid, followeePid);
+        eventPublisher.publishEvent(new FollowChangedEvent(followerPid, followeePid, true));
+    }
+
+    private void onUnfollowed(String followerPid, String followeePid) {
+        timelineService.onUnfollow(followerPid, followeePid);
+        eventPublisher.publishEvent(new FollowChangedEvent(followerPid, followeePid, false));
     }
 
     @Transactional(readOnly = true)
     public List<String> getFollowings(String pid) {
-        return followRepository.findByFollowerPid(pid)
-                .stream()
-                .map(Follow::getFolloweePid)
-                .toList();
+        return followRepository.findFolloweePidsByFollowerPid(pid);
     }
 
     @Transactional(readOnly = true)
     public List<String> getFollowers(String pid) {
-        return followRepository.findByFolloweePid(pid)
-                .stream()
-                .map(Follow::getFollowerPid)
+        return followRepository.findFollowerPidsByFolloweePid(pid);
+    }
+
+    /**
+     * 팔로잉 목록 페이지 (최근 팔로우 순, 프로필 포함)
+     */
+    @Transactional(readOnly = true)
+    public FollowPageResponse getFollowingPage(String pid, String pageParam, int size) {
+        validatePageSize(size);
+        Pageable pageable = PageRequest.of(0, size + 1); // 하나 더 가져와서 다음 페이지 존재 확인
+        KeysetCursor cursor = resolveCursor(pageParam);
+        List<FollowEdge> edges = cursor == null
+                ? followRepository.findFollowingFirstPage(pid, pageable)
+                : followRepository.findFollowingPageBefore(pid, cursor.createdAt(), cursor.id(), pageable);
+        return toPage(edges, size);
+    }
+
+    /**
+     * 팔로워 목록 페이지 (최근 팔로우 순, 프로필 포함)
+     */
+    @Transactional(readOnly = true)
+    public FollowPageResponse getFollowerPage(String pid, String pageParam, int size) {
+        validatePageSize(size);
+        Pageable pageable = PageRequest.of(0, size + 1);
+        KeysetCursor cursor = resolveCursor(pageParam);
+        List<FollowEdge> edges = cursor == null
+                ? followRepository.findFollowerFirstPage(pid, pageable)
+                : followRepository.findFollowerPageBefore(pid, cursor.createdAt(), cursor.id(), pageable);
+        return toPage(edges, size);
+    }
+
+    private FollowPageResponse toPage(List<FollowEdge> edges, int size) {
+        boolean hasNextPage = edges.size() > size;
+        if (hasNextPage) {
+            edges = edges.subList(0, size); // 마지막 항목 제거
+        }
+
+        // 페이지의 프로필을 한 번에 조회 (탈퇴 등으로 없는 사용자는 pid만 반환)
+        Map<String, UserProfile> profiles = userProfileCache.getAll(edges.stream().map(FollowEdge::pid).toList());
+        List<FollowUserResponse> data = edges.stream()
+                .map(edge -> {
+                    UserProfile profile = profiles.get(edge.pid());
+                    return new FollowUserResponse(edge.pid(),
+                            profile != null ? profile.displayName() : null,
+                            profile != null ? profile.profileImageUrl() : null,
+                            edge.createdAt());
+                })
                 .toList();
+
+        FollowEdge last = edges.isEmpty() ? null : edges.get(edges.size() - 1);
+        String nextPageParam = hasNextPage && last != null ? KeysetCursor.of(last.createdAt(), last.id()).encode() : null;
+        return new FollowPageResponse(data, nextPageParam, hasNextPage);
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * pageParam을 (created_at, id) 커서로 변환 (id만 있는 이전 형식은 해당 팔로우의 created_at으로 보완)
+     */
+    private KeysetCursor resolveCursor(String pageParam) {
+        if (pageParam == null) {
+            return null;
+        }
+        KeysetCursor cursor = KeysetCursor.decode(pageParam);
+        if (!cursor.isLegacy()) {
+            return cursor;
+        }
+        return followRepository.findById(cursor.id())
+                .map(follow -> KeysetCursor.of(follow.getCreatedAt(), follow.getId()))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid cursor"));
     }
 
     @Transactional(readOnly = true)
     public long getFollowerCount(String pid) {
-        return followRepository.countByFolloweePid(pid);
+        return followCountService.getFollowerCount(pid);
     }
 
     @Transactional(readOnly = true)
     public long getFollowingCount(String pid) {
-        return followRepository.countByFollowerPid(pid);
+        return followCountService.getFollowingCount(pid);
     }
 
 }
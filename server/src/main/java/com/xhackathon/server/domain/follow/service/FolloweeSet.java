@@ -0,0 +1,139 @@
+package com.xhackathon.server.domain.follow.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 한 사용자의 팔로잉 pid 집합 (불변)
+ *
+ * - pid 문자열 대신 64비트 해시를 정렬된 long 배열로 보관하고, 이진 탐색으로 포함 여부를 확인합니다.
+ *   해시 충돌 확률은 팔로잉 수천 명 기준 10^-12 이하라 무시합니다.
+ * - 앞단의 블룸 필터(원소당 약 10비트, 해시 3개)가 대부분의 "팔로우하지 않음"을 배열 탐색 없이 걸러냅니다.
+ * - 변경은 새 집합을 만들어 교체합니다 (팔로우 변경은 조회보다 훨씬 드묾).
+ */
+final class FolloweeSet {
+
+    static final FolloweeSet EMPTY = new FolloweeSet(new long[0]);
+
+    private static final int BITS_PER_ELEMENT = 10;
+    private static final int HASH_FUNCTIONS = 3;
+
+    private final long[] hashes; // 정렬, 중복 없음
+    private final long[] bloom;
+    private final int bloomMask;
+
+    private FolloweeSet(long[] sortedHashes) {
+        this.hashes = sortedHashes;
+        int wantedBits = Math.max(64, sortedHashes.length * BITS_PER_ELEMENT);
+        int bits = Integer.highestOneBit(wantedBits - 1) << 1; // 2의 거듭제곱
+        this.bloom = new long[bits >>> 6];
+        this.bloomMask = bits - 1;
+        for (long hash : sortedHashes) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                int bit = (h1 + i * h2) & bloomMask;
+                bloom[bit >>> 6] |= 1L << bit;
+            }
+        }
+    }
+
+    static FolloweeSet of(Collection<String> pids) {
+        if (pids.isEmpty()) {
+            return EMPTY;
+        }
+        long[] hashes = new long[pids.size()];
+        int i = 0;
+        for (String pid : pids) {
+            hashes[i++] = hash(pid);
+        }
+        Arrays.sort(hashes);
+        int distinct = 0;
+        for (int j = 0; j < hashes.length; j++) {
+            if (j == 0 || hashes[j] != hashes[distinct - 1]) {
+                hashes[distinct++] = hashes[j];
+            }
+        }
+        return new FolloweeSet(distinct == hashes.length ? hashes : Arrays.copyOf(hashes, distinct));
+    }
+
+    boolean contains(String pid) {
+        long hash = hash(pid);
+        return mightContain(hash) && containsExact(hash);
+    }
+
+    FolloweeSet with(String pid) {
+        long hash = hash(pid);
+        int index = Arrays.binarySearch(hashes, hash);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        long[] next = new long[hashes.length + 1];
+        System.arraycopy(hashes, 0, next, 0, insertAt);
+        next[insertAt] = hash;
+        System.arraycopy(hashes, insertAt, next, insertAt + 1, hashes.length - insertAt);
+        return new FolloweeSet(next);
+    }
+
+    FolloweeSet without(String pid) {
+        int index = Arrays.binarySearch(hashes, hash(pid));
+        if (index < 0) {
+            return this;
+        }
+        if (hashes.length == 1) {
+            return EMPTY;
+        }
+        long[] next = new long[hashes.length - 1];
+        System.arraycopy(hashes, 0, next, 0, index);
+        System.arraycopy(hashes, index + 1, next, index, hashes.length - index - 1);
+        return new FolloweeSet(next);
+    }
+
+    int size() {
+        return hashes.length;
+    }
+
+    long memoryBytes() {
+        return (long) (hashes.length + bloom.length) * Long.BYTES;
+    }
+
+    /**
+     * 블룸 필터 확인 (false면 확실히 없음)
+     */
+    boolean mightContain(long hash) {
+        if (hashes.length == 0) {
+            return false;
+        }
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int bit = (h1 + i * h2) & bloomMask;
+            if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean containsExact(long hash) {
+        return Arrays.binarySearch(hashes, hash) >= 0;
+    }
+
+    /**
+     * pid의 64비트 해시 (FNV-1a + murmur3 fmix64)
+     */
+    static long hash(String pid) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < pid.length(); i++) {
+            h ^= pid.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53d7ecdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -7,8 +7,12 @@ import com.xhackathon.server.domain.mypage.repository.ApplicantBookmarkRepositor
 import com.xhackathon.server.domain.shortform.repository.ShortFormRepository;
 import com.xhackathon.server.domain.shortform.entity.ShortForm;
 import com.xhackathon.server.domain.user.entity.User;
+import com.xhackathon.server.domain.user.event.UserProfileChangedEvent;
 import com.xhackathon.server.domain.user.repository.UserRepository;
+import com.xhackathon.server.domain.user.service.UserProfile;
+import com.xhackathon.server.domain.user.service.UserProfileCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +29,8 @@ public class MypageService {
     private final UserRepository userRepository;
     private final ShortFormRepository shortFormRepository;
     private final ApplicantBookmarkRepository applicantBookmarkRepository;
+    private final UserProfileCache userProfileCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public MypageResponse getMyPage(String pid) {
@@ -48,6 +55,7 @@ public class MypageService {
                 req.getPortfolioLink(),
                 req.getPortfolioFileUrl()
         );
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getPid()));
 
         List<String> videoKeys = shortFormRepository.findByOwnerPid(req.getPid())
                 .stream()
@@ -76,12 +84,19 @@ public class MypageService {
         Page<ApplicantBookmark> bookmarkPage = applicantBookmarkRepository
                 .findByCompanyPidOrderByCreatedAtDesc(companyPid, pageable);
 
+        // 지원자 프로필 일괄 조회
+        Map<String, UserProfile> profiles = userProfileCache.getAll(bookmarkPage.getContent().stream()
+                .map(ApplicantBookmark::getApplicantPid)
+                .toList());
+
         List<BookmarkedApplicantResponse> applicants = bookmarkPage.getContent().stream()
                 .map(bookmark -> {
-                    User applicant = userRepository.findById(bookmark.getApplicantPid())
-                            .orElseThrow(() -> new IllegalArgumentException("지원자를 찾을 수 없습니다."));
+                    UserProfile applicant = profiles.get(bookmark.getApplicantPid());
+                    if (applicant == null) {
+                        throw new IllegalArgumentException("지원자를 찾을 수 없습니다.");
+                    }
                     
-                    List<String> skills = shortFormRepository.findByOwnerPid(applicant.getPid())
+                    List<String> skills = shortFormRepository.findByOwnerPid(applicant.pid())
                             .stream()
                             .filter(shortForm -> shortForm.getTags() != null)
                             .flatMap(shortForm -> shortForm.getTags().stream())
@@ -89,10 +104,10 @@ public class MypageService {
                             .toList();
 
                     return new BookmarkedApplicantResponse(
-                            applicant.getPid(),
-                            applicant.getDisplayName(),
-                            applicant.getBio() != null ? applicant.getBio() : "개발자",
-                            applicant.getProfileImageUrl(),
+                            applicant.pid(),
+                            applicant.displayName(),
+                            applicant.bio() != null ? applicant.bio() : "개발자",
+                            applicant.profileImageUrl(),
                             skills,
                             "경력정보 없음",
                             "위치정보 없음",
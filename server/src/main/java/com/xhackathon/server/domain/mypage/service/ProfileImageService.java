@@ -5,8 +5,10 @@ import com.xhackathon.server.domain.mypage.dto.request.SaveProfileImageRequest;
 import com.xhackathon.server.domain.mypage.dto.response.ProfileImageUploadUrlResponse;
 import com.xhackathon.server.domain.shortform.service.AwsS3Service;
 import com.xhackathon.server.domain.user.entity.User;
+import com.xhackathon.server.domain.user.event.UserProfileChangedEvent;
 import com.xhackathon.server.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,7 @@ public class ProfileImageService {
 
     private final AwsS3Service awsS3Service;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ProfileImageUploadUrlResponse createUploadUrl(ProfileImageUploadUrlRequest req) {
 
@@ -39,6 +42,7 @@ public class ProfileImageService {
                 .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
 
         user.updateProfileImage(req.getImageKey());  // User 엔티티에 추가했던 메서드
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getPid()));
 
     }
 }
\ No newline at end of file
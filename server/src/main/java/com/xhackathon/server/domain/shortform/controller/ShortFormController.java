@@ -1,25 +1,46 @@
 package com.xhackathon.server.domain.shortform.controller;
 
+import com.xhackathon.server.domain.follow.service.FollowCountService;
+import com.xhackathon.server.domain.follow.service.FollowMembershipService;
 import com.xhackathon.server.domain.shortform.dto.request.ShortFormCreateRequest;
+import com.xhackathon.server.domain.shortform.dto.request.ShortFormPresignBatchRequest;
 import com.xhackathon.server.domain.shortform.dto.request.ShortFormUploadUrlRequest;
 import com.xhackathon.server.domain.shortform.dto.request.ShortFormReelsRequest;
 import com.xhackathon.server.domain.shortform.dto.request.ShortFormFeedRequest;
 import com.xhackathon.server.domain.shortform.dto.request.ShortFormSearchRequest;
+import com.xhackathon.server.domain.shortform.dto.request.ShortFormTagQueryRequest;
+import com.xhackathon.server.domain.shortform.dto.request.ShortFormTextSearchRequest;
 import com.xhackathon.server.domain.shortform.dto.response.*;
 import com.xhackathon.server.domain.shortform.entity.ShortForm;
+import com.xhackathon.server.domain.shortform.media.ThumbnailPreference;
+import com.xhackathon.server.domain.shortform.search.FullTextIndex;
+import com.xhackathon.server.domain.shortform.search.TagIndex;
+import com.xhackathon.server.domain.shortform.service.AwsS3Service;
+import com.xhackathon.server.domain.shortform.service.FeedFirstPageCache;
+import com.xhackathon.server.domain.shortform.service.FeedStreamService;
+import com.xhackathon.server.domain.shortform.service.PresignedUrlCache;
 import com.xhackathon.server.domain.shortform.service.ShortFormService;
 import com.xhackathon.server.domain.shortform.service.S3CrawlingService;
+import com.xhackathon.server.domain.shortform.service.SummaryDocumentCache;
+import com.xhackathon.server.domain.shortform.service.SummaryIngestionService;
 import com.xhackathon.server.domain.shortform.repository.ShortFormRepository;
+import com.xhackathon.server.domain.timeline.service.TimelineService;
+import com.xhackathon.server.domain.trend.dto.response.TagTrendResponse;
+import com.xhackathon.server.domain.trend.service.TagTrendService;
+import com.xhackathon.server.domain.user.service.UserProfileCache;
 import com.xhackathon.server.domain.user.entity.User;
 import com.xhackathon.server.domain.user.entity.UserRole;
 import com.xhackathon.server.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -30,10 +51,26 @@ import java.util.concurrent.CompletableFuture;
 @RequestMapping("/short-forms")
 public class ShortFormController {
 
+    // 스트리밍 피드 응답 제한 시간
+    private static final long FEED_STREAM_TIMEOUT_MS = 30_000L;
+
     private final ShortFormService shortFormService;
     private final S3CrawlingService s3CrawlingService;
     private final ShortFormRepository shortFormRepository;
     private final UserRepository userRepository;
+    private final PresignedUrlCache presignedUrlCache;
+    private final SummaryDocumentCache summaryDocumentCache;
+    private final AwsS3Service awsS3Service;
+    private final SummaryIngestionService summaryIngestionService;
+    private final FeedFirstPageCache feedFirstPageCache;
+    private final FeedStreamService feedStreamService;
+    private final TagIndex tagIndex;
+    private final FullTextIndex fullTextIndex;
+    private final TimelineService timelineService;
+    private final TagTrendService tagTrendService;
+    private final UserProfileCache userProfileCache;
+    private final FollowMembershipService followMembershipService;
+    private final FollowCountService followCountService;
 
     @PostMapping("/upload-url")
     public ResponseEntity<ShortFormUploadUrlResponse> getUploadUrl(
@@ -42,6 +79,13 @@ public class ShortFormController {
         return ResponseEntity.ok(shortFormService.createUploadUrl(request));
     }
 
+    @PostMapping("/presign/batch")
+    public ResponseEntity<ShortFormPresignBatchResponse> presignBatch(
+            @RequestBody ShortFormPresignBatchRequest request
+    ) {
+        return ResponseEntity.ok(shortFormService.presignBatch(request));
+    }
+
     @PostMapping
     public ResponseEntity<ShortFormResponse> createShortForm(
             @RequestBody ShortFormCreateRequest request
@@ -50,25 +94,40 @@ public class ShortFormController {
                 .body(shortFormService.createShortForm(request));
     }
 
+    /**
+     * thumbnailWidth/thumbnailFormat(jpeg, webp)을 주면 그에 맞는 썸네일 종류의 URL을 반환합니다 (기본 320px JPEG).
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<ShortFormDetailResponse> getShortFormDetail(@PathVariable Long id) {
-        return ResponseEntity.ok(shortFormService.getDetail(id));
+    public CompletableFuture<ResponseEntity<ShortFormDetailResponse>> getShortFormDetail(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer thumbnailWidth,
+            @RequestParam(required = false) String thumbnailFormat
+    ) {
+        return shortFormService.getDetail(id, ThumbnailPreference.of(thumbnailWidth, thumbnailFormat))
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/api/{id}")
     public ResponseEntity<ShortFormReelsResponse> getShortFormReels(
             @PathVariable Long id,
-            @RequestBody ShortFormReelsRequest request
+            @RequestBody ShortFormReelsRequest request,
+            @RequestParam(required = false) Integer thumbnailWidth,
+            @RequestParam(required = false) String thumbnailFormat
     ) {
-        return ResponseEntity.ok(shortFormService.getReelsDetail(id, request.getCurrentUserPid()));
+        return ResponseEntity.ok(shortFormService.getReelsDetail(id, request.getCurrentUserPid(),
+                ThumbnailPreference.of(thumbnailWidth, thumbnailFormat)));
     }
 
     @GetMapping("/api/feed")
     public ResponseEntity<ShortFormFeedResponse> getShortFormFeedGet(
             @RequestParam(required = false) String pageParam,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) String currentUserPid
+            @RequestParam(required = false) String currentUserPid,
+            @RequestParam(required = false) Integer thumbnailWidth,
+            @RequestParam(required = false) String thumbnailFormat
     ) {
+        ThumbnailPreference thumbnailPreference = ThumbnailPreference.of(thumbnailWidth, thumbnailFormat);
+
         // Feed 조회 시 모든 videos 디렉토리 크롤링 실행
         try {
             log.info("피드 조회 시 videos 디렉토리 크롤링 시작");
@@ -78,14 +137,84 @@ public class ShortFormController {
             log.warn("Feed 조회 중 videos 크롤링 실패, 계속 진행: {}", e.getMessage());
         }
         
-        return ResponseEntity.ok(shortFormService.getFeed(pageParam, size, currentUserPid));
+        return ResponseEntity.ok(shortFormService.getFeed(pageParam, size, currentUserPid, thumbnailPreference));
+    }
+
+    /**
+     * 피드 스트리밍 (SSE)
+     * 항목이 준비되는 대로 "item" 이벤트를 보내고, 마지막에 "page" 이벤트(nextPageParam, hasNextPage)를 보냅니다.
+     * 첫 바이트 지연을 줄이기 위해 /api/feed와 달리 조회 전 S3 크롤링을 하지 않습니다.
+     */
+    @GetMapping(value = "/api/feed/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamShortFormFeed(
+            @RequestParam(required = false) String pageParam,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String currentUserPid,
+            @RequestParam(required = false) Integer thumbnailWidth,
+            @RequestParam(required = false) String thumbnailFormat
+    ) {
+        ThumbnailPreference thumbnailPreference = ThumbnailPreference.of(thumbnailWidth, thumbnailFormat);
+        SseEmitter emitter = new SseEmitter(FEED_STREAM_TIMEOUT_MS);
+        feedStreamService.streamFeed(emitter, pageParam, size, currentUserPid, thumbnailPreference);
+        return emitter;
+    }
+
+    @GetMapping("/api/feed/following")
+    public ResponseEntity<ShortFormFeedResponse> getFollowingFeed(
+            @RequestParam String currentUserPid,
+            @RequestParam(required = false) String pageParam,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Integer thumbnailWidth,
+            @RequestParam(required = false) String thumbnailFormat
+    ) {
+        return ResponseEntity.ok(timelineService.getFollowingFeed(currentUserPid, pageParam, size,
+                ThumbnailPreference.of(thumbnailWidth, thumbnailFormat)));
+    }
+
+    @GetMapping("/tags/suggest")
+    public ResponseEntity<TagSuggestResponse> suggestTags(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(shortFormService.suggestTags(prefix, limit));
+    }
+
+    @GetMapping("/tags/trending")
+    public ResponseEntity<TagTrendResponse> getTrendingTags(
+            @RequestParam(defaultValue = "hour") String window,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(tagTrendService.getTrending(window, limit));
     }
 
     @PostMapping("/api/search")
     public ResponseEntity<ShortFormFeedResponse> searchShortFormsByTag(
-            @RequestBody ShortFormSearchRequest request
+            @RequestBody ShortFormSearchRequest request,
+            @RequestParam(required = false) Integer thumbnailWidth,
+            @RequestParam(required = false) String thumbnailFormat
     ) {
-        return ResponseEntity.ok(shortFormService.searchByTag(request.getTag(), request.getPageParam(), request.getSize(), request.getCurrentUserPid()));
+        return ResponseEntity.ok(shortFormService.searchByTag(request.getTag(), request.getPageParam(), request.getSize(),
+                request.getCurrentUserPid(), ThumbnailPreference.of(thumbnailWidth, thumbnailFormat)));
+    }
+
+    @PostMapping("/api/search/query")
+    public ResponseEntity<ShortFormFeedResponse> searchShortFormsByTagQuery(
+            @RequestBody ShortFormTagQueryRequest request,
+            @RequestParam(required = false) Integer thumbnailWidth,
+            @RequestParam(required = false) String thumbnailFormat
+    ) {
+        return ResponseEntity.ok(shortFormService.searchByTagQuery(request.getQuery(), request.getPageParam(), request.getSize(),
+                request.getCurrentUserPid(), ThumbnailPreference.of(thumbnailWidth, thumbnailFormat)));
+    }
+
+    @PostMapping("/api/search/text")
+    public ResponseEntity<ShortFormFeedResponse> searchShortFormsByText(
+            @RequestBody ShortFormTextSearchRequest request,
+            @RequestParam(required = false) Integer thumbnailWidth,
+            @RequestParam(required = false) String thumbnailFormat
+    ) {
+        return ResponseEntity.ok(shortFormService.searchByText(request.getQuery(), request.getPageParam(), request.getSize(),
+                request.getCurrentUserPid(), ThumbnailPreference.of(thumbnailWidth, thumbnailFormat)));
     }
 
     /**
@@ -179,6 +308,35 @@ public class ShortFormController {
         }
     }
 
+    /**
+     * 길이/해상도/코덱/비트레이트를 아직 읽지 않은 모든 비디오의 메타데이터 수집 (비동기)
+     * 관리자 기능
+     */
+    @PostMapping("/admin/probe-missing-metadata")
+    public ResponseEntity<Map<String, Object>> probeMissingMetadata() {
+        
+        try {
+            CompletableFuture<Integer> future = s3CrawlingService.probeMissingMetadata();
+            
+            Map<String, Object> response = Map.of(
+                    "success", true,
+                    "message", "비디오 메타데이터 수집 작업이 비동기로 시작되었습니다.",
+                    "status", "processing"
+            );
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = Map.of(
+                    "success", false,
+                    "message", "비디오 메타데이터 수집 작업 시작 중 오류가 발생했습니다: " + e.getMessage(),
+                    "error", e.getClass().getSimpleName()
+            );
+            
+            return ResponseEntity.internalServerError().body(errorResponse);
+        }
+    }
+
     /**
      * 특정 비디오의 썸네일 강제 재생성
      * 관리자 기능
@@ -210,6 +368,26 @@ public class ShortFormController {
         }
     }
 
+    /**
+     * 캐시 및 내부 처리 통계 조회
+     * 관리자 기능
+     */
+    @GetMapping("/admin/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("presignedUrlCache", presignedUrlCache.stats());
+        stats.put("summaryDocumentCache", summaryDocumentCache.stats());
+        stats.put("summaryIngestion", summaryIngestionService.stats());
+        stats.put("feedFirstPageCache", feedFirstPageCache.stats());
+        stats.put("tagIndex", tagIndex.stats());
+        stats.put("fullTextIndex", fullTextIndex.stats());
+        stats.put("thumbnailGeneration", awsS3Service.thumbnailStats());
+        stats.put("userProfileCache", userProfileCache.stats());
+        stats.put("followMembership", followMembershipService.stats());
+        stats.put("followCounts", followCountService.stats());
+        return ResponseEntity.ok(stats);
+    }
+
     /**
      * 테스트 데이터 생성
      */
@@ -0,0 +1,15 @@
+package com.xhackathon.server.domain.shortform.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ShortFormPresignBatchRequest {
+
+    private String method;     // GET(기본값) 또는 PUT
+    private List<String> keys; // S3 객체 키 목록
+    private String mimeType;   // PUT일 때 필수 (예: video/mp4)
+}
@@ -0,0 +1,11 @@
+package com.xhackathon.server.domain.shortform.dto.request;
+
+import lombok.Data;
+
+@Data
+public class ShortFormTagQueryRequest {
+    private String query; // 예: spring AND kafka NOT intern
+    private String pageParam;
+    private int size = 10;
+    private String currentUserPid;
+}
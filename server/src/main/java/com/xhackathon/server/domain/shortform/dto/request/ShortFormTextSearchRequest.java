@@ -0,0 +1,11 @@
+package com.xhackathon.server.domain.shortform.dto.request;
+
+import lombok.Data;
+
+@Data
+public class ShortFormTextSearchRequest {
+    private String query; // AI 요약/자막 검색어
+    private String pageParam;
+    private int size = 10;
+    private String currentUserPid;
+}
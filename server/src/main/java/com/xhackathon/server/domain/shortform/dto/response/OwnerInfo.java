@@ -14,4 +14,8 @@ public class OwnerInfo {
     public static OwnerInfo of(Long id, String displayName, String profileImageUrl, Boolean isFollowed) {
         return new OwnerInfo(id, displayName, profileImageUrl, isFollowed);
     }
-}
\ No newline at end of file
+
+    public OwnerInfo withFollowed(Boolean isFollowed) {
+        return new OwnerInfo(id, displayName, profileImageUrl, isFollowed);
+    }
+}
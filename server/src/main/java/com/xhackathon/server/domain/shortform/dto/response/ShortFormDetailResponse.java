@@ -23,6 +23,10 @@ public class ShortFormDetailResponse {
     private String thumbnailKey;
 
     private Integer durationSec;
+    private Integer videoWidth;
+    private Integer videoHeight;
+    private String videoCodec;
+    private Long videoBitrate;
     private List<String> tags;
     private ShortFormStatus status;
 
@@ -30,6 +34,7 @@ public class ShortFormDetailResponse {
     private String transcript;
     private String videoUrl;
     private String thumbnailUrl;
+    private String previewUrl;
 
     private VisibilityType visibility;
 
@@ -46,6 +51,10 @@ public class ShortFormDetailResponse {
         res.videoKey = sf.getVideoKey();
         res.thumbnailKey = sf.getThumbnailKey();
         res.durationSec = sf.getDurationSec();
+        res.videoWidth = sf.getVideoWidth();
+        res.videoHeight = sf.getVideoHeight();
+        res.videoCodec = sf.getVideoCodec();
+        res.videoBitrate = sf.getVideoBitrate();
         res.tags = sf.getTags();
         res.status = sf.getStatus();
         res.summary = summary;
@@ -56,7 +65,7 @@ public class ShortFormDetailResponse {
         return res;
     }
 
-    public static ShortFormDetailResponse of(ShortForm sf, String summary, String transcript, String videoUrl, String thumbnailUrl) {
+    public static ShortFormDetailResponse of(ShortForm sf, String summary, String transcript, String videoUrl, String thumbnailUrl, String previewUrl) {
         ShortFormDetailResponse res = new ShortFormDetailResponse();
         res.id = sf.getId();
         res.ownerPid = sf.getOwnerPid();
@@ -65,12 +74,17 @@ public class ShortFormDetailResponse {
         res.videoKey = sf.getVideoKey();
         res.thumbnailKey = sf.getThumbnailKey();
         res.durationSec = sf.getDurationSec();
+        res.videoWidth = sf.getVideoWidth();
+        res.videoHeight = sf.getVideoHeight();
+        res.videoCodec = sf.getVideoCodec();
+        res.videoBitrate = sf.getVideoBitrate();
         res.tags = sf.getTags();
         res.status = sf.getStatus();
         res.summary = summary;
         res.transcript = transcript;
         res.videoUrl = videoUrl;
         res.thumbnailUrl = thumbnailUrl;
+        res.previewUrl = previewUrl;
         res.visibility = sf.getVisibility();
 
         res.createdAt = sf.getCreatedAt();
@@ -0,0 +1,19 @@
+package com.xhackathon.server.domain.shortform.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스트리밍 피드의 마지막 이벤트 (페이지 정보)
+ */
+@Getter
+@AllArgsConstructor
+public class ShortFormFeedPageInfo {
+    private Integer count;
+    private String nextPageParam;
+    private Boolean hasNextPage;
+
+    public static ShortFormFeedPageInfo of(Integer count, String nextPageParam, Boolean hasNextPage) {
+        return new ShortFormFeedPageInfo(count, nextPageParam, hasNextPage);
+    }
+}
@@ -0,0 +1,14 @@
+package com.xhackathon.server.domain.shortform.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class ShortFormPresignBatchResponse {
+
+    private String method;
+    private Map<String, String> urls; // 객체 키 → presigned URL (서명 실패한 키는 제외)
+}
@@ -15,27 +15,40 @@ public class ShortFormReelsResponse {
     private OwnerInfo owner;
     private String videoUrl;
     private String thumbnailUrl;
+    private String previewUrl; // 움직이는 미리보기 (없으면 null)
     private String title;
     private String description;
     private Integer durationSec;
+    private Integer videoWidth;  // 피드 레이아웃용 원본 해상도 (아직 읽지 않았으면 null)
+    private Integer videoHeight;
+    private Long videoBitrate;   // 미리 받기 예산 계산용 bps
     private String summary;
     private List<String> tags;
     private OffsetDateTime createdAt;
     private ShortFormAiStatus aiStatus;
     
-    public static ShortFormReelsResponse of(ShortForm shortForm, OwnerInfo owner, String videoUrl, String thumbnailUrl, String summary, ShortFormAiStatus aiStatus) {
+    public static ShortFormReelsResponse of(ShortForm shortForm, OwnerInfo owner, String videoUrl, String thumbnailUrl, String previewUrl, String summary, ShortFormAiStatus aiStatus) {
         return new ShortFormReelsResponse(
                 shortForm.getId(),
                 owner,
                 videoUrl,
                 thumbnailUrl,
+                previewUrl,
                 shortForm.getTitle(),
                 shortForm.getDescription(),
                 shortForm.getDurationSec(),
+                shortForm.getVideoWidth(),
+                shortForm.getVideoHeight(),
+                shortForm.getVideoBitrate(),
                 summary,
                 shortForm.getTags(),
                 shortForm.getCreatedAt(),
                 aiStatus
         );
     }
-}
\ No newline at end of file
+
+    public ShortFormReelsResponse withOwner(OwnerInfo owner) {
+        return new ShortFormReelsResponse(id, owner, videoUrl, thumbnailUrl, previewUrl, title, description,
+                durationSec, videoWidth, videoHeight, videoBitrate, summary, tags, createdAt, aiStatus);
+    }
+}
@@ -0,0 +1,19 @@
+package com.xhackathon.server.domain.shortform.dto.response;
+
+import com.xhackathon.server.domain.shortform.search.TagSuggestion;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TagSuggestResponse {
+
+    private String prefix;
+    private List<TagSuggestion> suggestions; // 사용 숏폼 수 내림차순
+
+    public static TagSuggestResponse of(String prefix, List<TagSuggestion> suggestions) {
+        return new TagSuggestResponse(prefix, suggestions);
+    }
+}
@@ -1,16 +1,24 @@
 package com.xhackathon.server.domain.shortform.entity;
 
+import com.xhackathon.server.domain.shortform.media.ThumbnailPreference;
+import com.xhackathon.server.domain.shortform.media.ThumbnailVariant;
+import com.xhackathon.server.domain.shortform.media.VideoProbe;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Entity
 @Getter
-@Table(name = "short_forms")
+@EntityListeners(ShortFormChangeListener.class)
+@Table(name = "short_forms",
+        indexes = @Index(name = "idx_short_forms_created_at_id", columnList = "created_at DESC, id DESC"))
 public class ShortForm {
 
     @Id
@@ -32,9 +40,38 @@ public class ShortForm {
     @Column(name = "thumbnail_key")
     private String thumbnailKey;
 
+    // 썸네일 종류(ThumbnailVariant 이름) -> S3 키
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "thumbnail_variants", columnDefinition = "jsonb")
+    private Map<String, String> thumbnailVariants;
+
     @Column(name = "duration_sec")
     private Integer durationSec;
 
+    // 썸네일 디코딩 시 읽은 비디오 정보 (VideoProbe)
+    @Column(name = "video_width")
+    private Integer videoWidth;
+
+    @Column(name = "video_height")
+    private Integer videoHeight;
+
+    @Column(name = "video_codec")
+    private String videoCodec;
+
+    @Column(name = "video_bitrate")
+    private Long videoBitrate;
+
+    // MP4/MOV moov 박스 위치, moov가 mdat보다 앞에 있는지
+    @Column(name = "moov_offset")
+    private Long moovOffset;
+
+    @Column(name = "faststart")
+    private Boolean faststart;
+
+    // 메타데이터를 읽은 시각 (null이면 일괄 처리 대상)
+    @Column(name = "probed_at")
+    private OffsetDateTime probedAt;
+
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "tags", columnDefinition = "jsonb")
     private List<String> tags;
@@ -75,11 +112,62 @@ public class ShortForm {
         this.updatedAt = this.createdAt;
     }
 
-    public void updateThumbnail(String thumbnailKey) {
+    // 마지막으로 로드/저장된 태그 (변경 이벤트의 이전 태그)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private List<String> persistedTags = List.of();
+
+    void markTagsPersisted() {
+        this.persistedTags = tags != null ? new ArrayList<>(tags) : List.of();
+    }
+
+    List<String> persistedTags() {
+        return persistedTags;
+    }
+
+    public void updateThumbnail(String thumbnailKey, Map<String, String> thumbnailVariants) {
         this.thumbnailKey = thumbnailKey;
+        this.thumbnailVariants = thumbnailVariants;
         this.updatedAt = OffsetDateTime.now();
     }
 
+    /**
+     * 클라이언트에 맞는 썸네일 키 (종류별 썸네일이 없으면 기존 thumbnail_key)
+     */
+    public String thumbnailKeyFor(ThumbnailPreference preference) {
+        String key = ThumbnailVariant.selectStill(thumbnailVariants, preference);
+        return key != null ? key : thumbnailKey;
+    }
+
+    public String previewKeyFor(ThumbnailPreference preference) {
+        return ThumbnailVariant.selectPreview(thumbnailVariants, preference);
+    }
+
+    /**
+     * 비디오 메타데이터 저장 (읽지 못한 값은 기존 값 유지)
+     */
+    public void updateVideoMetadata(VideoProbe probe) {
+        if (probe.durationSec() != null) {
+            this.durationSec = probe.durationSec();
+        }
+        if (probe.width() != null && probe.height() != null) {
+            this.videoWidth = probe.width();
+            this.videoHeight = probe.height();
+        }
+        if (probe.videoCodec() != null) {
+            this.videoCodec = probe.videoCodec();
+        }
+        if (probe.bitrate() != null) {
+            this.videoBitrate = probe.bitrate();
+        }
+        if (probe.moovOffset() != null) {
+            this.moovOffset = probe.moovOffset();
+            this.faststart = probe.faststart();
+        }
+        this.probedAt = OffsetDateTime.now();
+        this.updatedAt = this.probedAt;
+    }
+
     public void updateStatus(ShortFormStatus status) {
         this.status = status;
         this.updatedAt = OffsetDateTime.now();
@@ -0,0 +1,49 @@
+package com.xhackathon.server.domain.shortform.entity;
+
+import com.xhackathon.server.domain.shortform.event.ShortFormChangedEvent;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ShortForm 엔티티 변경 감지
+ *
+ * 저장/수정 경로(서비스, 크롤러, AI 콜백)와 관계없이 INSERT/UPDATE가 실행되면 이벤트를 발행합니다.
+ * Spring이 생성하는 리스너이므로 생성자 주입을 사용할 수 있습니다.
+ */
+public class ShortFormChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ShortFormChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostLoad
+    public void onLoaded(ShortForm shortForm) {
+        shortForm.markTagsPersisted();
+    }
+
+    @PostPersist
+    public void onCreated(ShortForm shortForm) {
+        eventPublisher.publishEvent(toEvent(shortForm, true));
+        shortForm.markTagsPersisted();
+    }
+
+    @PostUpdate
+    public void onUpdated(ShortForm shortForm) {
+        eventPublisher.publishEvent(toEvent(shortForm, false));
+        shortForm.markTagsPersisted();
+    }
+
+    private ShortFormChangedEvent toEvent(ShortForm shortForm, boolean created) {
+        List<String> tags = shortForm.getTags() != null ? new ArrayList<>(shortForm.getTags()) : List.of();
+        List<String> previousTags = created ? List.of() : shortForm.persistedTags();
+        return new ShortFormChangedEvent(shortForm.getId(), shortForm.getOwnerPid(), created, tags, previousTags,
+                shortForm.getUpdatedAt());
+    }
+}
@@ -0,0 +1,7 @@
+package com.xhackathon.server.domain.shortform.event;
+
+/**
+ * AI 요약/자막 저장 이벤트 (트랜잭션 커밋 후 처리)
+ */
+public record ShortFormAiCompletedEvent(Long shortFormId, String summary, String transcript) {
+}
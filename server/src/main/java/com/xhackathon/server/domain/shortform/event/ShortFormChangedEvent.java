@@ -0,0 +1,19 @@
+package com.xhackathon.server.domain.shortform.event;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 숏폼 생성/변경 이벤트 (썸네일, 태그, 상태 등)
+ * ShortFormChangeListener가 발행하며, 구독자는 커밋 이후에 처리합니다.
+ *
+ * tags는 변경 시점의 태그 스냅샷, previousTags는 직전에 로드/저장된 태그이며(생성 시 빈 목록),
+ * updatedAt은 같은 숏폼의 이벤트 순서 비교에 사용합니다.
+ */
+public record ShortFormChangedEvent(Long shortFormId,
+                                    String ownerPid,
+                                    boolean created,
+                                    List<String> tags,
+                                    List<String> previousTags,
+                                    OffsetDateTime updatedAt) {
+}
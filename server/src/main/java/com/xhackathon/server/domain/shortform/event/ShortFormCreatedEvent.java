@@ -0,0 +1,9 @@
+package com.xhackathon.server.domain.shortform.event;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 숏폼 생성 이벤트 (트랜잭션 커밋 후 처리)
+ */
+public record ShortFormCreatedEvent(Long shortFormId, String ownerPid, OffsetDateTime createdAt) {
+}
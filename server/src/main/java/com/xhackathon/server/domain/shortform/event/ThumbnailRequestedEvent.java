@@ -0,0 +1,18 @@
+package com.xhackathon.server.domain.shortform.event;
+
+import com.xhackathon.server.domain.shortform.service.ThumbnailExecutionEngine;
+
+/**
+ * 썸네일 생성 요청 이벤트 (트랜잭션 커밋 후 ThumbnailRequestListener가 작업 엔진에 제출)
+ *
+ * @param waitForSpace 대기열이 가득 차면 자리가 날 때까지 기다릴지 (일괄 처리 스레드만 true)
+ */
+public record ThumbnailRequestedEvent(String videoKey, ThumbnailExecutionEngine.Lane lane, boolean waitForSpace) {
+
+    /**
+     * 요청 스레드에서 발행하는 요청 (대기열이 가득 차면 기다리지 않고 건너뜀)
+     */
+    public ThumbnailRequestedEvent(String videoKey, ThumbnailExecutionEngine.Lane lane) {
+        this(videoKey, lane, false);
+    }
+}
@@ -0,0 +1,9 @@
+package com.xhackathon.server.domain.shortform.event;
+
+import com.xhackathon.server.domain.shortform.media.VideoProbe;
+
+/**
+ * 비디오 메타데이터 읽기 완료 이벤트 (VideoMetadataListener가 ShortForm에 저장)
+ */
+public record VideoProbedEvent(String videoKey, VideoProbe probe) {
+}
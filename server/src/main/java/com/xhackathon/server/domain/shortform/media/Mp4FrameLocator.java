@@ -0,0 +1,361 @@
+package com.xhackathon.server.domain.shortform.media;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * MP4/MOV 박스 구조를 읽어 프레임 하나를 디코딩하는 데 필요한 바이트 범위만 가져옴
+ *
+ * 1. 앞부분(probe)을 읽고 최상위 박스 헤더만 따라가며 moov 위치를 찾습니다 (mdat 본문은 건너뜀).
+ *    moov가 파일 끝에 있어도 헤더 몇 개와 moov만 읽습니다.
+ * 2. moov에서 첫 비디오 트랙의 샘플 테이블(stts/stss/stsz/stsc/stco)로 목표 시각의 샘플 위치를 계산합니다.
+ * 3. 첫 샘플부터 목표 샘플(+이어서 디코딩할 구간, 디코더 지연 여유)까지의 연속 범위만 읽습니다.
+ *    범위가 너무 크면 이어지는 구간을 빼고, 그래도 크면 첫 키프레임 부근만 읽습니다.
+ *
+ * 결과는 원본과 같은 오프셋의 SparseVideo이며, 조각난(fragmented) MP4 등 지원하지 않는 구조는 IOException입니다.
+ */
+public final class Mp4FrameLocator {
+
+    private static final int MAX_TOP_LEVEL_BOXES = 64;
+    private static final int EXTRA_SAMPLES = 8; // B-프레임/디코더 지연 여유
+    private static final Set<String> TOP_LEVEL_TYPES = Set.of(
+            "ftyp", "moov", "mdat", "free", "skip", "wide", "pnot", "uuid", "meta", "pdin", "styp", "sidx");
+
+    private final int probeSize;
+    private final int maxMoovBytes;
+    private final int maxWindowBytes;
+
+    public Mp4FrameLocator(int probeSize, int maxMoovBytes, int maxWindowBytes) {
+        this.probeSize = probeSize;
+        this.maxMoovBytes = maxMoovBytes;
+        this.maxWindowBytes = maxWindowBytes;
+    }
+
+    public SparseVideo locate(RangeSource source, double targetSeconds) throws IOException {
+        return locate(source, targetSeconds, 0);
+    }
+
+    /**
+     * 앞부분과 moov만 읽음 (샘플은 읽지 않음, 메타데이터 조회용)
+     */
+    public SparseVideo readHeader(RangeSource source) throws IOException {
+        byte[] probe = source.read(0, probeSize);
+        SparseVideo video = new SparseVideo(source.size());
+        video.add(0, probe);
+        readMoov(source, video);
+        return video;
+    }
+
+    /**
+     * @param targetSeconds 추출할 시각 (영상 길이의 1/10을 넘지 않게 조정)
+     * @param spanSeconds 목표 시각 이후 이어서 디코딩할 길이 (미리보기용)
+     */
+    public SparseVideo locate(RangeSource source, double targetSeconds, double spanSeconds) throws IOException {
+        byte[] probe = source.read(0, probeSize);
+        SparseVideo video = new SparseVideo(source.size());
+        video.add(0, probe);
+
+        byte[] moov = readMoov(source, video);
+        try {
+            VideoTrack track = findVideoTrack(moov);
+            loadFrameWindow(source, video, track, targetSeconds, spanSeconds);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("MP4 샘플 테이블을 해석할 수 없음", e);
+        }
+        return video;
+    }
+
+    /**
+     * 최상위 박스 헤더를 따라가며 moov를 읽음 (읽은 헤더도 video에 채우고 moov 위치를 기록)
+     */
+    private byte[] readMoov(RangeSource source, SparseVideo video) throws IOException {
+        long size = video.size();
+        long offset = 0;
+        long moovOffset = -1;
+        long moovSize = 0;
+        long mdatOffset = -1;
+
+        for (int boxes = 0; offset + 8 <= size && (moovOffset < 0 || mdatOffset < 0); boxes++) {
+            if (boxes >= MAX_TOP_LEVEL_BOXES) {
+                throw new IOException("최상위 박스가 너무 많음");
+            }
+            byte[] header = bytesAt(source, video, offset, (int) Math.min(16, size - offset));
+            long boxSize = u32(header, 0);
+            String type = fourcc(header, 4);
+            int headerSize = 8;
+            if (boxSize == 1) {
+                if (header.length < 16) {
+                    throw new IOException("잘린 박스 헤더: " + type);
+                }
+                boxSize = u64(header, 8);
+                headerSize = 16;
+            } else if (boxSize == 0) {
+                boxSize = size - offset; // 파일 끝까지
+            }
+            if (boxes == 0 && !TOP_LEVEL_TYPES.contains(type)) {
+                throw new IOException("MP4/MOV 파일이 아님: " + type);
+            }
+            if (boxSize < headerSize) {
+                throw new IOException("잘못된 박스 크기: " + type + " " + boxSize);
+            }
+            if ("moof".equals(type)) {
+                throw new IOException("조각난(fragmented) MP4는 지원하지 않음");
+            }
+            if ("moov".equals(type)) {
+                moovOffset = offset;
+                moovSize = Math.min(boxSize, size - offset);
+            } else if ("mdat".equals(type) && mdatOffset < 0) {
+                mdatOffset = offset;
+            }
+            offset += boxSize;
+        }
+
+        if (moovOffset < 0) {
+            throw new IOException("moov 박스를 찾을 수 없음");
+        }
+        if (moovSize > maxMoovBytes) {
+            throw new IOException("moov 박스가 너무 큼: " + moovSize);
+        }
+        video.moov(moovOffset, mdatOffset < 0 ? null : moovOffset < mdatOffset);
+        return bytesAt(source, video, moovOffset, (int) moovSize);
+    }
+
+    private VideoTrack findVideoTrack(byte[] moov) throws IOException {
+        int moovEnd = moov.length;
+        for (int trak = findChild(moov, 8, moovEnd, "trak"); trak >= 0;
+             trak = findChild(moov, trak + (int) u32(moov, trak), moovEnd, "trak")) {
+            int trakEnd = trak + (int) u32(moov, trak);
+            int mdia = requireChild(moov, trak + 8, trakEnd, "mdia");
+            int mdiaEnd = mdia + (int) u32(moov, mdia);
+            int hdlr = requireChild(moov, mdia + 8, mdiaEnd, "hdlr");
+            if (!"vide".equals(fourcc(moov, hdlr + 8 + 8))) {
+                continue;
+            }
+
+            int mdhd = requireChild(moov, mdia + 8, mdiaEnd, "mdhd");
+            int minf = requireChild(moov, mdia + 8, mdiaEnd, "minf");
+            int stbl = requireChild(moov, minf + 8, minf + (int) u32(moov, minf), "stbl");
+            int stblEnd = stbl + (int) u32(moov, stbl);
+
+            int mdhdPayload = mdhd + 8;
+            long timescale;
+            long duration;
+            if (moov[mdhdPayload] == 1) {
+                timescale = u32(moov, mdhdPayload + 20);
+                duration = u64(moov, mdhdPayload + 24);
+            } else {
+                timescale = u32(moov, mdhdPayload + 12);
+                duration = u32(moov, mdhdPayload + 16);
+            }
+            if (timescale == 0) {
+                throw new IOException("비디오 트랙 timescale이 0");
+            }
+
+            int chunkOffsets = findChild(moov, stbl + 8, stblEnd, "stco");
+            boolean co64 = false;
+            if (chunkOffsets < 0) {
+                chunkOffsets = requireChild(moov, stbl + 8, stblEnd, "co64");
+                co64 = true;
+            }
+            return new VideoTrack(moov, timescale, duration,
+                    requireChild(moov, stbl + 8, stblEnd, "stts") + 8,
+                    findPayload(moov, stbl + 8, stblEnd, "stss"),
+                    requireChild(moov, stbl + 8, stblEnd, "stsz") + 8,
+                    requireChild(moov, stbl + 8, stblEnd, "stsc") + 8,
+                    chunkOffsets + 8, co64);
+        }
+        throw new IOException("비디오 트랙이 없음");
+    }
+
+    /**
+     * 첫 샘플부터 목표 샘플(+span)까지의 연속 범위를 읽어 video에 채우고 프레임 시각을 기록
+     */
+    private void loadFrameWindow(RangeSource source, SparseVideo video, VideoTrack track,
+                                 double targetSeconds, double spanSeconds) throws IOException {
+        long sampleCount = track.sampleCount();
+        if (sampleCount == 0) {
+            throw new IOException("비디오 샘플이 없음");
+        }
+
+        long targetTicks = (long) Math.min(targetSeconds * track.timescale, track.duration * 0.1);
+        long targetSample = track.sampleAtOrAfter(targetTicks);
+        long lastSample = track.sampleAtOrAfter(targetTicks + (long) (spanSeconds * track.timescale));
+        long firstSample = 1;
+        long[] window = track.byteRange(firstSample, Math.min(sampleCount, lastSample + EXTRA_SAMPLES));
+        if (lastSample > targetSample && window[1] - window[0] > maxWindowBytes) {
+            // 이어지는 구간까지는 너무 크면 목표 프레임까지만
+            lastSample = targetSample;
+            window = track.byteRange(firstSample, Math.min(sampleCount, lastSample + EXTRA_SAMPLES));
+        }
+        if (window[1] - window[0] > maxWindowBytes) {
+            // 목표 시각까지 너무 크면 첫 키프레임만
+            firstSample = track.firstSyncSample();
+            targetSample = firstSample;
+            lastSample = firstSample;
+            window = track.byteRange(firstSample, Math.min(sampleCount, lastSample + EXTRA_SAMPLES));
+            if (window[1] - window[0] > maxWindowBytes) {
+                throw new IOException("키프레임 범위가 너무 큼: " + (window[1] - window[0]));
+            }
+        }
+
+        long start = window[0];
+        long end = Math.min(window[1], video.size());
+        if (start >= end) {
+            throw new IOException("샘플 위치가 파일 밖에 있음");
+        }
+        if (!video.covers(start, end - start)) {
+            video.add(start, source.read(start, (int) (end - start)));
+        }
+        video.frameTimestampMicros(track.decodeTime(targetSample) * 1_000_000L / track.timescale);
+        video.lastFrameMicros(track.decodeTime(lastSample) * 1_000_000L / track.timescale);
+    }
+
+    private static byte[] bytesAt(RangeSource source, SparseVideo video, long offset, int length) throws IOException {
+        byte[] loaded = video.slice(offset, length);
+        if (loaded != null) {
+            return loaded;
+        }
+        byte[] read = source.read(offset, length);
+        if (read.length < length) {
+            throw new IOException("파일이 예상보다 짧음: " + offset);
+        }
+        video.add(offset, read);
+        return read;
+    }
+
+    // [start, end) 안에서 type인 직계 자식 박스의 시작 위치 (없으면 -1)
+    private static int findChild(byte[] buf, int start, int end, String type) {
+        int offset = start;
+        while (offset + 8 <= end) {
+            long size = u32(buf, offset);
+            if (size < 8 || offset + size > end) {
+                return -1;
+            }
+            if (type.equals(fourcc(buf, offset + 4))) {
+                return offset;
+            }
+            offset += (int) size;
+        }
+        return -1;
+    }
+
+    private static int requireChild(byte[] buf, int start, int end, String type) throws IOException {
+        int child = findChild(buf, start, end, type);
+        if (child < 0) {
+            throw new IOException(type + " 박스가 없음");
+        }
+        return child;
+    }
+
+    private static int findPayload(byte[] buf, int start, int end, String type) {
+        int child = findChild(buf, start, end, type);
+        return child < 0 ? -1 : child + 8;
+    }
+
+    static long u32(byte[] buf, int offset) {
+        return ((buf[offset] & 0xFFL) << 24) | ((buf[offset + 1] & 0xFFL) << 16)
+                | ((buf[offset + 2] & 0xFFL) << 8) | (buf[offset + 3] & 0xFFL);
+    }
+
+    static long u64(byte[] buf, int offset) {
+        return (u32(buf, offset) << 32) | u32(buf, offset + 4);
+    }
+
+    private static String fourcc(byte[] buf, int offset) {
+        return new String(buf, offset, 4, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 비디오 트랙 샘플 테이블 (각 위치는 박스 payload 시작, version/flags 포함)
+     */
+    private record VideoTrack(byte[] moov, long timescale, long duration,
+                              int stts, int stss, int stsz, int stsc, int chunkOffsets, boolean co64) {
+
+        long sampleCount() {
+            return u32(moov, stsz + 8);
+        }
+
+        long sampleSize(long sample) {
+            long fixed = u32(moov, stsz + 4);
+            return fixed != 0 ? fixed : u32(moov, stsz + 12 + (int) (sample - 1) * 4);
+        }
+
+        // 디코딩 시각이 ticks 이상인 첫 샘플 (없으면 마지막 샘플)
+        long sampleAtOrAfter(long ticks) {
+            long entries = u32(moov, stts + 4);
+            long sample = 1;
+            long time = 0;
+            for (int i = 0; i < entries; i++) {
+                long count = u32(moov, stts + 8 + i * 8);
+                long delta = u32(moov, stts + 12 + i * 8);
+                if (delta > 0 && time + count * delta > ticks) {
+                    long inEntry = Math.max(0, (ticks - time + delta - 1) / delta);
+                    return Math.min(sample + inEntry, sampleCount());
+                }
+                sample += count;
+                time += count * delta;
+            }
+            return sampleCount();
+        }
+
+        long decodeTime(long target) {
+            long entries = u32(moov, stts + 4);
+            long sample = 1;
+            long time = 0;
+            for (int i = 0; i < entries; i++) {
+                long count = u32(moov, stts + 8 + i * 8);
+                long delta = u32(moov, stts + 12 + i * 8);
+                if (target < sample + count) {
+                    return time + (target - sample) * delta;
+                }
+                sample += count;
+                time += count * delta;
+            }
+            return time;
+        }
+
+        long firstSyncSample() {
+            // stss가 없으면 모든 샘플이 키프레임
+            return stss < 0 || u32(moov, stss + 4) == 0 ? 1 : u32(moov, stss + 8);
+        }
+
+        long chunkOffset(long chunk) {
+            int index = (int) (chunk - 1);
+            return co64 ? u64(moov, chunkOffsets + 8 + index * 8) : u32(moov, chunkOffsets + 8 + index * 4);
+        }
+
+        /**
+         * 샘플 first..last가 차지하는 파일 범위 [시작, 끝)
+         */
+        long[] byteRange(long first, long last) {
+            long stscEntries = u32(moov, stsc + 4);
+            long chunkCount = u32(moov, chunkOffsets + 4);
+            long min = Long.MAX_VALUE;
+            long max = 0;
+            long sample = 1;
+
+            for (int i = 0; i < stscEntries && sample <= last; i++) {
+                long firstChunk = u32(moov, stsc + 8 + i * 12);
+                long samplesPerChunk = u32(moov, stsc + 12 + i * 12);
+                long nextFirstChunk = i + 1 < stscEntries ? u32(moov, stsc + 8 + (i + 1) * 12) : chunkCount + 1;
+
+                for (long chunk = firstChunk; chunk < nextFirstChunk && sample <= last; chunk++) {
+                    long offset = chunkOffset(chunk);
+                    for (long s = 0; s < samplesPerChunk && sample <= last; s++, sample++) {
+                        long size = sampleSize(sample);
+                        if (sample >= first) {
+                            min = Math.min(min, offset);
+                            max = Math.max(max, offset + size);
+                        }
+                        offset += size;
+                    }
+                }
+            }
+            if (min == Long.MAX_VALUE) {
+                throw new IndexOutOfBoundsException("샘플 " + first + "의 청크를 찾을 수 없음");
+            }
+            return new long[]{min, max};
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.xhackathon.server.domain.shortform.media;
+
+import java.io.IOException;
+
+/**
+ * 바이트 범위 단위로 읽을 수 있는 원본 (S3 Range GET 등)
+ */
+public interface RangeSource {
+
+    /**
+     * offset부터 최대 length 바이트 (파일 끝을 넘으면 짧게 반환)
+     */
+    byte[] read(long offset, int length) throws IOException;
+
+    /**
+     * 전체 크기 (첫 read 이후에 알 수 있음)
+     */
+    long size();
+}
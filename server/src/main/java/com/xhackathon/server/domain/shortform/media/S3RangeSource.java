@@ -0,0 +1,81 @@
+package com.xhackathon.server.domain.shortform.media;
+
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+
+/**
+ * S3 객체를 Range GET으로 읽는 RangeSource (요청 수와 받은 바이트를 기록)
+ */
+public class S3RangeSource implements RangeSource {
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String key;
+
+    private long size = -1;
+    private int requests;
+    private long fetchedBytes;
+
+    public S3RangeSource(S3Client s3Client, String bucket, String key) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.key = key;
+    }
+
+    @Override
+    public byte[] read(long offset, int length) throws IOException {
+        if (length <= 0) {
+            return new byte[0];
+        }
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build();
+        ResponseBytes<GetObjectResponse> response = s3Client.getObjectAsBytes(request);
+        byte[] bytes = response.asByteArrayUnsafe();
+        requests++;
+        fetchedBytes += bytes.length;
+
+        if (size < 0) {
+            size = totalSize(response.response(), offset, bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public long size() {
+        if (size < 0) {
+            throw new IllegalStateException("아직 읽지 않은 객체입니다: " + key);
+        }
+        return size;
+    }
+
+    public int requests() {
+        return requests;
+    }
+
+    public long fetchedBytes() {
+        return fetchedBytes;
+    }
+
+    // Content-Range: bytes 0-65535/1234567
+    private static long totalSize(GetObjectResponse response, long offset, int length) throws IOException {
+        String contentRange = response.contentRange();
+        if (contentRange == null) {
+            // Range를 무시하고 전체를 보낸 경우
+            return offset + length;
+        }
+        int slash = contentRange.lastIndexOf('/');
+        String total = slash >= 0 ? contentRange.substring(slash + 1).trim() : "";
+        try {
+            return Long.parseLong(total);
+        } catch (NumberFormatException e) {
+            throw new IOException("전체 크기를 알 수 없는 Content-Range: " + contentRange);
+        }
+    }
+}
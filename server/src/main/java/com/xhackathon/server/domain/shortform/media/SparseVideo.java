@@ -0,0 +1,212 @@
+package com.xhackathon.server.domain.shortform.media;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 일부 바이트 범위만 채운 비디오 파일 (읽지 않은 부분은 0)
+ *
+ * 원본과 같은 크기/오프셋을 유지하므로, 컨테이너 헤더와 디코딩할 샘플 범위만 채워 두면
+ * FFmpeg가 보통 파일처럼 seek하며 읽을 수 있습니다. 겹치거나 맞닿은 범위는 하나로 합칩니다.
+ */
+public final class SparseVideo {
+
+    private final NavigableMap<Long, byte[]> segments = new TreeMap<>();
+    private final long size;
+    private long frameTimestampMicros;
+    private long lastFrameMicros;
+    private Long moovOffset;
+    private Boolean faststart;
+
+    public SparseVideo(long size) {
+        this.size = size;
+    }
+
+    public void add(long offset, byte[] data) {
+        if (data.length == 0) {
+            return;
+        }
+        long start = offset;
+        long end = offset + data.length;
+
+        // 겹치거나 맞닿은 기존 범위를 모아 하나로 합침
+        Map.Entry<Long, byte[]> floor = segments.floorEntry(offset);
+        if (floor != null && floor.getKey() + floor.getValue().length >= offset) {
+            start = floor.getKey();
+        }
+        NavigableMap<Long, byte[]> overlapping = segments.subMap(start, true, end, true);
+        for (Map.Entry<Long, byte[]> entry : overlapping.entrySet()) {
+            end = Math.max(end, entry.getKey() + entry.getValue().length);
+        }
+
+        byte[] merged = new byte[Math.toIntExact(end - start)];
+        for (Iterator<Map.Entry<Long, byte[]>> it = overlapping.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, byte[]> entry = it.next();
+            System.arraycopy(entry.getValue(), 0, merged, (int) (entry.getKey() - start), entry.getValue().length);
+            it.remove();
+        }
+        System.arraycopy(data, 0, merged, (int) (offset - start), data.length);
+        segments.put(start, merged);
+    }
+
+    public boolean covers(long offset, long length) {
+        Map.Entry<Long, byte[]> floor = segments.floorEntry(offset);
+        return floor != null && floor.getKey() + floor.getValue().length >= offset + length;
+    }
+
+    /**
+     * 채워진 범위 안이면 복사본, 아니면 null
+     */
+    public byte[] slice(long offset, int length) {
+        if (!covers(offset, length)) {
+            return null;
+        }
+        Map.Entry<Long, byte[]> floor = segments.floorEntry(offset);
+        int from = (int) (offset - floor.getKey());
+        return Arrays.copyOfRange(floor.getValue(), from, from + length);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * 채워진 바이트 수
+     */
+    public long loadedBytes() {
+        return segments.values().stream().mapToLong(segment -> segment.length).sum();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * 추출할 프레임의 시각 (마이크로초)
+     */
+    public long frameTimestampMicros() {
+        return frameTimestampMicros;
+    }
+
+    void frameTimestampMicros(long frameTimestampMicros) {
+        this.frameTimestampMicros = frameTimestampMicros;
+    }
+
+    /**
+     * 온전히 디코딩할 수 있는 마지막 프레임의 시각 (마이크로초, 이후 샘플은 읽지 않았을 수 있음)
+     */
+    public long lastFrameMicros() {
+        return lastFrameMicros;
+    }
+
+    void lastFrameMicros(long lastFrameMicros) {
+        this.lastFrameMicros = lastFrameMicros;
+    }
+
+    /**
+     * moov 박스 위치
+     */
+    public Long moovOffset() {
+        return moovOffset;
+    }
+
+    /**
+     * moov가 mdat보다 앞에 있는지 (mdat을 찾지 못했으면 null)
+     */
+    public Boolean faststart() {
+        return faststart;
+    }
+
+    void moov(long moovOffset, Boolean faststart) {
+        this.moovOffset = moovOffset;
+        this.faststart = faststart;
+    }
+
+    /**
+     * 처음부터 읽는 스트림 (mark/reset과 skip은 위치만 옮김)
+     */
+    public InputStream newInputStream() {
+        return new SparseInputStream();
+    }
+
+    private final class SparseInputStream extends InputStream {
+
+        private long position;
+        private long mark;
+
+        @Override
+        public int read() {
+            if (position >= size) {
+                return -1;
+            }
+            Map.Entry<Long, byte[]> floor = segments.floorEntry(position);
+            int value = 0;
+            if (floor != null && position < floor.getKey() + floor.getValue().length) {
+                value = floor.getValue()[(int) (position - floor.getKey())] & 0xFF;
+            }
+            position++;
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= size) {
+                return -1;
+            }
+            int total = 0;
+            while (total < len && position < size) {
+                int want = (int) Math.min(len - total, size - position);
+                Map.Entry<Long, byte[]> floor = segments.floorEntry(position);
+                int copied;
+                if (floor != null && position < floor.getKey() + floor.getValue().length) {
+                    int from = (int) (position - floor.getKey());
+                    copied = Math.min(want, floor.getValue().length - from);
+                    System.arraycopy(floor.getValue(), from, buffer, off + total, copied);
+                } else {
+                    // 다음 채워진 범위 전까지 0
+                    Long next = segments.higherKey(position);
+                    long gap = (next != null ? next : size) - position;
+                    copied = (int) Math.min(want, gap);
+                    Arrays.fill(buffer, off + total, off + total + copied, (byte) 0);
+                }
+                total += copied;
+                position += copied;
+            }
+            return total;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, Math.min(n, size - position));
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, size - position);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            mark = position;
+        }
+
+        @Override
+        public synchronized void reset() {
+            position = mark;
+        }
+    }
+}
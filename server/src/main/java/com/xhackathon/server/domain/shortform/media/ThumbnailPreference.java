@@ -0,0 +1,42 @@
+package com.xhackathon.server.domain.shortform.media;
+
+import java.util.Locale;
+
+/**
+ * 클라이언트가 원하는 썸네일 (표시 폭 px, WebP 지원 여부)
+ *
+ * 기본값은 기존 응답과 같은 320px JPEG입니다.
+ */
+public record ThumbnailPreference(int width, boolean webp) {
+
+    public static final ThumbnailPreference DEFAULT = new ThumbnailPreference(320, false);
+
+    private static final int MAX_WIDTH = 4096;
+
+    /**
+     * @param width 표시 폭 (null이면 320)
+     * @param format "jpeg" 또는 "webp" (null이면 jpeg)
+     */
+    public static ThumbnailPreference of(Integer width, String format) {
+        if (width == null && format == null) {
+            return DEFAULT;
+        }
+        int resolvedWidth = width != null ? width : DEFAULT.width();
+        if (resolvedWidth < 1 || resolvedWidth > MAX_WIDTH) {
+            throw new IllegalArgumentException("thumbnailWidth는 1 이상 " + MAX_WIDTH + " 이하여야 합니다.");
+        }
+        boolean webp = false;
+        if (format != null) {
+            switch (format.toLowerCase(Locale.ROOT)) {
+                case "webp" -> webp = true;
+                case "jpeg", "jpg" -> webp = false;
+                default -> throw new IllegalArgumentException("지원하지 않는 thumbnailFormat: " + format);
+            }
+        }
+        return new ThumbnailPreference(resolvedWidth, webp);
+    }
+
+    public boolean isDefault() {
+        return equals(DEFAULT);
+    }
+}
@@ -0,0 +1,119 @@
+package com.xhackathon.server.domain.shortform.media;
+
+import java.util.Map;
+
+/**
+ * 한 번의 디코딩으로 만드는 썸네일 종류 (크기/형식별 정지 이미지와 움직이는 미리보기)
+ *
+ * S3 키는 비디오 키에서 확장자를 뗀 이름 뒤에 suffix를 붙입니다.
+ * JPEG_320은 기존 thumbnail_key(_thumbnail.jpg)와 같습니다.
+ */
+public enum ThumbnailVariant {
+
+    JPEG_320(320, 180, Format.JPEG, "_thumbnail.jpg"),
+    JPEG_640(640, 360, Format.JPEG, "_thumbnail_640.jpg"),
+    JPEG_1280(1280, 720, Format.JPEG, "_thumbnail_1280.jpg"),
+    WEBP_320(320, 180, Format.WEBP, "_thumbnail.webp"),
+    WEBP_640(640, 360, Format.WEBP, "_thumbnail_640.webp"),
+    WEBP_1280(1280, 720, Format.WEBP, "_thumbnail_1280.webp"),
+    PREVIEW_WEBP(320, 180, Format.ANIMATED_WEBP, "_preview.webp"),
+    PREVIEW_GIF(320, 180, Format.GIF, "_preview.gif");
+
+    public enum Format {
+        JPEG("image/jpeg"), WEBP("image/webp"), ANIMATED_WEBP("image/webp"), GIF("image/gif");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+    }
+
+    private final int width;
+    private final int height;
+    private final Format format;
+    private final String suffix;
+
+    ThumbnailVariant(int width, int height, Format format, String suffix) {
+        this.width = width;
+        this.height = height;
+        this.format = format;
+        this.suffix = suffix;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public Format format() {
+        return format;
+    }
+
+    public boolean isPreview() {
+        return format == Format.ANIMATED_WEBP || format == Format.GIF;
+    }
+
+    public String keyFor(String videoKey) {
+        int lastDotIndex = videoKey.lastIndexOf('.');
+        String baseName = lastDotIndex > 0 ? videoKey.substring(0, lastDotIndex) : videoKey;
+        return baseName + suffix;
+    }
+
+    /**
+     * 저장된 정지 이미지 중 요청에 맞는 키 (없으면 null)
+     *
+     * 선호 형식에서 요청 폭 이상인 가장 작은 것, 없으면 가장 큰 것을 고릅니다.
+     * 선호 형식이 없으면 JPEG에서 같은 방식으로 고릅니다.
+     */
+    public static String selectStill(Map<String, String> variants, ThumbnailPreference preference) {
+        if (variants == null || variants.isEmpty()) {
+            return null;
+        }
+        String key = selectStill(variants, preference.width(), preference.webp() ? Format.WEBP : Format.JPEG);
+        return key != null ? key : selectStill(variants, preference.width(), Format.JPEG);
+    }
+
+    private static String selectStill(Map<String, String> variants, int width, Format format) {
+        ThumbnailVariant fit = null;
+        ThumbnailVariant largest = null;
+        for (ThumbnailVariant variant : values()) {
+            if (variant.format != format || !variants.containsKey(variant.name())) {
+                continue;
+            }
+            if (variant.width >= width && (fit == null || variant.width < fit.width)) {
+                fit = variant;
+            }
+            if (largest == null || variant.width > largest.width) {
+                largest = variant;
+            }
+        }
+        ThumbnailVariant selected = fit != null ? fit : largest;
+        return selected != null ? variants.get(selected.name()) : null;
+    }
+
+    /**
+     * 저장된 미리보기 키 (없으면 null)
+     *
+     * WebP를 선호하면 애니메이션 WebP, 없으면 GIF를 고릅니다.
+     * 그 외에는 GIF만 고릅니다 (WebP를 못 쓰는 클라이언트에 WebP를 주지 않음).
+     */
+    public static String selectPreview(Map<String, String> variants, ThumbnailPreference preference) {
+        if (variants == null || variants.isEmpty()) {
+            return null;
+        }
+        String webp = variants.get(PREVIEW_WEBP.name());
+        String gif = variants.get(PREVIEW_GIF.name());
+        if (preference.webp() && webp != null) {
+            return webp;
+        }
+        return gif;
+    }
+}
@@ -0,0 +1,24 @@
+package com.xhackathon.server.domain.shortform.media;
+
+/**
+ * 썸네일 디코딩(또는 헤더만 연 FFmpeg)에서 읽은 영상 메타데이터
+ *
+ * @param durationMicros 길이 (알 수 없으면 null)
+ * @param videoCodec FFmpeg 코덱 이름 (h264, hevc 등)
+ * @param bitrate 전체 비트레이트 bps (알 수 없으면 null)
+ * @param moovOffset MP4/MOV의 moov 박스 위치 (MP4가 아니거나 알 수 없으면 null)
+ * @param faststart moov가 mdat보다 앞에 있는지 (알 수 없으면 null)
+ */
+public record VideoProbe(Long durationMicros, Integer width, Integer height, String videoCodec,
+                         Long bitrate, Long moovOffset, Boolean faststart) {
+
+    /**
+     * 초 단위 길이 (반올림, 1초 미만은 1초)
+     */
+    public Integer durationSec() {
+        if (durationMicros == null || durationMicros <= 0) {
+            return null;
+        }
+        return (int) Math.max(1, Math.round(durationMicros / 1_000_000.0));
+    }
+}
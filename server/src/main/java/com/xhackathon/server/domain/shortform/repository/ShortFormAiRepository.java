@@ -2,11 +2,20 @@ package com.xhackathon.server.domain.shortform.repository;
 
 
 import com.xhackathon.server.domain.shortform.entity.ShortFormAi;
+import com.xhackathon.server.domain.shortform.entity.ShortFormAiStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ShortFormAiRepository extends JpaRepository<ShortFormAi, Long> {
 
     Optional<ShortFormAi> findByShortFormId(Long shortFormId);
+
+    List<ShortFormAi> findByShortFormIdIn(Collection<Long> shortFormIds);
+
+    // 전문 검색 색인 구성용 id 순 배치 조회
+    List<ShortFormAi> findByStatusAndIdGreaterThanOrderByIdAsc(ShortFormAiStatus status, Long id, Pageable pageable);
 }
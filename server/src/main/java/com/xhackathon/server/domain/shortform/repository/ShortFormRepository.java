@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,22 +17,45 @@ public interface ShortFormRepository extends JpaRepository<ShortForm, Long> {
     
     Optional<ShortForm> findByVideoKey(String videoKey);
     
-    List<ShortForm> findAllByOrderByCreatedAtDesc(Pageable pageable);
-    
-    List<ShortForm> findByIdLessThanOrderByCreatedAtDesc(Long id, Pageable pageable);
-    
-    @Query(value = "SELECT * FROM short_form s WHERE " +
-           "(:tag IS NULL OR s.tags @> CAST('\"' || :tag || '\"' AS jsonb)) " +
-           "ORDER BY s.created_at DESC", 
+    // 피드: (created_at, id) 키셋 페이지네이션 - idx_short_forms_created_at_id 인덱스 사용
+    @Query(value = "SELECT * FROM short_forms s " +
+           "ORDER BY s.created_at DESC, s.id DESC",
            nativeQuery = true)
-    List<ShortForm> findByTagContaining(@Param("tag") String tag, Pageable pageable);
-    
-    @Query(value = "SELECT * FROM short_form s WHERE " +
-           "(:tag IS NULL OR s.tags @> CAST('\"' || :tag || '\"' AS jsonb)) AND " +
-           "s.id < :lastId " +
-           "ORDER BY s.created_at DESC",
+    List<ShortForm> findFeedFirstPage(Pageable pageable);
+
+    @Query(value = "SELECT * FROM short_forms s WHERE " +
+           "(s.created_at, s.id) < (:createdAt, :id) " +
+           "ORDER BY s.created_at DESC, s.id DESC",
+           nativeQuery = true)
+    List<ShortForm> findFeedPageBefore(@Param("createdAt") OffsetDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 태그 검색: id 키셋 순서 (태그 역색인과 같은 순서라 어느 쪽에서 만든 커서든 이어서 조회 가능)
+    @Query(value = "SELECT * FROM short_forms s WHERE " +
+           "(:tag IS NULL OR s.tags @> jsonb_build_array(CAST(:tag AS text))) " +
+           "ORDER BY s.id DESC",
            nativeQuery = true)
-    List<ShortForm> findByTagContainingAndIdLessThan(@Param("tag") String tag, @Param("lastId") Long lastId, Pageable pageable);
+    List<ShortForm> findByTagFirstPage(@Param("tag") String tag, Pageable pageable);
+
+    @Query(value = "SELECT * FROM short_forms s WHERE " +
+           "(:tag IS NULL OR s.tags @> jsonb_build_array(CAST(:tag AS text))) AND " +
+           "s.id < :id " +
+           "ORDER BY s.id DESC",
+           nativeQuery = true)
+    List<ShortForm> findByTagPageBefore(@Param("tag") String tag,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
     
-    List<ShortForm> findByThumbnailKeyIsNull();
+    // 썸네일이 없거나 종류별 썸네일/미리보기를 아직 만들지 않은 숏폼
+    List<ShortForm> findByThumbnailKeyIsNullOrThumbnailVariantsIsNull();
+
+    // 비디오 메타데이터(길이, 해상도 등)를 아직 읽지 않은 숏폼
+    List<ShortForm> findByProbedAtIsNull();
+
+    // 태그 역색인 구성용 id 순 배치 조회
+    List<ShortForm> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 팔로잉 타임라인: fan-out 대상이 아닌 계정의 최신 숏폼 (조회 시 병합)
+    List<ShortForm> findByOwnerPidInOrderByIdDesc(Collection<String> ownerPids, Pageable pageable);
+
+    List<ShortForm> findByOwnerPidInAndIdLessThanOrderByIdDesc(Collection<String> ownerPids, Long id, Pageable pageable);
 }
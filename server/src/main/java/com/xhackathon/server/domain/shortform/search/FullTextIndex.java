@@ -0,0 +1,255 @@
+package com.xhackathon.server.domain.shortform.search;
+
+import com.xhackathon.server.domain.shortform.entity.ShortFormAi;
+import com.xhackathon.server.domain.shortform.entity.ShortFormAiStatus;
+import com.xhackathon.server.domain.shortform.event.ShortFormAiCompletedEvent;
+import com.xhackathon.server.domain.shortform.repository.ShortFormAiRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * AI 요약/자막 전문 검색 색인 (BM25)
+ *
+ * - summary와 transcript를 TextTokenizer로 토큰화해 용어 → (숏폼 id → 가중 빈도) 역색인을 만듭니다.
+ *   summary의 용어 빈도는 SUMMARY_WEIGHT배로 반영합니다.
+ * - 애플리케이션 시작 후 DONE 상태의 AI 결과로 한 번 구성하고,
+ *   이후에는 AI 성공 콜백이 커밋되면 해당 숏폼만 다시 색인합니다.
+ * - 조회는 읽기 락, 색인은 쓰기 락으로 보호합니다.
+ * - 결과는 (점수 내림차순, id 내림차순)이며, 마지막 결과를 커서로 다음 페이지를 이어서 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextIndex {
+
+    private static final int BUILD_BATCH_SIZE = 200;
+    private static final int SUMMARY_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Comparator<Hit> RANKING = Comparator
+            .comparingDouble(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::shortFormId).reversed());
+
+    private final ShortFormAiRepository shortFormAiRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    private volatile boolean ready;
+    private final LongAdder queries = new LongAdder();
+    private volatile long buildMillis;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.currentTimeMillis();
+        try {
+            long lastId = 0L;
+            List<ShortFormAi> batch;
+            do {
+                batch = shortFormAiRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                        ShortFormAiStatus.DONE, lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+                for (ShortFormAi ai : batch) {
+                    // 구성 중 콜백으로 먼저 색인된 숏폼은 콜백 쪽 결과 유지
+                    index(ai.getShortFormId(), ai.getSummary(), ai.getTranscript(), false);
+                    lastId = ai.getId();
+                }
+            } while (batch.size() == BUILD_BATCH_SIZE);
+
+            ready = true;
+            buildMillis = System.currentTimeMillis() - start;
+            log.info("전문 검색 색인 구성 완료 - 숏폼: {}개, 용어: {}개, 소요: {}ms",
+                    documentLengths.size(), postings.size(), buildMillis);
+
+        } catch (Exception e) {
+            log.error("전문 검색 색인 구성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAiCompleted(ShortFormAiCompletedEvent event) {
+        index(event.shortFormId(), event.summary(), event.transcript(), true);
+        log.debug("전문 검색 색인 갱신 - shortFormId: {}", event.shortFormId());
+    }
+
+    /**
+     * 숏폼 하나의 요약/자막을 색인 (기존 색인이 있으면 교체)
+     */
+    public void index(Long shortFormId, String summary, String transcript) {
+        index(shortFormId, summary, transcript, true);
+    }
+
+    private void index(Long shortFormId, String summary, String transcript, boolean replace) {
+        // 토큰화는 락 밖에서
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String token : TextTokenizer.tokenize(summary)) {
+            frequencies.merge(token, SUMMARY_WEIGHT, Integer::sum);
+            length += SUMMARY_WEIGHT;
+        }
+        for (String token : TextTokenizer.tokenize(transcript)) {
+            frequencies.merge(token, 1, Integer::sum);
+            length++;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (documentLengths.containsKey(shortFormId)) {
+                if (!replace) {
+                    return;
+                }
+                removeLocked(shortFormId);
+            }
+            if (frequencies.isEmpty()) {
+                return;
+            }
+            frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, k -> new HashMap<>()).put(shortFormId, tf));
+            documentTerms.put(shortFormId, frequencies.keySet());
+            documentLengths.put(shortFormId, length);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long shortFormId) {
+        Set<String> terms = documentTerms.remove(shortFormId);
+        Integer length = documentLengths.remove(shortFormId);
+        if (length != null) {
+            totalLength -= length;
+        }
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(shortFormId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * BM25 상위 limit개 조회
+     *
+     * @param after 이전 페이지의 마지막 결과 (첫 페이지는 null)
+     */
+    public List<Hit> search(String query, Hit after, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        queries.increment();
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documentLengths.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : terms) {
+                Map<Long, Integer> docs = postings.get(term);
+                if (docs == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - docs.size() + 0.5) / (docs.size() + 0.5));
+                docs.forEach((shortFormId, tf) -> {
+                    double norm = K1 * (1 - B + B * documentLengths.get(shortFormId) / averageLength);
+                    scores.merge(shortFormId, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 최소 힙으로 상위 limit개만 유지
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        scores.forEach((shortFormId, score) -> {
+            Hit hit = new Hit(shortFormId, score);
+            if (after != null && RANKING.compare(hit, after) <= 0) {
+                return; // 이전 페이지에 포함된 결과
+            }
+            top.offer(hit);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+
+        List<Hit> result = new ArrayList<>(top);
+        result.sort(RANKING);
+        return result;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("ready", ready);
+            stats.put("shortForms", documentLengths.size());
+            stats.put("terms", postings.size());
+            stats.put("avgLength", documentLengths.isEmpty() ? 0.0 : (double) totalLength / documentLengths.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        stats.put("queries", queries.sum());
+        stats.put("buildMs", buildMillis);
+        return stats;
+    }
+
+    /**
+     * 검색 결과 (커서로도 사용)
+     */
+    public record Hit(Long shortFormId, double score) {
+
+        public String encode() {
+            String raw = Double.toString(score) + ":" + shortFormId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Hit decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf(':');
+                return new Hit(Long.parseLong(raw.substring(separator + 1)), Double.parseDouble(raw.substring(0, separator)));
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+    }
+}
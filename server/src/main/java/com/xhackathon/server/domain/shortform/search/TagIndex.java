@@ -0,0 +1,319 @@
+package com.xhackathon.server.domain.shortform.search;
+
+import com.xhackathon.server.domain.shortform.entity.ShortForm;
+import com.xhackathon.server.domain.shortform.event.ShortFormChangedEvent;
+import com.xhackathon.server.domain.shortform.repository.ShortFormRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 태그 역색인 (태그 → 숏폼 id 집합)
+ *
+ * - 태그별 id 집합을 RoaringBitmap으로 보관합니다. 게시된 비트맵은 수정하지 않고,
+ *   변경 시 복사본을 수정해 교체하므로 조회는 락 없이 수행됩니다.
+ * - 애플리케이션 시작 후 DB에서 한 번 구성하고, 이후에는 ShortFormChangedEvent(커밋 후)로
+ *   생성/태그 변경을 반영합니다. 구성 중 들어온 변경은 구성 결과보다 우선합니다.
+ * - 태그는 DB 검색과 같이 정확히 일치하는 값으로 찾습니다 (앞뒤 공백만 제거).
+ * - 결과는 id 내림차순입니다. 태그 검색은 DB 조회로 대체할 때도 같은 id 순서를 사용하므로
+ *   커서의 id만으로 이어서 조회합니다 (피드의 created_at 순서와는 다를 수 있음).
+ * - 구성 전이거나 id가 int 범위를 넘으면 사용할 수 없으며, 호출자는 DB 조회로 대체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagIndex {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final ShortFormRepository shortFormRepository;
+
+    private final ConcurrentHashMap<String, RoaringBitmap> postings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, IndexedTags> documents = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // 자동완성용 (태그 → 사용 숏폼 수), postings와 함께 writeLock 안에서 갱신
+    private final TagTrie tagTrie = new TagTrie();
+    // 색인된 전체 id (NOT 평가용, 교체 방식으로 갱신)
+    private volatile RoaringBitmap allIds = new RoaringBitmap();
+
+    // 구성 중 이벤트로 반영된 id (구성 결과로 덮어쓰지 않음)
+    private final RoaringBitmap touchedDuringBuild = new RoaringBitmap();
+    private volatile boolean building;
+    private volatile boolean ready;
+    private volatile boolean disabled;
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private volatile long buildMillis;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.currentTimeMillis();
+        writeLock.lock();
+        try {
+            building = true;
+            touchedDuringBuild.clear();
+        } finally {
+            writeLock.unlock();
+        }
+
+        try {
+            Map<String, RoaringBitmap> builtPostings = new HashMap<>();
+            Map<Integer, IndexedTags> builtDocuments = new HashMap<>();
+
+            long lastId = 0L;
+            List<ShortForm> batch;
+            do {
+                batch = shortFormRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+                for (ShortForm sf : batch) {
+                    if (sf.getId() > Integer.MAX_VALUE) {
+                        disable(sf.getId());
+                        building = false;
+                        return;
+                    }
+                    int docId = sf.getId().intValue();
+                    Set<String> tags = normalize(sf.getTags());
+                    for (String tag : tags) {
+                        builtPostings.computeIfAbsent(tag, k -> new RoaringBitmap()).add(docId);
+                    }
+                    builtDocuments.put(docId, new IndexedTags(tags, sf.getUpdatedAt()));
+                    lastId = sf.getId();
+                }
+            } while (batch.size() == BUILD_BATCH_SIZE);
+
+            writeLock.lock();
+            try {
+                // 구성 중 이벤트로 반영된 문서는 이벤트 쪽 상태를 유지
+                for (Map.Entry<String, RoaringBitmap> entry : builtPostings.entrySet()) {
+                    RoaringBitmap merged = RoaringBitmap.andNot(entry.getValue(), touchedDuringBuild);
+                    RoaringBitmap current = postings.get(entry.getKey());
+                    if (current != null) {
+                        merged.or(current);
+                    }
+                    merged.runOptimize();
+                    postings.put(entry.getKey(), merged);
+                    tagTrie.set(entry.getKey(), merged.getCardinality());
+                }
+                RoaringBitmap mergedAll = allIds.clone();
+                builtDocuments.forEach((docId, indexed) -> {
+                    if (!touchedDuringBuild.contains(docId)) {
+                        documents.put(docId, indexed);
+                        mergedAll.add(docId);
+                    }
+                });
+                mergedAll.runOptimize();
+                allIds = mergedAll;
+                touchedDuringBuild.clear();
+                building = false;
+                ready = !disabled;
+            } finally {
+                writeLock.unlock();
+            }
+
+            buildMillis = System.currentTimeMillis() - start;
+            log.info("태그 역색인 구성 완료 - 숏폼: {}개, 태그: {}개, 소요: {}ms", documents.size(), postings.size(), buildMillis);
+
+        } catch (Exception e) {
+            building = false;
+            log.error("태그 역색인 구성 실패 (DB 검색으로 대체): {}", e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onShortFormChanged(ShortFormChangedEvent event) {
+        if (disabled) {
+            return;
+        }
+        if (event.shortFormId() > Integer.MAX_VALUE) {
+            disable(event.shortFormId());
+            return;
+        }
+
+        int docId = event.shortFormId().intValue();
+        Set<String> newTags = normalize(event.tags());
+
+        writeLock.lock();
+        try {
+            IndexedTags previous = documents.get(docId);
+            if (previous != null && previous.updatedAt() != null && event.updatedAt() != null
+                    && event.updatedAt().isBefore(previous.updatedAt())) {
+                return; // 늦게 도착한 이전 변경
+            }
+            if (building) {
+                touchedDuringBuild.add(docId);
+            }
+
+            Set<String> oldTags = previous != null ? previous.tags() : Collections.emptySet();
+            for (String tag : oldTags) {
+                if (!newTags.contains(tag)) {
+                    replacePosting(tag, docId, false);
+                }
+            }
+            for (String tag : newTags) {
+                if (!oldTags.contains(tag)) {
+                    replacePosting(tag, docId, true);
+                }
+            }
+            documents.put(docId, new IndexedTags(newTags, event.updatedAt()));
+            if (previous == null) {
+                RoaringBitmap updatedAll = allIds.clone();
+                updatedAll.add(docId);
+                allIds = updatedAll;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 태그가 붙은 숏폼 id를 beforeId 미만에서 내림차순으로 최대 limit개 조회
+     *
+     * @return 색인을 사용할 수 없으면 Optional.empty() (DB 조회로 대체)
+     */
+    public Optional<List<Long>> findIds(String tag, Long beforeId, int limit) {
+        if (!ready || tag == null || tag.isBlank()) {
+            fallbacks.increment();
+            return Optional.empty();
+        }
+        queries.increment();
+
+        return Optional.of(page(postings.get(tag.trim()), beforeId, limit));
+    }
+
+    /**
+     * 불리언 검색식에 맞는 숏폼 id를 beforeId 미만에서 내림차순으로 최대 limit개 조회
+     *
+     * @return 색인을 사용할 수 없으면 Optional.empty()
+     */
+    public Optional<List<Long>> findIds(TagQuery query, Long beforeId, int limit) {
+        if (!ready) {
+            fallbacks.increment();
+            return Optional.empty();
+        }
+        queries.increment();
+
+        RoaringBitmap matched = query.evaluate(postings::get, allIds);
+        return Optional.of(page(matched, beforeId, limit));
+    }
+
+    private static List<Long> page(RoaringBitmap ids, Long beforeId, int limit) {
+        if (ids == null || ids.isEmpty() || (beforeId != null && beforeId <= 0)) {
+            return Collections.emptyList();
+        }
+
+        List<Long> result = new ArrayList<>(limit);
+        long next = beforeId == null
+                ? ids.last()
+                : ids.previousValue((int) Math.min(beforeId - 1, Integer.MAX_VALUE));
+        while (next >= 0 && result.size() < limit) {
+            result.add(next);
+            if (next == 0) {
+                break;
+            }
+            next = ids.previousValue((int) next - 1);
+        }
+        return result;
+    }
+
+    /**
+     * 태그가 붙은 숏폼 수 (색인 준비 전이면 0)
+     */
+    public int count(String tag) {
+        RoaringBitmap ids = tag == null ? null : postings.get(tag.trim());
+        return ids == null ? 0 : ids.getCardinality();
+    }
+
+    /**
+     * 접두어로 시작하는 태그를 사용 숏폼 수 내림차순으로 최대 limit개 조회 (대소문자 무시)
+     * limit은 1 이상 TagTrie.TOP_K 이하로 맞춥니다.
+     */
+    public List<TagSuggestion> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return Collections.emptyList();
+        }
+        return tagTrie.suggest(prefix.trim(), Math.max(1, Math.min(limit, TagTrie.TOP_K)));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        stats.put("disabled", disabled);
+        stats.put("tags", postings.size());
+        stats.put("shortForms", documents.size());
+        stats.put("queries", queries.sum());
+        stats.put("fallbacks", fallbacks.sum());
+        stats.put("buildMs", buildMillis);
+        return stats;
+    }
+
+    /**
+     * 게시된 비트맵은 수정하지 않고 복사본을 수정해 교체 (writeLock 안에서 호출)
+     */
+    private void replacePosting(String tag, int docId, boolean add) {
+        RoaringBitmap current = postings.get(tag);
+        if (current == null && !add) {
+            return;
+        }
+        RoaringBitmap updated = current == null ? new RoaringBitmap() : current.clone();
+        if (add) {
+            updated.add(docId);
+        } else {
+            updated.remove(docId);
+        }
+        if (updated.isEmpty()) {
+            postings.remove(tag);
+        } else {
+            postings.put(tag, updated);
+        }
+        tagTrie.set(tag, updated.getCardinality());
+    }
+
+    private void disable(Long id) {
+        disabled = true;
+        ready = false;
+        log.warn("숏폼 id가 int 범위를 넘어 태그 역색인을 비활성화합니다 (DB 검색 사용): {}", id);
+    }
+
+    private static Set<String> normalize(Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String tag : tags) {
+            if (tag != null && !tag.isBlank()) {
+                normalized.add(tag.trim());
+            }
+        }
+        return normalized;
+    }
+
+    private record IndexedTags(Set<String> tags, OffsetDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,301 @@
+package com.xhackathon.server.domain.shortform.search;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * 태그 불리언 검색식
+ *
+ * 문법 (우선순위 NOT > AND > OR, 대소문자 무관 연산자)
+ * <pre>
+ *   spring AND kafka NOT intern
+ *   (spring OR "spring boot") AND -intern
+ * </pre>
+ * - 연산자 없이 나열한 태그는 AND로 처리합니다.
+ * - 공백이 있는 태그는 큰따옴표로 감쌉니다. "-태그"는 NOT 태그와 같습니다.
+ * - 평가는 태그별 id 비트맵의 교집합/합집합/차집합으로 수행합니다.
+ */
+public final class TagQuery {
+
+    public static final int MAX_QUERY_LENGTH = 500;
+    public static final int MAX_TERMS = 32;
+
+    private final Node root;
+    private final int termCount;
+
+    private TagQuery(Node root, int termCount) {
+        this.root = root;
+        this.termCount = termCount;
+    }
+
+    public static TagQuery parse(String query) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색식이 비어 있습니다.");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색식은 " + MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+        Parser parser = new Parser(tokenize(query));
+        Node root = parser.parseOr();
+        if (parser.hasNext()) {
+            throw new IllegalArgumentException("검색식 문법 오류: '" + parser.peek().text() + "' 근처");
+        }
+        if (parser.terms > MAX_TERMS) {
+            throw new IllegalArgumentException("검색식의 태그는 " + MAX_TERMS + "개 이하여야 합니다.");
+        }
+        return new TagQuery(root, parser.terms);
+    }
+
+    /**
+     * 검색식 평가
+     *
+     * @param postings 태그 → id 비트맵 (없으면 null). 반환된 비트맵은 수정하지 않습니다.
+     * @param universe 전체 id (NOT 단독 평가에 사용)
+     */
+    public RoaringBitmap evaluate(Function<String, RoaringBitmap> postings, RoaringBitmap universe) {
+        return root.evaluate(postings, universe);
+    }
+
+    public int termCount() {
+        return termCount;
+    }
+
+    /**
+     * NOT으로 제외하지 않은 태그 (검색 통계용)
+     */
+    public List<String> positiveTags() {
+        List<String> tags = new ArrayList<>();
+        collectPositive(root, tags);
+        return tags;
+    }
+
+    private static void collectPositive(Node node, List<String> tags) {
+        if (node instanceof Term term) {
+            tags.add(term.tag());
+        } else if (node instanceof And and) {
+            and.children().forEach(child -> collectPositive(child, tags));
+        } else if (node instanceof Or or) {
+            or.children().forEach(child -> collectPositive(child, tags));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return root.toString();
+    }
+
+    // ===== AST =====
+
+    sealed interface Node permits Term, And, Or, Not {
+        RoaringBitmap evaluate(Function<String, RoaringBitmap> postings, RoaringBitmap universe);
+    }
+
+    record Term(String tag) implements Node {
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> postings, RoaringBitmap universe) {
+            RoaringBitmap ids = postings.apply(tag);
+            return ids == null ? new RoaringBitmap() : ids;
+        }
+
+        @Override
+        public String toString() {
+            return "\"" + tag + "\"";
+        }
+    }
+
+    record Not(Node child) implements Node {
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> postings, RoaringBitmap universe) {
+            return RoaringBitmap.andNot(universe, child.evaluate(postings, universe));
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + child;
+        }
+    }
+
+    record And(List<Node> children) implements Node {
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> postings, RoaringBitmap universe) {
+            // NOT 항목은 전체 집합을 만들지 않고 차집합으로 처리
+            List<RoaringBitmap> included = new ArrayList<>();
+            List<RoaringBitmap> excluded = new ArrayList<>();
+            for (Node child : children) {
+                if (child instanceof Not not) {
+                    excluded.add(not.child().evaluate(postings, universe));
+                } else {
+                    included.add(child.evaluate(postings, universe));
+                }
+            }
+
+            RoaringBitmap result;
+            if (included.isEmpty()) {
+                result = universe.clone();
+            } else {
+                // 작은 비트맵부터 교집합
+                included.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+                result = included.get(0).clone();
+                for (int i = 1; i < included.size() && !result.isEmpty(); i++) {
+                    result.and(included.get(i));
+                }
+            }
+            for (int i = 0; i < excluded.size() && !result.isEmpty(); i++) {
+                result.andNot(excluded.get(i));
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + String.join(" AND ", children.stream().map(Node::toString).toList()) + ")";
+        }
+    }
+
+    record Or(List<Node> children) implements Node {
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> postings, RoaringBitmap universe) {
+            RoaringBitmap[] bitmaps = children.stream()
+                    .map(child -> child.evaluate(postings, universe))
+                    .toArray(RoaringBitmap[]::new);
+            return FastAggregation.or(bitmaps);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + String.join(" OR ", children.stream().map(Node::toString).toList()) + ")";
+        }
+    }
+
+    // ===== 파서 =====
+
+    private enum TokenType { TAG, AND, OR, NOT, LPAREN, RPAREN }
+
+    private record Token(TokenType type, String text) {
+    }
+
+    private static List<Token> tokenize(String query) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        int length = query.length();
+        while (i < length) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(') {
+                tokens.add(new Token(TokenType.LPAREN, "("));
+                i++;
+            } else if (c == ')') {
+                tokens.add(new Token(TokenType.RPAREN, ")"));
+                i++;
+            } else if (c == '-') {
+                tokens.add(new Token(TokenType.NOT, "-"));
+                i++;
+            } else if (c == '"') {
+                int end = query.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("검색식 문법 오류: 닫히지 않은 따옴표");
+                }
+                String tag = query.substring(i + 1, end).trim();
+                if (tag.isEmpty()) {
+                    throw new IllegalArgumentException("검색식 문법 오류: 빈 태그");
+                }
+                tokens.add(new Token(TokenType.TAG, tag));
+                i = end + 1;
+            } else {
+                int start = i;
+                while (i < length && !Character.isWhitespace(query.charAt(i))
+                        && "()\"".indexOf(query.charAt(i)) < 0) {
+                    i++;
+                }
+                String word = query.substring(start, i);
+                tokens.add(switch (word.toUpperCase(Locale.ROOT)) {
+                    case "AND", "&&" -> new Token(TokenType.AND, word);
+                    case "OR", "||" -> new Token(TokenType.OR, word);
+                    case "NOT" -> new Token(TokenType.NOT, word);
+                    default -> new Token(TokenType.TAG, word);
+                });
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Parser {
+
+        private final List<Token> tokens;
+        private int position;
+        private int terms;
+
+        Parser(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        Token peek() {
+            return tokens.get(position);
+        }
+
+        // or := and (OR and)*
+        Node parseOr() {
+            List<Node> children = new ArrayList<>();
+            children.add(parseAnd());
+            while (hasNext() && peek().type() == TokenType.OR) {
+                position++;
+                children.add(parseAnd());
+            }
+            return children.size() == 1 ? children.get(0) : new Or(List.copyOf(children));
+        }
+
+        // and := unary ((AND)? unary)*   - 연산자 없는 나열은 AND
+        Node parseAnd() {
+            List<Node> children = new ArrayList<>();
+            children.add(parseUnary());
+            while (hasNext()) {
+                TokenType type = peek().type();
+                if (type == TokenType.AND) {
+                    position++;
+                } else if (type != TokenType.TAG && type != TokenType.NOT && type != TokenType.LPAREN) {
+                    break;
+                }
+                children.add(parseUnary());
+            }
+            return children.size() == 1 ? children.get(0) : new And(List.copyOf(children));
+        }
+
+        // unary := NOT unary | '(' or ')' | TAG
+        Node parseUnary() {
+            if (!hasNext()) {
+                throw new IllegalArgumentException("검색식 문법 오류: 식이 끝났습니다.");
+            }
+            Token token = tokens.get(position++);
+            switch (token.type()) {
+                case NOT -> {
+                    Node child = parseUnary();
+                    return child instanceof Not not ? not.child() : new Not(child);
+                }
+                case LPAREN -> {
+                    Node inner = parseOr();
+                    if (!hasNext() || peek().type() != TokenType.RPAREN) {
+                        throw new IllegalArgumentException("검색식 문법 오류: 닫히지 않은 괄호");
+                    }
+                    position++;
+                    return inner;
+                }
+                case TAG -> {
+                    terms++;
+                    return new Term(token.text());
+                }
+                default -> throw new IllegalArgumentException("검색식 문법 오류: '" + token.text() + "' 근처");
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.xhackathon.server.domain.shortform.search;
+
+/**
+ * 자동완성 태그와 사용 숏폼 수
+ */
+public record TagSuggestion(String tag, int count) {
+}
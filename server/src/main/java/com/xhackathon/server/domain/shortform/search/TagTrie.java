@@ -0,0 +1,97 @@
+package com.xhackathon.server.domain.shortform.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 자동완성용 트라이
+ *
+ * - 소문자화한 태그 문자로 경로를 만들고, 끝 노드에 태그별 사용 수를 둡니다.
+ * - 각 노드는 하위 트리의 인기 태그 상위 TOP_K개를 미리 계산해 두므로,
+ *   조회는 접두어 길이만큼 내려간 뒤 목록을 그대로 반환합니다.
+ * - 사용 수가 바뀌면 해당 경로의 노드만 아래에서 위로 다시 계산합니다.
+ * - 갱신은 호출자가 직렬화해야 합니다. 조회는 락 없이 수행됩니다 (노드 목록은 불변 리스트로 교체).
+ */
+final class TagTrie {
+
+    static final int TOP_K = 10;
+
+    private static final Comparator<TagSuggestion> POPULARITY = Comparator
+            .comparingInt(TagSuggestion::count).reversed()
+            .thenComparing(TagSuggestion::tag);
+
+    private final Node root = new Node();
+
+    /**
+     * 태그 사용 수 설정 (0이면 제거)
+     */
+    void set(String tag, int count) {
+        String key = tag.toLowerCase(Locale.ROOT);
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            node = count > 0 ? node.children.computeIfAbsent(c, k -> new Node()) : node.children.get(c);
+            if (node == null) {
+                return; // 없는 태그 제거
+            }
+            path.add(node);
+        }
+
+        if (count > 0) {
+            node.tags.put(tag, count);
+        } else {
+            node.tags.remove(tag);
+        }
+
+        // 아래에서 위로 상위 목록 재계산, 빈 노드는 정리
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node current = path.get(i);
+            current.recomputeTop();
+            if (i > 0 && current.tags.isEmpty() && current.children.isEmpty()) {
+                path.get(i - 1).children.remove(key.charAt(i - 1), current);
+            }
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 인기 태그 (사용 수 내림차순)
+     */
+    List<TagSuggestion> suggest(String prefix, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        String key = prefix.toLowerCase(Locale.ROOT);
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        List<TagSuggestion> top = node.top;
+        return top.size() <= limit ? top : top.subList(0, limit);
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new ConcurrentHashMap<>();
+        private final Map<String, Integer> tags = new ConcurrentHashMap<>(1); // 대소문자만 다른 태그
+        private volatile List<TagSuggestion> top = List.of();
+
+        void recomputeTop() {
+            List<TagSuggestion> candidates = new ArrayList<>();
+            tags.forEach((tag, count) -> candidates.add(new TagSuggestion(tag, count)));
+            for (Node child : children.values()) {
+                candidates.addAll(child.top);
+            }
+            candidates.sort(POPULARITY);
+            top = List.copyOf(candidates.size() > TOP_K ? candidates.subList(0, TOP_K) : candidates);
+        }
+    }
+}
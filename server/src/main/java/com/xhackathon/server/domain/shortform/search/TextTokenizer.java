@@ -0,0 +1,74 @@
+package com.xhackathon.server.domain.shortform.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 전문 검색용 토크나이저
+ *
+ * - 한글/한자/가나 구간은 형태소 분석 없이 2글자 n-gram으로 자릅니다 ("카프카" → "카프", "프카").
+ *   한 글자 구간은 그대로 사용합니다.
+ * - 영문/숫자 구간은 단어 단위로 소문자화합니다 (영문 한 글자 단어는 제외).
+ * - 색인과 질의에 같은 규칙을 적용하므로 조사가 붙은 형태도 겹치는 n-gram으로 찾을 수 있습니다.
+ */
+public final class TextTokenizer {
+
+    // 필드당 토큰 상한 (긴 transcript 방어)
+    public static final int MAX_TOKENS = 20_000;
+
+    private TextTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+
+        int i = 0;
+        while (i < codePoints.length && tokens.size() < MAX_TOKENS) {
+            int cp = codePoints[i];
+            if (isCjk(cp)) {
+                int start = i;
+                while (i < codePoints.length && isCjk(codePoints[i])) {
+                    i++;
+                }
+                addNgrams(codePoints, start, i, tokens);
+            } else if (Character.isLetterOrDigit(cp)) {
+                int start = i;
+                while (i < codePoints.length && Character.isLetterOrDigit(codePoints[i]) && !isCjk(codePoints[i])) {
+                    i++;
+                }
+                if (i - start > 1 || Character.isDigit(cp)) {
+                    tokens.add(new String(codePoints, start, i - start));
+                }
+            } else {
+                i++;
+            }
+        }
+        return tokens.size() > MAX_TOKENS ? tokens.subList(0, MAX_TOKENS) : tokens;
+    }
+
+    private static void addNgrams(int[] codePoints, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(new String(codePoints, start, 1));
+            return;
+        }
+        for (int j = start; j + 1 < end && tokens.size() < MAX_TOKENS; j++) {
+            tokens.add(new String(codePoints, j, 2));
+        }
+    }
+
+    private static boolean isCjk(int cp) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
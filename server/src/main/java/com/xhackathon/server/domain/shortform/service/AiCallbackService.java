@@ -29,6 +29,7 @@ public class AiCallbackService {
     private final ShortFormRepository shortFormRepository;
     private final ShortFormAiRepository shortFormAiRepository;
     private final ObjectMapper objectMapper;
+    private final SummaryIngestionService summaryIngestionService;
 
     /**
      * AI Pod에서 전송된 콜백을 처리
@@ -102,13 +103,8 @@ public class AiCallbackService {
             // extraJson 생성 (request와 result 모두 포함)
             String extraJson = createExtraJson(request, result);
             
-            // ShortFormAi 업데이트
-            aiRecord.updateSuccess(
-                    transcript != null ? transcript : "",
-                    summary != null ? summary : "",
-                    extraJson
-            );
-            shortFormAiRepository.save(aiRecord);
+            // ShortFormAi 저장 (이후 상세 조회는 이 행을 읽음)
+            summaryIngestionService.ingest(shortForm, aiRecord, transcript, summary, extraJson);
             
             // extraJson에서 태그 추출하여 ShortForm에 업데이트
             List<String> tags = extractTagsFromExtraJson(extraJson, request, result);
@@ -2,6 +2,7 @@ package com.xhackathon.server.domain.shortform.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -13,42 +14,64 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import com.xhackathon.server.domain.shortform.event.VideoProbedEvent;
+import com.xhackathon.server.domain.shortform.media.ThumbnailVariant;
+import com.xhackathon.server.domain.shortform.media.VideoProbe;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 public class AwsS3Service {
     
-    // 썸네일 생성을 위한 락 맵 (videoKey별 락)
-    private final ConcurrentHashMap<String, ReentrantLock> thumbnailLocks = new ConcurrentHashMap<>();
-    // Summary 파일 접근을 위한 락 맵 (videoKey별 락)
-    private final ConcurrentHashMap<String, ReentrantLock> summaryLocks = new ConcurrentHashMap<>();
+    // 다운로드용 Pre-signed URL 유효시간
+    private static final Duration GET_URL_VALIDITY = Duration.ofHours(1);
+    // 업로드용 Pre-signed URL 유효시간
+    private static final Duration PUT_URL_VALIDITY = Duration.ofMinutes(10);
 
     private final S3Presigner presigner;
     private final S3Client s3Client;
     private final ThumbnailGeneratorService thumbnailGeneratorService;
     private final ObjectMapper objectMapper;
+    private final PresignedUrlCache presignedUrlCache;
+    private final S3BatchPresigner batchPresigner;
+    private final SummaryDocumentCache summaryDocumentCache;
+    private final ThumbnailExecutionEngine thumbnailExecutionEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
-    public AwsS3Service(S3Presigner presigner, S3Client s3Client, ThumbnailGeneratorService thumbnailGeneratorService, ObjectMapper objectMapper) {
+    public AwsS3Service(S3Presigner presigner, S3Client s3Client, ThumbnailGeneratorService thumbnailGeneratorService, ObjectMapper objectMapper, PresignedUrlCache presignedUrlCache, S3BatchPresigner batchPresigner, SummaryDocumentCache summaryDocumentCache, ThumbnailExecutionEngine thumbnailExecutionEngine, ApplicationEventPublisher eventPublisher) {
         this.presigner = presigner;
         this.s3Client = s3Client;
         this.thumbnailGeneratorService = thumbnailGeneratorService;
         this.objectMapper = objectMapper;
+        this.presignedUrlCache = presignedUrlCache;
+        this.batchPresigner = batchPresigner;
+        this.summaryDocumentCache = summaryDocumentCache;
+        this.thumbnailExecutionEngine = thumbnailExecutionEngine;
+        this.eventPublisher = eventPublisher;
         
         log.info("✅ AwsS3Service 초기화 완료 - S3Client와 S3Presigner Bean 주입됨");
     }
@@ -83,14 +106,14 @@ public class AwsS3Service {
     }
 
     public String getSummary(Long shortFormId, String videoKey) {
-        String summaryJson = getSummaryRaw(videoKey);
-        if (summaryJson == null) {
+        SummaryDocument document = getSummaryDocumentOrMissing(videoKey);
+        if (!document.exists()) {
             String originalName = videoKey.split("_", 2)[1];
             String baseName = originalName.replace(".mp4", "");
             String key = "summary/summary_" + baseName + ".json";
             throw new RuntimeException("[S3] Summary 파일 읽기 실패: " + key);
         }
-        return summaryJson;
+        return document.raw();
     }
     
     /**
@@ -100,25 +123,11 @@ public class AwsS3Service {
      * @return transcript 문자열 (없으면 빈 문자열 반환)
      */
     public String getTranscriptFromSummary(String videoKey) {
-        try {
-            String summaryJson = getSummaryRaw(videoKey);
-            if (summaryJson == null || summaryJson.trim().isEmpty()) {
-                log.info("Summary 파일이 비어있음: {}", videoKey);
-                return "";
-            }
-
-            JsonNode jsonNode = objectMapper.readTree(summaryJson);
-            
-            if (jsonNode.has("transcript")) {
-                return jsonNode.get("transcript").asText();
-            }
-            
-            return "";
-
-        } catch (Exception e) {
-            log.error("Summary에서 transcript 추출 실패 - videoKey: {}, error: {}", videoKey, e.getMessage());
-            return "";
+        SummaryDocument document = getSummaryDocumentOrMissing(videoKey);
+        if (!document.exists()) {
+            log.info("Summary 파일이 비어있음: {}", videoKey);
         }
+        return document.transcript();
     }
     
     /**
@@ -128,24 +137,32 @@ public class AwsS3Service {
      * @return summary 문자열 (없으면 빈 문자열 반환)
      */
     public String getSummaryFromSummary(String videoKey) {
-        try {
-            String summaryJson = getSummaryRaw(videoKey);
-            if (summaryJson == null || summaryJson.trim().isEmpty()) {
-                log.info("Summary 파일이 비어있음: {}", videoKey);
-                return "";
-            }
+        SummaryDocument document = getSummaryDocumentOrMissing(videoKey);
+        if (!document.exists()) {
+            log.info("Summary 파일이 비어있음: {}", videoKey);
+        }
+        return document.summary();
+    }
 
-            JsonNode jsonNode = objectMapper.readTree(summaryJson);
-            
-            if (jsonNode.has("summary")) {
-                return jsonNode.get("summary").asText();
-            }
-            
-            return "";
+    /**
+     * 파싱된 Summary 문서 조회 (캐시 우선, 없으면 S3에서 한 번만 읽어 캐시)
+     * 
+     * @param videoKey 비디오 키
+     * @return 파일이 없으면 SummaryDocument.MISSING
+     */
+    public SummaryDocument getSummaryDocument(String videoKey) {
+        return summaryDocumentCache.get(videoKey, this::readSummaryDocument);
+    }
 
+    /**
+     * S3 오류는 캐시하지 않고 빈 문서로 대체
+     */
+    private SummaryDocument getSummaryDocumentOrMissing(String videoKey) {
+        try {
+            return getSummaryDocument(videoKey);
         } catch (Exception e) {
-            log.error("Summary에서 summary 추출 실패 - videoKey: {}, error: {}", videoKey, e.getMessage());
-            return "";
+            log.error("Summary 문서 조회 실패 - videoKey: {}, error: {}", videoKey, e.getMessage());
+            return SummaryDocument.MISSING;
         }
     }
 
@@ -159,6 +176,8 @@ public class AwsS3Service {
      * 생성되는 URL 형식:
      * https://{bucket}.s3.{region}.amazonaws.com/{key}?X-Amz-Algorithm=...&X-Amz-Signature=...
      * 
+     * 같은 키에 대해서는 PresignedUrlCache에 캐시된 URL을 유효시간이 충분히 남아있는 동안 재사용합니다.
+     * 
      * @param videoKey S3 비디오 키 (예: "videos/user123/uuid_video.mp4")
      * @return Pre-signed URL 문자열 (1시간 유효), 실패 시 null
      */
@@ -169,33 +188,8 @@ public class AwsS3Service {
         }
         
         try {
-            log.info("=== 비디오 Pre-signed URL 생성 시작 ===");
-            log.info("입력 파라미터 - 버킷: {}, 키: {}", bucket, videoKey);
-            
-            // 1. GetObjectRequest 생성 (S3 객체 요청 정보)
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(videoKey)
-                    .build();
-            log.info("GetObjectRequest 생성 완료: bucket={}, key={}", bucket, videoKey);
-
-            // 2. Pre-signed URL 요청 생성 (유효 시간 설정)
-            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofHours(1))  // 1시간 유효
-                    .getObjectRequest(getObjectRequest)
-                    .build();
-            log.info("GetObjectPresignRequest 생성 완료: 유효시간=1시간");
-
-            // 3. Pre-signed URL 생성 및 반환
-            log.info("presigner.presignGetObject() 호출 시작...");
-            URL presignedUrl = presigner.presignGetObject(presignRequest).url();
-            String urlString = presignedUrl.toString();
-            
-            log.info("비디오 Pre-signed URL 생성 성공!");
-            log.info("생성된 URL (처음 150자): {}", urlString.substring(0, Math.min(150, urlString.length())));
-            log.info("URL 전체 길이: {} bytes", urlString.length());
-            log.info("=== 비디오 Pre-signed URL 생성 완료 ===");
-            return urlString;
+            // 캐시에 충분히 유효한 URL이 있으면 재사용, 없으면 새로 서명
+            return presignedUrlCache.get(videoKey, this::presignGetObject);
             
         } catch (S3Exception e) {
             log.error("비디오 Pre-signed URL 생성 실패 (S3 에러): 버킷={}, 키={}, 에러코드={}, 메시지={}", 
@@ -210,29 +204,72 @@ public class AwsS3Service {
 
     public String generateThumbnailKey(String videoKey) {
         // 비디오 키에서 썸네일 키 생성 (확장자만 변경)
-        int lastDotIndex = videoKey.lastIndexOf('.');
-        String baseName;
-        if (lastDotIndex > 0) {
-            baseName = videoKey.substring(0, lastDotIndex);
-        } else {
-            baseName = videoKey;
+        return ThumbnailVariant.JPEG_320.keyFor(videoKey);
+    }
+
+    /**
+     * 이 서버가 만드는 썸네일 종류별 S3 키 (미리보기가 마지막)
+     */
+    public Map<ThumbnailVariant, String> thumbnailVariantKeys(String videoKey) {
+        Map<ThumbnailVariant, String> keys = new EnumMap<>(ThumbnailVariant.class);
+        for (ThumbnailVariant variant : thumbnailGeneratorService.supportedVariants()) {
+            keys.put(variant, variant.keyFor(videoKey));
         }
-        return baseName + "_thumbnail.jpg";
+        return keys;
     }
 
-    public boolean generateThumbnail(String videoKey) {
-        // videoKey별 락 획득
-        ReentrantLock lock = thumbnailLocks.computeIfAbsent(videoKey, k -> new ReentrantLock());
-        
-        lock.lock();
+    /**
+     * 썸네일 생성 요청 (ThumbnailExecutionEngine의 해당 대기열에서 실행, 같은 videoKey는 한 번만 실행)
+     *
+     * 최종 실패는 false로, 대기열이 가득 차면 RejectedExecutionException으로 완료됩니다.
+     *
+     * @param waitForSpace 일괄 생성 대기열이 가득 차면 자리가 날 때까지 기다릴지 (요청 스레드에서는 false)
+     */
+    public CompletableFuture<Boolean> generateThumbnail(String videoKey, ThumbnailExecutionEngine.Lane lane,
+                                                       boolean waitForSpace) {
+        Supplier<Boolean> attempt = () -> createThumbnail(videoKey);
+        return waitForSpace
+                ? thumbnailExecutionEngine.submit(videoKey, lane, attempt)
+                : thumbnailExecutionEngine.trySubmit(videoKey, lane, attempt);
+    }
+
+    /**
+     * 비디오 메타데이터만 읽는 작업 요청 (썸네일이 이미 있는 비디오 일괄 처리용, 썸네일 작업과 같은 작업 엔진)
+     * 읽은 값은 VideoProbedEvent로 발행되어 ShortForm에 저장됩니다.
+     */
+    public CompletableFuture<Boolean> probeVideo(String videoKey, ThumbnailExecutionEngine.Lane lane) {
+        return thumbnailExecutionEngine.submit("probe:" + videoKey, lane, () -> {
+            VideoProbe probe = thumbnailGeneratorService.probeS3Video(bucket, videoKey);
+            if (probe == null) {
+                return false;
+            }
+            eventPublisher.publishEvent(new VideoProbedEvent(videoKey, probe));
+            return true;
+        });
+    }
+
+    public Map<String, Object> thumbnailStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(thumbnailExecutionEngine.stats());
+        stats.put("extraction", thumbnailGeneratorService.stats());
+        return stats;
+    }
+
+    private boolean createThumbnail(String videoKey) {
         try {
             String thumbnailKey = generateThumbnailKey(videoKey);
+            Map<ThumbnailVariant, String> variantKeys = thumbnailVariantKeys(videoKey);
             
-            log.info("썸네일 생성 시작 (락 획득): {} -> {}", videoKey, thumbnailKey);
+            log.info("썸네일 생성 시작: {} -> {} 외 {}종", videoKey, thumbnailKey, variantKeys.size() - 1);
             
-            // 이미 썸네일이 존재하는지 확인
-            if (isThumbnailExists(thumbnailKey)) {
-                log.info("이미 썸네일이 존재함: {}", thumbnailKey);
+            // 이미 썸네일이 존재하는지 확인 (종류별 썸네일은 순서대로 올리므로 마지막 것만 확인)
+            String lastKey = new ArrayList<>(variantKeys.values()).get(variantKeys.size() - 1);
+            if (isThumbnailExists(lastKey)) {
+                log.info("이미 썸네일이 존재함: {}", lastKey);
+                // 다시 만들지 않아도 메타데이터는 헤더만 열어 읽음
+                VideoProbe probe = thumbnailGeneratorService.probeS3Video(bucket, videoKey);
+                if (probe != null) {
+                    eventPublisher.publishEvent(new VideoProbedEvent(videoKey, probe));
+                }
                 return true;
             }
             
@@ -242,13 +279,14 @@ public class AwsS3Service {
                 return false;
             }
             
-            // 2. FFmpeg를 사용한 실제 썸네일 생성
-            boolean success = thumbnailGeneratorService.generateThumbnailFromS3Video(
-                    bucket, videoKey, thumbnailKey
+            // 2. FFmpeg로 한 번 디코딩해 종류별 썸네일과 미리보기 생성 (디코딩하며 읽은 메타데이터도 저장)
+            VideoProbe probe = thumbnailGeneratorService.generateThumbnailsFromS3Video(
+                    bucket, videoKey, variantKeys
             );
             
-            if (success) {
+            if (probe != null) {
                 log.info("썸네일 생성 성공: {} -> {}", videoKey, thumbnailKey);
+                eventPublisher.publishEvent(new VideoProbedEvent(videoKey, probe));
                 return true;
             } else {
                 log.error("썸네일 생성 실패: {}", videoKey);
@@ -258,15 +296,6 @@ public class AwsS3Service {
         } catch (Exception e) {
             log.error("썸네일 생성 중 오류: {} - {}", videoKey, e.getMessage(), e);
             return false;
-        } finally {
-            lock.unlock();
-            // 안전한 락 정리: 현재 스레드가 보유한 락만 제거
-            thumbnailLocks.computeIfPresent(videoKey, (key, existingLock) -> {
-                if (existingLock == lock && !lock.hasQueuedThreads()) {
-                    return null; // 제거
-                }
-                return existingLock; // 유지
-            });
         }
     }
     
@@ -329,29 +358,7 @@ public class AwsS3Service {
         }
         
         try {
-            log.info("=== 썸네일 Pre-signed URL 생성 시작 ===");
-            log.info("입력 파라미터 - 버킷: {}, 키: {}", bucket, thumbnailKey);
-            
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(thumbnailKey)
-                    .build();
-            log.info("GetObjectRequest 생성 완료: bucket={}, key={}", bucket, thumbnailKey);
-
-            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofHours(1))  // 1시간 유효
-                    .getObjectRequest(getObjectRequest)
-                    .build();
-            log.info("GetObjectPresignRequest 생성 완료: 유효시간=1시간");
-
-            log.info("presigner.presignGetObject() 호출 시작...");
-            URL presignedUrl = presigner.presignGetObject(presignRequest).url();
-            String urlString = presignedUrl.toString();
-            
-            log.info("썸네일 Pre-signed URL 생성 성공!");
-            log.info("생성된 URL (처음 150자): {}", urlString.substring(0, Math.min(150, urlString.length())));
-            log.info("=== 썸네일 Pre-signed URL 생성 완료 ===");
-            return urlString;
+            return presignedUrlCache.get(thumbnailKey, this::presignGetObject);
             
         } catch (S3Exception e) {
             log.error("썸네일 Pre-signed URL 생성 실패 (S3 에러): 버킷={}, 키={}, 에러코드={}, 메시지={}", 
@@ -364,6 +371,88 @@ public class AwsS3Service {
         }
     }
 
+    /**
+     * 여러 객체 키에 대한 다운로드용 Pre-signed URL 일괄 생성
+     * 
+     * 캐시에 충분히 유효한 URL이 남아있는 키는 그대로 사용하고, 나머지 키만 모아
+     * S3BatchPresigner로 한 번에 서명합니다 (자격 증명 조회와 서명 키 유도는 배치당 1회).
+     * 일괄 서명이 실패하면 키별 서명으로 대체합니다.
+     * 
+     * @param keys S3 객체 키 목록 (null/빈 키는 무시)
+     * @return 객체 키 → Pre-signed URL (1시간 유효), 서명에 실패한 키는 포함되지 않음
+     */
+    public Map<String, String> generateDownloadUrls(Collection<String> keys) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+
+        for (String key : keys) {
+            if (key == null || key.trim().isEmpty() || urls.containsKey(key) || misses.contains(key)) {
+                continue;
+            }
+            String cached = presignedUrlCache.getIfFresh(key);
+            if (cached != null) {
+                urls.put(key, cached);
+            } else {
+                misses.add(key);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return urls;
+        }
+
+        try {
+            Map<String, PresignedUrl> signed = batchPresigner.presignGet(misses, GET_URL_VALIDITY);
+            signed.forEach((key, presigned) -> urls.put(key, presignedUrlCache.put(key, presigned)));
+            log.info("다운로드용 Pre-signed URL 일괄 생성 - 결과: {}, 캐시 적중: {}, 서명: {}",
+                    urls.size(), urls.size() - signed.size(), signed.size());
+        } catch (Exception e) {
+            log.error("다운로드용 Pre-signed URL 일괄 서명 실패, 키별 서명으로 대체: 버킷={}, 키 개수={}, 에러={}",
+                    bucket, misses.size(), e.getMessage(), e);
+            for (String key : misses) {
+                String url = generateVideoUrl(key);
+                if (url != null) {
+                    urls.put(key, url);
+                }
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * 여러 객체 키에 대한 업로드용 Pre-signed URL 일괄 생성 (캐시하지 않음)
+     * 
+     * @param keys S3 객체 키 목록
+     * @param mimeType 업로드 시 사용할 Content-Type (서명에 포함됨)
+     * @return 객체 키 → Pre-signed URL (10분 유효)
+     */
+    public Map<String, String> generatePresignedUploadUrls(Collection<String> keys, String mimeType) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        batchPresigner.presignPut(keys, mimeType, PUT_URL_VALIDITY)
+                .forEach((key, presigned) -> urls.put(key, presigned.url()));
+        log.info("업로드용 Pre-signed URL 일괄 생성 완료 - 개수: {}, MIME 타입: {}", urls.size(), mimeType);
+        return urls;
+    }
+
+    /**
+     * 다운로드용 Pre-signed URL 서명 (캐시 미스 시에만 호출)
+     */
+    private PresignedUrl presignGetObject(String key) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(GET_URL_VALIDITY)
+                .getObjectRequest(getObjectRequest)
+                .build();
+
+        PresignedGetObjectRequest presigned = presigner.presignGetObject(presignRequest);
+        log.info("다운로드용 Pre-signed URL 서명 완료: bucket={}, key={}, 만료={}", bucket, key, presigned.expiration());
+        return new PresignedUrl(presigned.url().toString(), presigned.expiration());
+    }
+
     /**
      * S3 Summary 파일에서 태그(Keywords) 정보 추출
      * 
@@ -371,124 +460,114 @@ public class AwsS3Service {
      * @return 태그 목록 (없으면 빈 리스트 반환)
      */
     public List<String> extractTagsFromSummary(String videoKey) {
-        try {
-            // Summary 파일 읽기
-            String summaryJson = getSummaryRaw(videoKey);
-            if (summaryJson == null || summaryJson.trim().isEmpty()) {
-                log.warn("Summary 파일이 비어있음: {}", videoKey);
-                return Collections.emptyList();
-            }
+        SummaryDocument document = getSummaryDocumentOrMissing(videoKey);
+        if (!document.exists()) {
+            log.warn("Summary 파일이 비어있음: {}", videoKey);
+            return Collections.emptyList();
+        }
+        log.info("Summary에서 태그 추출 완료 - videoKey: {}, tags: {}", videoKey, document.keywords());
+        return new ArrayList<>(document.keywords());
+    }
+
+    /**
+     * Summary 파일을 S3에서 읽어 파싱 (SummaryDocumentCache의 loader)
+     * 파일이 없으면 MISSING, S3 오류는 예외로 전달해 캐시되지 않도록 함
+     */
+    private SummaryDocument readSummaryDocument(String videoKey) {
+        String summaryJson = getSummaryRaw(videoKey);
+        if (summaryJson == null || summaryJson.trim().isEmpty()) {
+            return SummaryDocument.MISSING;
+        }
 
-            // JSON 파싱
+        try {
             JsonNode jsonNode = objectMapper.readTree(summaryJson);
-            List<String> tags = new ArrayList<>();
+            String summary = jsonNode.has("summary") ? jsonNode.get("summary").asText() : "";
+            String transcript = jsonNode.has("transcript") ? jsonNode.get("transcript").asText() : "";
+            return new SummaryDocument(summaryJson, summary, transcript, extractKeywords(jsonNode));
+        } catch (Exception e) {
+            log.error("Summary 파싱 실패 - videoKey: {}, error: {}", videoKey, e.getMessage());
+            return new SummaryDocument(summaryJson, "", "", List.of());
+        }
+    }
 
-            // 1. keywords 필드 확인 (AI 콜백에서 사용하는 필드)
-            if (jsonNode.has("keywords") && jsonNode.get("keywords").isArray()) {
-                for (JsonNode keywordNode : jsonNode.get("keywords")) {
-                    if (keywordNode.isTextual()) {
-                        tags.add(keywordNode.asText());
-                    }
+    private List<String> extractKeywords(JsonNode jsonNode) {
+        List<String> tags = new ArrayList<>();
+
+        // 1. keywords 필드 확인 (AI 콜백에서 사용하는 필드)
+        if (jsonNode.has("keywords") && jsonNode.get("keywords").isArray()) {
+            for (JsonNode keywordNode : jsonNode.get("keywords")) {
+                if (keywordNode.isTextual()) {
+                    tags.add(keywordNode.asText());
                 }
             }
+        }
 
-            // 2. tags 필드 확인 (대체 필드)
-            if (tags.isEmpty() && jsonNode.has("tags") && jsonNode.get("tags").isArray()) {
-                for (JsonNode tagNode : jsonNode.get("tags")) {
-                    if (tagNode.isTextual()) {
-                        tags.add(tagNode.asText());
-                    }
+        // 2. tags 필드 확인 (대체 필드)
+        if (tags.isEmpty() && jsonNode.has("tags") && jsonNode.get("tags").isArray()) {
+            for (JsonNode tagNode : jsonNode.get("tags")) {
+                if (tagNode.isTextual()) {
+                    tags.add(tagNode.asText());
                 }
             }
+        }
 
-            // 3. extraJson 내부의 keywords 확인 (extraJson이 문자열인 경우)
-            if (tags.isEmpty() && jsonNode.has("extraJson")) {
-                String extraJsonStr = jsonNode.get("extraJson").asText();
-                if (extraJsonStr != null && !extraJsonStr.isEmpty() && extraJsonStr.startsWith("{")) {
-                    try {
-                        JsonNode extraJsonNode = objectMapper.readTree(extraJsonStr);
-                        if (extraJsonNode.has("keywords") && extraJsonNode.get("keywords").isArray()) {
-                            for (JsonNode keywordNode : extraJsonNode.get("keywords")) {
-                                if (keywordNode.isTextual()) {
-                                    tags.add(keywordNode.asText());
-                                }
+        // 3. extraJson 내부의 keywords 확인 (extraJson이 문자열인 경우)
+        if (tags.isEmpty() && jsonNode.has("extraJson")) {
+            String extraJsonStr = jsonNode.get("extraJson").asText();
+            if (extraJsonStr != null && !extraJsonStr.isEmpty() && extraJsonStr.startsWith("{")) {
+                try {
+                    JsonNode extraJsonNode = objectMapper.readTree(extraJsonStr);
+                    if (extraJsonNode.has("keywords") && extraJsonNode.get("keywords").isArray()) {
+                        for (JsonNode keywordNode : extraJsonNode.get("keywords")) {
+                            if (keywordNode.isTextual()) {
+                                tags.add(keywordNode.asText());
                             }
                         }
-                    } catch (Exception e) {
-                        log.info("extraJson 파싱 실패: {}", e.getMessage());
                     }
+                } catch (Exception e) {
+                    log.info("extraJson 파싱 실패: {}", e.getMessage());
                 }
             }
-
-            log.info("Summary에서 태그 추출 완료 - videoKey: {}, tags: {}", videoKey, tags);
-            return tags;
-
-        } catch (Exception e) {
-            log.error("Summary에서 태그 추출 실패 - videoKey: {}, error: {}", videoKey, e.getMessage(), e);
-            return Collections.emptyList();
         }
+        return List.copyOf(tags);
     }
 
     /**
      * Summary 파일을 읽어서 원본 JSON 문자열 반환 (내부 메서드)
-     * 동시성 제어를 위한 락 적용
+     * 같은 videoKey의 동시 읽기는 SummaryDocumentCache에서 한 번으로 합쳐짐
+     *
+     * @return 파일이 없으면 null (S3 오류는 예외)
      */
     private String getSummaryRaw(String videoKey) {
-        log.info("=== Summary 파일 읽기 시작 ===");
-        log.info("입력 파라미터 - 비디오 키: {}", videoKey);
-        
-        // videoKey별 Summary 락 획득
-        ReentrantLock lock = summaryLocks.computeIfAbsent(videoKey, k -> new ReentrantLock());
-        log.info("Summary 락 획득: {}", videoKey);
-        
-        lock.lock();
-        try {
-            String originalName = videoKey.split("_", 2)[1];
-            // 확장자 제거 (모든 비디오 포맷 지원)
-            int lastDotIndex = originalName.lastIndexOf('.');
-            String baseName;
-            if (lastDotIndex > 0) {
-                baseName = originalName.substring(0, lastDotIndex);
-            } else {
-                baseName = originalName;
-            }
-            String key = "summary/summary_" + baseName + ".json";
-            log.info("Summary 파일 키 생성: {}", key);
+        String originalName = videoKey.split("_", 2)[1];
+        // 확장자 제거 (모든 비디오 포맷 지원)
+        int lastDotIndex = originalName.lastIndexOf('.');
+        String baseName;
+        if (lastDotIndex > 0) {
+            baseName = originalName.substring(0, lastDotIndex);
+        } else {
+            baseName = originalName;
+        }
+        String key = "summary/summary_" + baseName + ".json";
 
-            GetObjectRequest req = GetObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(key)
-                    .build();
-            log.info("GetObjectRequest 생성 완료: bucket={}, key={}", bucket, key);
+        GetObjectRequest req = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
 
-            try (ResponseInputStream<GetObjectResponse> stream = s3Client.getObject(req)) {
-                String result = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
-                log.info("Summary 파일 읽기 성공: 파일 크기={} bytes", result.length());
-                log.info("=== Summary 파일 읽기 완료 ===");
-                return result;
-            }
+        try (ResponseInputStream<GetObjectResponse> stream = s3Client.getObject(req)) {
+            String result = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+            log.info("Summary 파일 읽기 성공: 키={}, 파일 크기={} bytes", key, result.length());
+            return result;
         } catch (NoSuchKeyException e) {
             log.info("Summary 파일이 존재하지 않음: {}", videoKey);
-            log.info("=== Summary 파일 읽기 완료 (파일 없음) ===");
             return null;
         } catch (S3Exception e) {
             log.error("Summary 파일 읽기 실패 (S3 에러): 버킷={}, 키={}, 에러코드={}, 메시지={}", 
-                     bucket, videoKey, e.awsErrorDetails().errorCode(), e.getMessage());
-            log.info("=== Summary 파일 읽기 완료 (에러) ===");
-            return null;
-        } catch (Exception e) {
-            log.error("Summary 파일 읽기 실패 (예상치 못한 에러): 비디오키={}, 에러={}", videoKey, e.getMessage(), e);
-            log.info("=== Summary 파일 읽기 완료 (에러) ===");
-            return null;
-        } finally {
-            lock.unlock();
-            // 안전한 락 정리: 현재 스레드가 보유한 락만 제거
-            summaryLocks.computeIfPresent(videoKey, (key, existingLock) -> {
-                if (existingLock == lock && !lock.hasQueuedThreads()) {
-                    return null; // 제거
-                }
-                return existingLock; // 유지
-            });
+                     bucket, key, e.awsErrorDetails() != null ? e.awsErrorDetails().errorCode() : null, e.getMessage());
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Summary 파일 읽기 실패: " + key, e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,227 @@
+package com.xhackathon.server.domain.shortform.service;
+
+import com.xhackathon.server.common.pagination.KeysetCursor;
+import com.xhackathon.server.domain.follow.service.FollowMembershipService;
+import com.xhackathon.server.domain.shortform.dto.response.ShortFormFeedResponse;
+import com.xhackathon.server.domain.shortform.dto.response.ShortFormReelsResponse;
+import com.xhackathon.server.domain.shortform.entity.ShortForm;
+import com.xhackathon.server.domain.shortform.event.ShortFormChangedEvent;
+import com.xhackathon.server.domain.shortform.repository.ShortFormRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 피드 첫 페이지 캐시
+ *
+ * 최신 maxItems개 숏폼을 조회자와 무관한 형태(isFollowed=false)로 하이드레이션해 두고,
+ * 요청마다 size만큼 잘라 조회자의 팔로우 여부만 덧입혀 반환합니다.
+ *
+ * - ShortForm이 생성/변경되어 커밋되면 버전을 올려 무효화합니다.
+ * - 만료/무효화 후 첫 요청 스레드만 다시 만들고, 동시에 들어온 요청은 그 결과를 기다립니다.
+ */
+@Slf4j
+@Component
+public class FeedFirstPageCache {
+
+    private final ShortFormRepository shortFormRepository;
+    private final FeedHydrationService feedHydrationService;
+    private final FollowMembershipService followMembershipService;
+
+    private final int maxItems;
+    private final Duration ttl;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<CompletableFuture<Snapshot>> rebuilding = new AtomicReference<>();
+    private volatile Snapshot snapshot;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder rebuildNanos = new LongAdder();
+    private final AtomicLong maxRebuildNanos = new AtomicLong();
+    private volatile long lastRebuildNanos;
+
+    public FeedFirstPageCache(ShortFormRepository shortFormRepository,
+                              FeedHydrationService feedHydrationService,
+                              FollowMembershipService followMembershipService,
+                              @Value("${app.feed.first-page-cache.max-items:50}") int maxItems,
+                              @Value("${app.feed.first-page-cache.ttl:PT30S}") Duration ttl) {
+        this.shortFormRepository = shortFormRepository;
+        this.feedHydrationService = feedHydrationService;
+        this.followMembershipService = followMembershipService;
+        this.maxItems = maxItems;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 캐시로 처리할 수 있는 페이지 크기인지 여부
+     */
+    public boolean supports(int size) {
+        return size > 0 && size <= maxItems;
+    }
+
+    public ShortFormFeedResponse getFirstPage(int size, String currentUserPid) {
+        Snapshot current = currentSnapshot();
+
+        List<Row> pageRows = current.rows().subList(0, Math.min(size, current.rows().size()));
+        boolean hasNextPage = current.rows().size() > size;
+
+        Set<String> followedOwnerPids = findFollowedOwnerPids(currentUserPid, pageRows);
+
+        List<ShortFormReelsResponse> data = new ArrayList<>(pageRows.size());
+        for (Row row : pageRows) {
+            ShortFormReelsResponse item = current.items().get(row.id());
+            if (item == null) {
+                continue; // 비디오 URL이 없어 하이드레이션에서 제외된 항목
+            }
+            boolean isFollowed = !row.ownerPid().equals(currentUserPid) && followedOwnerPids.contains(row.ownerPid());
+            data.add(isFollowed ? item.withOwner(item.getOwner().withFollowed(true)) : item);
+        }
+
+        Row last = pageRows.isEmpty() ? null : pageRows.get(pageRows.size() - 1);
+        String nextPageParam = hasNextPage && !data.isEmpty()
+                ? KeysetCursor.of(last.createdAt(), last.id()).encode()
+                : null;
+
+        return ShortFormFeedResponse.of(data, nextPageParam, hasNextPage);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onShortFormChanged(ShortFormChangedEvent event) {
+        Snapshot current = snapshot;
+        // 캐시에 없는 숏폼의 수정은 첫 페이지에 영향 없음 (생성은 항상 영향)
+        if (!event.created() && current != null && !current.items().containsKey(event.shortFormId())) {
+            return;
+        }
+        version.incrementAndGet();
+        invalidations.increment();
+        log.debug("피드 첫 페이지 캐시 무효화 - shortFormId: {}, 생성 여부: {}", event.shortFormId(), event.created());
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (isValid(current)) {
+            hits.increment();
+            return current;
+        }
+
+        CompletableFuture<Snapshot> mine = new CompletableFuture<>();
+        CompletableFuture<Snapshot> inFlight = rebuilding.compareAndExchange(null, mine);
+        if (inFlight != null) {
+            // 다른 스레드가 재구성 중이면 그 결과를 기다림
+            coalesced.increment();
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        try {
+            // 그 사이 다른 스레드가 재구성을 끝냈을 수 있음
+            current = snapshot;
+            if (isValid(current)) {
+                hits.increment();
+            } else {
+                current = rebuild();
+                snapshot = current;
+            }
+            mine.complete(current);
+            return current;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            rebuilding.set(null);
+        }
+    }
+
+    private boolean isValid(Snapshot current) {
+        return current != null
+                && current.version() == version.get()
+                && Duration.between(current.builtAt(), Instant.now()).compareTo(ttl) < 0;
+    }
+
+    private Snapshot rebuild() {
+        long start = System.nanoTime();
+        long buildVersion = version.get(); // 재구성 중 무효화되면 다음 요청에서 다시 구성
+
+        List<ShortForm> shortForms = shortFormRepository.findFeedFirstPage(PageRequest.of(0, maxItems + 1));
+        List<ShortFormReelsResponse> hydrated = feedHydrationService.hydrate(
+                shortForms.subList(0, Math.min(maxItems, shortForms.size())), null);
+
+        List<Row> rows = shortForms.stream()
+                .map(sf -> new Row(sf.getId(), sf.getCreatedAt(), sf.getOwnerPid()))
+                .toList();
+        Map<Long, ShortFormReelsResponse> items = new HashMap<>();
+        hydrated.forEach(item -> items.put(item.getId(), item));
+
+        long elapsed = System.nanoTime() - start;
+        rebuilds.increment();
+        rebuildNanos.add(elapsed);
+        lastRebuildNanos = elapsed;
+        maxRebuildNanos.accumulateAndGet(elapsed, Math::max);
+        log.info("피드 첫 페이지 캐시 재구성 - 항목: {}개, 소요: {}ms", items.size(), elapsed / 1_000_000);
+
+        return new Snapshot(rows, Collections.unmodifiableMap(items), buildVersion, Instant.now());
+    }
+
+    private Set<String> findFollowedOwnerPids(String currentUserPid, List<Row> pageRows) {
+        if (currentUserPid == null || pageRows.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> ownerPids = new HashSet<>();
+        pageRows.forEach(row -> ownerPids.add(row.ownerPid()));
+        return followMembershipService.filterFollowed(currentUserPid, ownerPids);
+    }
+
+    public Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long coalescedCount = coalesced.sum();
+        long rebuildCount = rebuilds.sum();
+        long total = hitCount + coalescedCount + rebuildCount;
+        Snapshot current = snapshot;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("items", current != null ? current.items().size() : 0);
+        stats.put("maxItems", maxItems);
+        stats.put("ttlSeconds", ttl.getSeconds());
+        stats.put("hits", hitCount);
+        stats.put("coalesced", coalescedCount);
+        stats.put("rebuilds", rebuildCount);
+        stats.put("invalidations", invalidations.sum());
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) (hitCount + coalescedCount) / total);
+        stats.put("lastRebuildMs", lastRebuildNanos / 1_000_000.0);
+        stats.put("avgRebuildMs", rebuildCount == 0 ? 0.0 : rebuildNanos.sum() / 1_000_000.0 / rebuildCount);
+        stats.put("maxRebuildMs", maxRebuildNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    private record Row(Long id, OffsetDateTime createdAt, String ownerPid) {
+    }
+
+    private record Snapshot(List<Row> rows, Map<Long, ShortFormReelsResponse> items, long version, Instant builtAt) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.xhackathon.server.domain.shortform.service;
+
+import com.xhackathon.server.domain.follow.service.FollowMembershipService;
+import com.xhackathon.server.domain.shortform.dto.response.OwnerInfo;
+import com.xhackathon.server.domain.shortform.dto.response.ShortFormReelsResponse;
+import com.xhackathon.server.domain.shortform.entity.ShortForm;
+import com.xhackathon.server.domain.shortform.entity.ShortFormAi;
+import com.xhackathon.server.domain.shortform.entity.ShortFormAiStatus;
+import com.xhackathon.server.domain.shortform.media.ThumbnailPreference;
+import com.xhackathon.server.domain.shortform.repository.ShortFormAiRepository;
+import com.xhackathon.server.domain.user.service.UserProfile;
+import com.xhackathon.server.domain.user.service.UserProfileCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 피드/검색 페이지 하이드레이션
+ *
+ * 페이지에 포함된 숏폼들의 소유자, 팔로우 여부, AI 처리 결과를
+ * 항목별로 조회하지 않고 IN 쿼리 3번으로 한 번에 불러온 뒤 맵에서 응답을 조립합니다.
+ * 비디오/썸네일/미리보기 Pre-signed URL도 페이지 단위로 한 번에 서명합니다.
+ * 썸네일은 ThumbnailPreference(표시 폭, WebP 여부)에 맞는 종류를 고릅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedHydrationService {
+
+    private final UserProfileCache userProfileCache;
+    private final FollowMembershipService followMembershipService;
+    private final ShortFormAiRepository shortFormAiRepository;
+    private final AwsS3Service awsS3Service;
+
+    @Transactional(readOnly = true)
+    public List<ShortFormReelsResponse> hydrate(List<ShortForm> shortForms, String currentUserPid) {
+        return hydrate(shortForms, currentUserPid, ThumbnailPreference.DEFAULT);
+    }
+
+    /**
+     * @param thumbnailPreference 클라이언트에 맞는 썸네일 종류 선택 기준
+     */
+    @Transactional(readOnly = true)
+    public List<ShortFormReelsResponse> hydrate(List<ShortForm> shortForms, String currentUserPid,
+                                                ThumbnailPreference thumbnailPreference) {
+        if (shortForms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        HydrationContext context = prepare(shortForms, currentUserPid, thumbnailPreference);
+
+        // 4) 비디오/썸네일/미리보기 URL 일괄 서명
+        List<String> objectKeys = new ArrayList<>(shortForms.size() * 3);
+        for (ShortForm sf : shortForms) {
+            addObjectKeys(objectKeys, sf, thumbnailPreference);
+        }
+        Map<String, String> urls = awsS3Service.generateDownloadUrls(objectKeys);
+
+        log.debug("Feed 하이드레이션 - 항목: {}, 소유자: {}, AI 레코드: {}, URL: {}",
+                shortForms.size(), context.owners().size(), context.aiRecords().size(), urls.size());
+
+        return shortForms.stream()
+                .map(sf -> toResponse(sf, context, urls))
+                .filter(response -> response.getVideoUrl() != null) // 비디오 URL이 없는 항목 제외
+                .toList();
+    }
+
+    /**
+     * 페이지 단위 DB 조회(소유자, 팔로우, AI)만 먼저 수행
+     * 스트리밍 응답에서는 이후 hydrateOne으로 항목별 URL 서명과 응답 조립을 진행합니다.
+     */
+    @Transactional(readOnly = true)
+    public HydrationContext prepare(List<ShortForm> shortForms, String currentUserPid,
+                                    ThumbnailPreference thumbnailPreference) {
+        if (shortForms.isEmpty()) {
+            return new HydrationContext(Collections.emptyMap(), Collections.emptySet(), Collections.emptyMap(),
+                    currentUserPid, thumbnailPreference);
+        }
+
+        Set<String> ownerPids = shortForms.stream()
+                .map(ShortForm::getOwnerPid)
+                .collect(Collectors.toSet());
+        List<Long> shortFormIds = shortForms.stream()
+                .map(ShortForm::getId)
+                .toList();
+
+        // 1) 소유자 일괄 조회
+        Map<String, UserProfile> owners = userProfileCache.getAll(ownerPids);
+
+        // 2) 팔로우 관계 일괄 조회
+        Set<String> followedOwnerPids = findFollowedOwnerPids(currentUserPid, ownerPids);
+
+        // 3) AI 처리 결과 일괄 조회 (중복 레코드가 있으면 가장 최근 레코드 사용)
+        Map<Long, ShortFormAi> aiRecords = shortFormAiRepository.findByShortFormIdIn(shortFormIds).stream()
+                .collect(Collectors.toMap(
+                        ShortFormAi::getShortFormId,
+                        Function.identity(),
+                        (a, b) -> a.getId() > b.getId() ? a : b));
+
+        return new HydrationContext(owners, followedOwnerPids, aiRecords, currentUserPid, thumbnailPreference);
+    }
+
+    /**
+     * 항목 하나의 URL을 서명하고 응답을 조립 (비디오 URL이 없으면 null)
+     */
+    public ShortFormReelsResponse hydrateOne(ShortForm sf, HydrationContext context) {
+        List<String> objectKeys = new ArrayList<>(3);
+        addObjectKeys(objectKeys, sf, context.thumbnailPreference());
+        ShortFormReelsResponse response = toResponse(sf, context, awsS3Service.generateDownloadUrls(objectKeys));
+        return response.getVideoUrl() != null ? response : null;
+    }
+
+    private static void addObjectKeys(List<String> objectKeys, ShortForm sf, ThumbnailPreference thumbnailPreference) {
+        objectKeys.add(sf.getVideoKey());
+        objectKeys.add(sf.thumbnailKeyFor(thumbnailPreference));
+        objectKeys.add(sf.previewKeyFor(thumbnailPreference));
+    }
+
+    private Set<String> findFollowedOwnerPids(String currentUserPid, Set<String> ownerPids) {
+        if (currentUserPid == null) {
+            return Collections.emptySet();
+        }
+        return followMembershipService.filterFollowed(currentUserPid, ownerPids);
+    }
+
+    private ShortFormReelsResponse toResponse(ShortForm sf, HydrationContext context, Map<String, String> urls) {
+        String videoUrl = sf.getVideoKey() != null ? urls.get(sf.getVideoKey()) : null;
+        String thumbnailKey = sf.thumbnailKeyFor(context.thumbnailPreference());
+        String previewKey = sf.previewKeyFor(context.thumbnailPreference());
+        String thumbnailUrl = thumbnailKey != null ? urls.get(thumbnailKey) : null;
+        String previewUrl = previewKey != null ? urls.get(previewKey) : null;
+
+        ShortFormAi ai = context.aiRecords().get(sf.getId());
+        String summary = ai != null && ai.getSummary() != null ? ai.getSummary() : "";
+        ShortFormAiStatus aiStatus = ai != null ? ai.getStatus() : ShortFormAiStatus.PENDING;
+
+        return ShortFormReelsResponse.of(sf, toOwnerInfo(sf, context), videoUrl, thumbnailUrl, previewUrl, summary, aiStatus);
+    }
+
+    private OwnerInfo toOwnerInfo(ShortForm sf, HydrationContext context) {
+        UserProfile owner = context.owners().get(sf.getOwnerPid());
+        if (owner == null) {
+            log.error("Feed 항목 소유자를 찾을 수 없음 (ShortForm ID: {}, ownerPid: {})", sf.getId(), sf.getOwnerPid());
+            return OwnerInfo.of(0L, "Unknown", null, false);
+        }
+
+        boolean isFollowed = !owner.pid().equals(context.currentUserPid())
+                && context.followedOwnerPids().contains(owner.pid());
+
+        return OwnerInfo.of(
+                Long.valueOf(owner.pid().hashCode()), // 임시 ID 생성
+                owner.displayName(),
+                owner.profileImageUrl(),
+                isFollowed
+        );
+    }
+
+    /**
+     * 페이지 단위로 미리 조회한 소유자/팔로우/AI 정보와 썸네일 선택 기준
+     */
+    public record HydrationContext(Map<String, UserProfile> owners,
+                                   Set<String> followedOwnerPids,
+                                   Map<Long, ShortFormAi> aiRecords,
+                                   String currentUserPid,
+                                   ThumbnailPreference thumbnailPreference) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.xhackathon.server.domain.shortform.service;
+
+import com.xhackathon.server.common.pagination.KeysetCursor;
+import com.xhackathon.server.domain.shortform.dto.response.ShortFormFeedPageInfo;
+import com.xhackathon.server.domain.shortform.dto.response.ShortFormFeedResponse;
+import com.xhackathon.server.domain.shortform.dto.response.ShortFormReelsResponse;
+import com.xhackathon.server.domain.shortform.entity.ShortForm;
+import com.xhackathon.server.domain.shortform.media.ThumbnailPreference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 피드 스트리밍 (SSE)
+ *
+ * 페이지 전체를 모아서 응답하지 않고, 항목 하나가 준비될 때마다 "item" 이벤트로 내보낸 뒤
+ * 마지막에 "page" 이벤트(nextPageParam, hasNextPage)를 보내고 스트림을 닫습니다.
+ *
+ * - 첫 페이지는 FeedFirstPageCache에 준비된 항목을 바로 내보냅니다.
+ * - 그 외 페이지는 소유자/팔로우/AI 정보를 페이지 단위로 먼저 조회한 뒤,
+ *   항목별로 URL을 서명해 순서대로 내보냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedStreamService {
+
+    private final ShortFormService shortFormService;
+    private final FeedHydrationService feedHydrationService;
+    private final FeedFirstPageCache feedFirstPageCache;
+
+    @Async
+    public void streamFeed(SseEmitter emitter, String pageParam, int size, String currentUserPid,
+                           ThumbnailPreference thumbnailPreference) {
+        try {
+            // 첫 페이지 캐시는 기본 썸네일 기준으로 만든 것
+            if (pageParam == null && thumbnailPreference.isDefault() && feedFirstPageCache.supports(size)) {
+                ShortFormFeedResponse cached = feedFirstPageCache.getFirstPage(size, currentUserPid);
+                for (ShortFormReelsResponse item : cached.getData()) {
+                    sendItem(emitter, item);
+                }
+                sendPage(emitter, ShortFormFeedPageInfo.of(
+                        cached.getData().size(), cached.getNextPageParam(), cached.getHasNextPage()));
+                emitter.complete();
+                return;
+            }
+
+            List<ShortForm> shortForms = shortFormService.findFeedRows(pageParam, size + 1);
+            boolean hasNextPage = shortForms.size() > size;
+            if (hasNextPage) {
+                shortForms = shortForms.subList(0, size); // 마지막 항목 제거
+            }
+
+            FeedHydrationService.HydrationContext context = feedHydrationService.prepare(shortForms, currentUserPid, thumbnailPreference);
+
+            int sent = 0;
+            for (ShortForm sf : shortForms) {
+                ShortFormReelsResponse item = feedHydrationService.hydrateOne(sf, context);
+                if (item != null) { // 비디오 URL이 없는 항목 제외
+                    sendItem(emitter, item);
+                    sent++;
+                }
+            }
+
+            String nextPageParam = null;
+            if (hasNextPage && sent > 0) {
+                ShortForm last = shortForms.get(shortForms.size() - 1);
+                nextPageParam = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+            }
+            sendPage(emitter, ShortFormFeedPageInfo.of(sent, nextPageParam, hasNextPage));
+            emitter.complete();
+
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 - 남은 항목은 버림
+            log.debug("피드 스트리밍 중 클라이언트 연결 종료: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("피드 스트리밍 실패 - pageParam: {}, size: {}, error: {}", pageParam, size, e.getMessage(), e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void sendItem(SseEmitter emitter, ShortFormReelsResponse item) throws IOException {
+        emitter.send(SseEmitter.event()
+                .name("item")
+                .id(String.valueOf(item.getId()))
+                .data(item, MediaType.APPLICATION_JSON));
+    }
+
+    private void sendPage(SseEmitter emitter, ShortFormFeedPageInfo pageInfo) throws IOException {
+        emitter.send(SseEmitter.event()
+                .name("page")
+                .data(pageInfo, MediaType.APPLICATION_JSON));
+    }
+}
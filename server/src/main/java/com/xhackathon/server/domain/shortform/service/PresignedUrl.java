@@ -0,0 +1,14 @@
+package com.xhackathon.server.domain.shortform.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 서명된 URL과 만료 시각
+ */
+public record PresignedUrl(String url, Instant expiresAt) {
+
+    public Duration remaining(Instant now) {
+        return Duration.between(now, expiresAt);
+    }
+}
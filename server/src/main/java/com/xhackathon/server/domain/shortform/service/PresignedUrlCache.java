@@ -0,0 +1,174 @@
+package com.xhackathon.server.domain.shortform.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 객체 키별 다운로드용 Pre-signed URL 캐시
+ *
+ * - 남은 유효시간이 minRemaining 이하인 URL은 내주지 않고 새로 서명합니다.
+ * - 남은 유효시간이 refreshAhead 이하로 떨어지면 첫 번째 요청 스레드만 재서명하고,
+ *   나머지 요청은 아직 유효한 기존 URL을 그대로 받습니다.
+ * - 최대 항목 수를 넘으면 만료가 임박한 항목부터 제거합니다.
+ */
+@Slf4j
+@Component
+public class PresignedUrlCache {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final int maxEntries;
+    private final Duration minRemaining;
+    private final Duration refreshAhead;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PresignedUrlCache(
+            @Value("${app.s3.presign-cache.max-entries:10000}") int maxEntries,
+            @Value("${app.s3.presign-cache.min-remaining:PT20M}") Duration minRemaining,
+            @Value("${app.s3.presign-cache.refresh-ahead:PT30M}") Duration refreshAhead) {
+        if (refreshAhead.compareTo(minRemaining) < 0) {
+            throw new IllegalArgumentException("refreshAhead는 minRemaining보다 작을 수 없습니다.");
+        }
+        this.maxEntries = maxEntries;
+        this.minRemaining = minRemaining;
+        this.refreshAhead = refreshAhead;
+    }
+
+    /**
+     * 캐시된 URL을 반환하거나, 없거나 만료가 임박했으면 signer로 새로 서명
+     */
+    public String get(String key, Function<String, PresignedUrl> signer) {
+        Instant now = Instant.now();
+        Entry entry = entries.get(key);
+
+        if (entry != null) {
+            Duration remaining = entry.signed().remaining(now);
+            if (remaining.compareTo(refreshAhead) > 0) {
+                hits.increment();
+                return entry.signed().url();
+            }
+            if (remaining.compareTo(minRemaining) > 0) {
+                // 갱신 구간: 한 스레드만 재서명하고 나머지는 기존 URL 사용
+                if (!entry.refreshing().compareAndSet(false, true)) {
+                    hits.increment();
+                    return entry.signed().url();
+                }
+                refreshes.increment();
+                try {
+                    return store(key, signer.apply(key));
+                } catch (RuntimeException e) {
+                    entry.refreshing().set(false);
+                    throw e;
+                }
+            }
+        }
+
+        misses.increment();
+        return store(key, signer.apply(key));
+    }
+
+    /**
+     * 갱신 구간에 들어가지 않은 URL만 반환 (일괄 서명 경로용)
+     * 없거나 갱신이 필요하면 null을 반환하고, 호출자가 다른 키들과 함께 서명해 put으로 저장합니다.
+     */
+    public String getIfFresh(String key) {
+        Entry entry = entries.get(key);
+        Duration remaining = entry != null ? entry.signed().remaining(Instant.now()) : Duration.ZERO;
+        if (remaining.compareTo(minRemaining) <= 0) {
+            misses.increment();
+            return null;
+        }
+        if (remaining.compareTo(refreshAhead) <= 0) {
+            refreshes.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.signed().url();
+    }
+
+    public String put(String key, PresignedUrl signed) {
+        return store(key, signed);
+    }
+
+    private String store(String key, PresignedUrl signed) {
+        entries.put(key, new Entry(signed, new AtomicBoolean(false)));
+        if (entries.size() > maxEntries) {
+            evictIfNeeded();
+        }
+        return signed.url();
+    }
+
+    /**
+     * 최대 크기의 90%까지 줄임: 먼저 내줄 수 없는 항목, 그다음 만료가 가까운 항목 순으로 제거
+     */
+    private void evictIfNeeded() {
+        if (!evictionLock.tryLock()) {
+            return; // 다른 스레드가 정리 중
+        }
+        try {
+            Instant now = Instant.now();
+            int target = (int) (maxEntries * 0.9);
+
+            entries.forEach((key, entry) -> {
+                if (entry.signed().remaining(now).compareTo(minRemaining) <= 0 && entries.remove(key, entry)) {
+                    evictions.increment();
+                }
+            });
+
+            int overflow = entries.size() - target;
+            if (overflow <= 0) {
+                return;
+            }
+
+            List<Map.Entry<String, Entry>> candidates = new ArrayList<>(entries.entrySet());
+            candidates.sort(Comparator.comparing(e -> e.getValue().signed().expiresAt()));
+            for (int i = 0; i < overflow && i < candidates.size(); i++) {
+                Map.Entry<String, Entry> candidate = candidates.get(i);
+                if (entries.remove(candidate.getKey(), candidate.getValue())) {
+                    evictions.increment();
+                }
+            }
+            log.debug("Pre-signed URL 캐시 정리 완료 - 현재 크기: {}", entries.size());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxEntries", maxEntries);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("refreshes", refreshes.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) hitCount / total);
+        return stats;
+    }
+
+    private record Entry(PresignedUrl signed, AtomicBoolean refreshing) {
+    }
+}
@@ -0,0 +1,220 @@
+package com.xhackathon.server.domain.shortform.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * S3 Pre-signed URL 일괄 서명기 (SigV4 쿼리 서명)
+ *
+ * S3Presigner는 키마다 자격 증명 조회, 서명 키 유도(HMAC 4회), 요청 객체 생성을 반복합니다.
+ * 여기서는 배치 단위로 자격 증명을 한 번만 조회하고, 날짜별로 유도한 서명 키와
+ * Mac/MessageDigest 인스턴스를 배치 전체에서 재사용해 키당 HMAC 1회와 SHA-256 1회만 수행합니다.
+ */
+@Slf4j
+@Component
+public class S3BatchPresigner {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final String SERVICE = "s3";
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+    private static final Duration MAX_VALIDITY = Duration.ofDays(7); // SigV4 최대 유효기간
+
+    private static final DateTimeFormatter AMZ_DATE =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DATE_STAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final char[] HEX_UPPER = "0123456789ABCDEF".toCharArray();
+
+    private final AwsCredentialsProvider credentialsProvider;
+    private final String region;
+    private final String host;
+    private final Clock clock;
+
+    // 날짜(yyyyMMdd) + 자격 증명별로 유도한 서명 키 (하루 동안 유효)
+    private volatile SigningKey cachedSigningKey;
+
+    @Autowired
+    public S3BatchPresigner(AwsCredentialsProvider credentialsProvider,
+                            @Value("${cloud.aws.region:ap-northeast-2}") String region,
+                            @Value("${cloud.aws.s3.bucket}") String bucket) {
+        this(credentialsProvider, region, bucket, Clock.systemUTC());
+    }
+
+    S3BatchPresigner(AwsCredentialsProvider credentialsProvider, String region, String bucket, Clock clock) {
+        this.credentialsProvider = credentialsProvider;
+        this.region = region;
+        // S3Presigner와 같은 가상 호스트 방식 엔드포인트
+        this.host = "us-east-1".equals(region)
+                ? bucket + ".s3.amazonaws.com"
+                : bucket + ".s3." + region + ".amazonaws.com";
+        this.clock = clock;
+    }
+
+    /**
+     * 다운로드용(GET) URL 일괄 서명
+     */
+    public Map<String, PresignedUrl> presignGet(Collection<String> keys, Duration validity) {
+        return presign("GET", keys, null, validity);
+    }
+
+    /**
+     * 업로드용(PUT) URL 일괄 서명 - Content-Type 헤더를 서명에 포함
+     */
+    public Map<String, PresignedUrl> presignPut(Collection<String> keys, String contentType, Duration validity) {
+        return presign("PUT", keys, contentType, validity);
+    }
+
+    private Map<String, PresignedUrl> presign(String method, Collection<String> keys, String contentType, Duration validity) {
+        if (validity.isNegative() || validity.isZero() || validity.compareTo(MAX_VALIDITY) > 0) {
+            throw new IllegalArgumentException("Pre-signed URL 유효시간은 1초 이상 7일 이하여야 합니다: " + validity);
+        }
+        Map<String, PresignedUrl> result = new LinkedHashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+
+        // 배치 전체에서 한 번만: 자격 증명 조회, 서명 키 유도, 공통 쿼리 구성
+        AwsCredentials credentials = credentialsProvider.resolveCredentials();
+        Instant now = clock.instant().truncatedTo(ChronoUnit.SECONDS);
+        String amzDate = AMZ_DATE.format(now);
+        String dateStamp = DATE_STAMP.format(now);
+        String scope = dateStamp + "/" + region + "/" + SERVICE + "/aws4_request";
+        Instant expiresAt = now.plus(validity);
+
+        boolean withContentType = contentType != null && !contentType.isBlank();
+        String signedHeaders = withContentType ? "content-type;host" : "host";
+        String canonicalHeaders = (withContentType ? "content-type:" + contentType.trim() + "\n" : "")
+                + "host:" + host + "\n";
+
+        // 쿼리 파라미터는 이름 순으로 정렬되어 있어야 함
+        StringBuilder query = new StringBuilder(256)
+                .append("X-Amz-Algorithm=").append(ALGORITHM)
+                .append("&X-Amz-Credential=").append(uriEncode(credentials.accessKeyId() + "/" + scope, true))
+                .append("&X-Amz-Date=").append(amzDate)
+                .append("&X-Amz-Expires=").append(validity.getSeconds());
+        if (credentials instanceof AwsSessionCredentials sessionCredentials) {
+            query.append("&X-Amz-Security-Token=").append(uriEncode(sessionCredentials.sessionToken(), true));
+        }
+        query.append("&X-Amz-SignedHeaders=").append(uriEncode(signedHeaders, true));
+        String canonicalQuery = query.toString();
+
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(new SecretKeySpec(signingKey(credentials, dateStamp), HMAC_SHA256));
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+
+            for (String key : keys) {
+                if (result.containsKey(key)) {
+                    continue;
+                }
+                String canonicalUri = "/" + uriEncode(key, false);
+                String canonicalRequest = method + "\n"
+                        + canonicalUri + "\n"
+                        + canonicalQuery + "\n"
+                        + canonicalHeaders + "\n"
+                        + signedHeaders + "\n"
+                        + UNSIGNED_PAYLOAD;
+                String stringToSign = ALGORITHM + "\n"
+                        + amzDate + "\n"
+                        + scope + "\n"
+                        + hex(sha256.digest(canonicalRequest.getBytes(StandardCharsets.UTF_8)));
+                String signature = hex(mac.doFinal(stringToSign.getBytes(StandardCharsets.UTF_8)));
+
+                String url = "https://" + host + canonicalUri + "?" + canonicalQuery + "&X-Amz-Signature=" + signature;
+                result.put(key, new PresignedUrl(url, expiresAt));
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Pre-signed URL 일괄 서명 실패: " + e.getMessage(), e);
+        }
+
+        log.debug("Pre-signed URL 일괄 서명 완료 - method: {}, 개수: {}", method, result.size());
+        return result;
+    }
+
+    /**
+     * kSigning = HMAC(HMAC(HMAC(HMAC("AWS4" + secret, date), region), "s3"), "aws4_request")
+     * 같은 날짜, 같은 자격 증명이면 캐시된 키를 재사용
+     */
+    private byte[] signingKey(AwsCredentials credentials, String dateStamp) throws GeneralSecurityException {
+        SigningKey cached = cachedSigningKey;
+        if (cached != null && cached.matches(credentials, dateStamp)) {
+            return cached.key();
+        }
+
+        byte[] key = ("AWS4" + credentials.secretAccessKey()).getBytes(StandardCharsets.UTF_8);
+        key = hmac(key, dateStamp);
+        key = hmac(key, region);
+        key = hmac(key, SERVICE);
+        key = hmac(key, "aws4_request");
+
+        cachedSigningKey = new SigningKey(credentials.accessKeyId(), credentials.secretAccessKey(), dateStamp, key);
+        log.debug("S3 서명 키 유도 - 날짜: {}", dateStamp);
+        return key;
+    }
+
+    private static byte[] hmac(byte[] key, String data) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance(HMAC_SHA256);
+        mac.init(new SecretKeySpec(key, HMAC_SHA256));
+        return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * SigV4 URI 인코딩 (RFC 3986 비예약 문자만 그대로 두고 나머지는 %XX 대문자)
+     */
+    static String uriEncode(String value, boolean encodeSlash) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        StringBuilder sb = new StringBuilder(bytes.length + 16);
+        for (byte b : bytes) {
+            int c = b & 0xff;
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~'
+                    || (c == '/' && !encodeSlash)) {
+                sb.append((char) c);
+            } else {
+                sb.append('%').append(HEX_UPPER[c >>> 4]).append(HEX_UPPER[c & 0x0f]);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String hex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int v = bytes[i] & 0xff;
+            chars[i * 2] = HEX[v >>> 4];
+            chars[i * 2 + 1] = HEX[v & 0x0f];
+        }
+        return new String(chars);
+    }
+
+    private record SigningKey(String accessKeyId, String secretAccessKey, String dateStamp, byte[] key) {
+
+        boolean matches(AwsCredentials credentials, String dateStamp) {
+            return this.dateStamp.equals(dateStamp)
+                    && accessKeyId.equals(credentials.accessKeyId())
+                    && secretAccessKey.equals(credentials.secretAccessKey());
+        }
+    }
+}
@@ -4,12 +4,15 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.xhackathon.server.domain.shortform.entity.ShortForm;
 import com.xhackathon.server.domain.shortform.entity.ShortFormStatus;
+import com.xhackathon.server.domain.shortform.event.ThumbnailRequestedEvent;
+import com.xhackathon.server.domain.shortform.media.VideoProbe;
 import com.xhackathon.server.domain.shortform.repository.ShortFormRepository;
 import com.xhackathon.server.domain.user.entity.User;
 import com.xhackathon.server.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +35,8 @@ public class S3CrawlingService {
     private final AwsS3Service awsS3Service;
     private final ThumbnailGeneratorService thumbnailGeneratorService;
     private final ObjectMapper objectMapper;
+    private final SummaryIngestionService summaryIngestionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -289,18 +294,26 @@ public class S3CrawlingService {
 
             // 5. 기존 ShortForm 레코드가 있는지 확인
             Optional<ShortForm> existingOpt = shortFormRepository.findByVideoKey(videoKey);
+            ShortForm shortForm;
             if (existingOpt.isPresent()) {
                 // 기존 레코드 업데이트
-                updateExistingShortForm(existingOpt.get(), summaryData);
+                shortForm = existingOpt.get();
+                updateExistingShortForm(shortForm, summaryData);
                 log.info("기존 ShortForm 업데이트: {}", videoKey);
             } else {
                 // 새 레코드 생성
-                createNewShortForm(userPid, videoKey, summaryData);
+                shortForm = createNewShortForm(userPid, videoKey, summaryData);
                 log.info("새 ShortForm 생성: {}", videoKey);
             }
 
+            // 요약/자막을 DB에 저장 (이후 상세 조회는 S3를 읽지 않음)
+            summaryIngestionService.ingest(shortForm, null, summaryData.transcript, summaryData.summary,
+                    summaryIngestionService.extraJsonFromS3(summaryData.tags, summaryKey));
+
             // 6. 썸네일이 없으면 비동기로 생성
-            generateThumbnailIfNotExists(videoKey);
+            if (shortForm.getThumbnailKey() == null) {
+                generateThumbnailIfNotExists(videoKey);
+            }
 
             return true;
 
@@ -464,7 +477,7 @@ public class S3CrawlingService {
     /**
      * 새 ShortForm 레코드 생성
      */
-    private void createNewShortForm(String userPid, String videoKey, SummaryData summaryData) {
+    private ShortForm createNewShortForm(String userPid, String videoKey, SummaryData summaryData) {
         String title = generateTitleFromSummary(summaryData.summary);
         String description = summaryData.summary;
         
@@ -477,10 +490,7 @@ public class S3CrawlingService {
                 summaryData.tags
         );
 
-        shortFormRepository.save(shortForm);
-        
-        // 썸네일 생성 시작
-        generateThumbnailIfNotExists(videoKey);
+        return shortFormRepository.save(shortForm);
     }
 
     /**
@@ -500,92 +510,98 @@ public class S3CrawlingService {
     }
 
     /**
-     * 썸네일이 없으면 생성
+     * 썸네일이 없으면 생성 (커밋 후 일괄 대기열에 제출, 결과를 기다리지 않음)
+     *
+     * 크롤링은 피드 조회마다 돌 수 있으므로 업로드 대기열은 ShortFormService.createShortForm만 사용합니다.
+     * 요청 스레드에서 호출되므로 대기열이 가득 차면 기다리지 않고 건너뜁니다 (누락 썸네일 일괄 생성이 채움).
      */
-    @Async
     public void generateThumbnailIfNotExists(String videoKey) {
-        String thumbnailKey = awsS3Service.generateThumbnailKey(videoKey);
-        
-        try {
-            // 썸네일 파일이 이미 존재하는지 확인
-            if (thumbnailExists(thumbnailKey)) {
-                log.debug("썸네일이 이미 존재함: {}", thumbnailKey);
-                return;
-            }
-
-            log.info("썸네일 생성 시작: {} -> {}", videoKey, thumbnailKey);
-            
-            // 썸네일 생성 (1초 정도의 비디오 클립 다운로드 포함)
-            boolean success = awsS3Service.generateThumbnail(videoKey);
-            
-            if (success) {
-                log.info("썸네일 생성 성공: {}", thumbnailKey);
-                
-                // DB 업데이트
-                updateShortFormThumbnail(videoKey, thumbnailKey);
-            } else {
-                log.error("썸네일 생성 실패: {}", videoKey);
-            }
-
-        } catch (Exception e) {
-            log.error("썸네일 생성 중 오류: {} - {}", videoKey, e.getMessage(), e);
-        }
+        eventPublisher.publishEvent(new ThumbnailRequestedEvent(videoKey, ThumbnailExecutionEngine.Lane.BACKFILL));
     }
 
-    private boolean thumbnailExists(String thumbnailKey) {
-        try {
-            HeadObjectRequest headRequest = HeadObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(thumbnailKey)
-                    .build();
-            
-            s3Client.headObject(headRequest);
-            return true;
-            
-        } catch (NoSuchKeyException e) {
-            return false;
-        } catch (Exception e) {
-            log.warn("썸네일 존재 확인 실패: {} - {}", thumbnailKey, e.getMessage());
-            return false;
+    @Transactional
+    public void updateShortFormThumbnail(String videoKey, String thumbnailKey, Map<String, String> thumbnailVariants) {
+        Optional<ShortForm> shortFormOpt = shortFormRepository.findByVideoKey(videoKey);
+        if (shortFormOpt.isPresent()) {
+            ShortForm shortForm = shortFormOpt.get();
+            shortForm.updateThumbnail(thumbnailKey, thumbnailVariants);
+            shortFormRepository.save(shortForm);
+            log.debug("ShortForm 썸네일 업데이트: {} -> {}", videoKey, thumbnailKey);
+        } else {
+            log.warn("ShortForm을 찾을 수 없음 (썸네일 업데이트): {}", videoKey);
         }
     }
 
     @Transactional
-    public void updateShortFormThumbnail(String videoKey, String thumbnailKey) {
+    public void updateVideoMetadata(String videoKey, VideoProbe probe) {
         Optional<ShortForm> shortFormOpt = shortFormRepository.findByVideoKey(videoKey);
         if (shortFormOpt.isPresent()) {
             ShortForm shortForm = shortFormOpt.get();
-            shortForm.updateThumbnail(thumbnailKey);
+            shortForm.updateVideoMetadata(probe);
             shortFormRepository.save(shortForm);
-            log.debug("ShortForm 썸네일 업데이트: {} -> {}", videoKey, thumbnailKey);
+            log.debug("ShortForm 비디오 메타데이터 업데이트: {} -> {}", videoKey, probe);
         } else {
-            log.warn("ShortForm을 찾을 수 없음 (썸네일 업데이트): {}", videoKey);
+            log.warn("ShortForm을 찾을 수 없음 (메타데이터 업데이트): {}", videoKey);
         }
     }
 
     /**
-     * 모든 썸네일이 없는 비디오에 대해 썸네일 생성
+     * 썸네일이 없거나 종류별 썸네일/미리보기가 없는 비디오에 대해 썸네일 생성
+     * 일괄 생성 대기열에 넣으며, 대기열이 가득 차면 자리가 날 때까지 기다립니다 (업로드 썸네일이 먼저 실행됨).
      */
     @Async
-    @Transactional(readOnly = true)
     public CompletableFuture<Integer> generateMissingThumbnails() {
         log.info("누락된 썸네일 생성 작업 시작");
         
-        List<ShortForm> shortFormsWithoutThumbnail = shortFormRepository.findByThumbnailKeyIsNull();
+        List<ShortForm> shortFormsWithoutThumbnail = shortFormRepository.findByThumbnailKeyIsNullOrThumbnailVariantsIsNull();
         log.info("썸네일이 없는 ShortForm 개수: {}", shortFormsWithoutThumbnail.size());
         
-        int generatedCount = 0;
+        int queuedCount = 0;
         for (ShortForm shortForm : shortFormsWithoutThumbnail) {
             try {
-                generateThumbnailIfNotExists(shortForm.getVideoKey());
-                generatedCount++;
+                eventPublisher.publishEvent(
+                        new ThumbnailRequestedEvent(shortForm.getVideoKey(), ThumbnailExecutionEngine.Lane.BACKFILL, true));
+                queuedCount++;
+            } catch (Exception e) {
+                log.error("썸네일 생성 요청 실패: {} - {}", shortForm.getVideoKey(), e.getMessage());
+            }
+        }
+        
+        log.info("누락된 썸네일 생성 작업 제출 완료 - {}개", queuedCount);
+        return CompletableFuture.completedFuture(queuedCount);
+    }
+
+    /**
+     * 비디오 메타데이터(길이, 해상도, 코덱, 비트레이트, moov 위치)가 없는 기존 숏폼을 일괄 처리
+     * 썸네일이 없는 숏폼은 썸네일 생성 시 함께 읽으므로 썸네일 작업을, 있으면 헤더만 읽는 작업을 일괄 대기열에 넣습니다.
+     */
+    @Async
+    public CompletableFuture<Integer> probeMissingMetadata() {
+        log.info("누락된 비디오 메타데이터 수집 작업 시작");
+        
+        List<ShortForm> shortFormsWithoutMetadata = shortFormRepository.findByProbedAtIsNull();
+        log.info("메타데이터가 없는 ShortForm 개수: {}", shortFormsWithoutMetadata.size());
+        
+        int queuedCount = 0;
+        for (ShortForm shortForm : shortFormsWithoutMetadata) {
+            String videoKey = shortForm.getVideoKey();
+            if (videoKey == null) {
+                continue;
+            }
+            try {
+                if (shortForm.getThumbnailKey() == null || shortForm.getThumbnailVariants() == null) {
+                    eventPublisher.publishEvent(new ThumbnailRequestedEvent(videoKey, ThumbnailExecutionEngine.Lane.BACKFILL, true));
+                } else {
+                    awsS3Service.probeVideo(videoKey, ThumbnailExecutionEngine.Lane.BACKFILL);
+                }
+                queuedCount++;
             } catch (Exception e) {
-                log.error("썸네일 생성 실패: {} - {}", shortForm.getVideoKey(), e.getMessage());
+                log.error("메타데이터 수집 요청 실패: {} - {}", videoKey, e.getMessage());
             }
         }
         
-        log.info("누락된 썸네일 생성 작업 완료 - {}개 생성", generatedCount);
-        return CompletableFuture.completedFuture(generatedCount);
+        log.info("누락된 비디오 메타데이터 수집 작업 제출 완료 - {}개", queuedCount);
+        return CompletableFuture.completedFuture(queuedCount);
     }
 
     /**
@@ -1,31 +1,45 @@
 package com.xhackathon.server.domain.shortform.service;
 
+import com.xhackathon.server.common.pagination.KeysetCursor;
 import com.xhackathon.server.domain.shortform.dto.request.ShortFormCreateRequest;
+import com.xhackathon.server.domain.shortform.dto.request.ShortFormPresignBatchRequest;
 import com.xhackathon.server.domain.shortform.dto.request.ShortFormUploadUrlRequest;
 import com.xhackathon.server.domain.shortform.dto.response.*;
 import com.xhackathon.server.domain.shortform.entity.ShortFormAiStatus;
 import com.xhackathon.server.domain.shortform.entity.ShortFormStatus;
 import com.xhackathon.server.domain.shortform.entity.ShortForm;
 import com.xhackathon.server.domain.shortform.entity.ShortFormAi;
+import com.xhackathon.server.domain.shortform.event.ShortFormCreatedEvent;
+import com.xhackathon.server.domain.shortform.event.ThumbnailRequestedEvent;
+import com.xhackathon.server.domain.shortform.media.ThumbnailPreference;
 import com.xhackathon.server.domain.shortform.repository.ShortFormRepository;
 import com.xhackathon.server.domain.shortform.repository.ShortFormAiRepository;
-import com.xhackathon.server.domain.user.entity.User;
-import com.xhackathon.server.domain.user.repository.UserRepository;
-import com.xhackathon.server.domain.follow.repository.FollowRepository;
+import com.xhackathon.server.domain.shortform.search.FullTextIndex;
+import com.xhackathon.server.domain.shortform.search.TagIndex;
+import com.xhackathon.server.domain.shortform.search.TagQuery;
+import com.xhackathon.server.domain.trend.service.TagTrendService;
+import com.xhackathon.server.domain.user.service.UserProfile;
+import com.xhackathon.server.domain.user.service.UserProfileCache;
+import com.xhackathon.server.domain.follow.service.FollowMembershipService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Propagation;
 
 import java.net.URL;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Base64;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Async;
 import lombok.NonNull;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -34,14 +48,27 @@ import java.util.concurrent.locks.ReentrantLock;
 @RequiredArgsConstructor
 public class ShortFormService {
     
+    // 일괄 서명 요청당 최대 키 개수
+    private static final int MAX_PRESIGN_BATCH_SIZE = 200;
+    // 일괄 서명을 허용하는 키 경로 (썸네일/미리보기는 videos/ 아래 비디오 키 옆에 저장됨)
+    private static final List<String> DOWNLOADABLE_PREFIXES = List.of("videos/", "thumbnails/", "profiles/");
+    private static final List<String> UPLOADABLE_PREFIXES = List.of("videos/", "profiles/");
+
     // ShortForm DB 업데이트를 위한 락 맵 (shortFormId별 락)
     private final ConcurrentHashMap<Long, ReentrantLock> shortFormUpdateLocks = new ConcurrentHashMap<>();
 
     private final ShortFormRepository shortFormRepository;
     private final AwsS3Service awsS3Service;
     private final ShortFormAiRepository shortFormAiRepository;
-    private final UserRepository userRepository;
-    private final FollowRepository followRepository;
+    private final UserProfileCache userProfileCache;
+    private final FollowMembershipService followMembershipService;
+    private final FeedHydrationService feedHydrationService;
+    private final SummaryIngestionService summaryIngestionService;
+    private final FeedFirstPageCache feedFirstPageCache;
+    private final TagIndex tagIndex;
+    private final FullTextIndex fullTextIndex;
+    private final TagTrendService tagTrendService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public ShortFormUploadUrlResponse createUploadUrl(ShortFormUploadUrlRequest req) {
@@ -53,6 +80,44 @@ public class ShortFormService {
         return new ShortFormUploadUrlResponse(uploadUrl.toString(), videoKey);
     }
 
+    /**
+     * 여러 객체 키에 대한 Pre-signed URL 일괄 발급
+     * GET은 미디어 경로(videos/, thumbnails/, profiles/), PUT은 업로드 경로(videos/, profiles/) 아래 키만 허용합니다.
+     */
+    public ShortFormPresignBatchResponse presignBatch(ShortFormPresignBatchRequest req) {
+        List<String> keys = req.getKeys();
+        if (keys == null || keys.isEmpty()) {
+            throw new IllegalArgumentException("서명할 키가 없습니다.");
+        }
+        if (keys.size() > MAX_PRESIGN_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 서명할 수 있는 키는 최대 " + MAX_PRESIGN_BATCH_SIZE + "개입니다.");
+        }
+
+        String method = req.getMethod() == null ? "GET" : req.getMethod().toUpperCase();
+        switch (method) {
+            case "GET":
+                requireAllowedKeys(keys, DOWNLOADABLE_PREFIXES, "다운로드할 수 없는 키입니다: ");
+                return new ShortFormPresignBatchResponse(method, awsS3Service.generateDownloadUrls(keys));
+            case "PUT":
+                if (req.getMimeType() == null || req.getMimeType().isBlank()) {
+                    throw new IllegalArgumentException("PUT 서명에는 mimeType이 필요합니다.");
+                }
+                requireAllowedKeys(keys, UPLOADABLE_PREFIXES, "업로드할 수 없는 키입니다: ");
+                return new ShortFormPresignBatchResponse(method,
+                        awsS3Service.generatePresignedUploadUrls(keys, req.getMimeType()));
+            default:
+                throw new IllegalArgumentException("지원하지 않는 method입니다: " + req.getMethod());
+        }
+    }
+
+    private static void requireAllowedKeys(List<String> keys, List<String> prefixes, String message) {
+        for (String key : keys) {
+            if (key == null || prefixes.stream().noneMatch(key::startsWith)) {
+                throw new IllegalArgumentException(message + key);
+            }
+        }
+    }
+
     @Transactional
     public ShortFormResponse createShortForm(ShortFormCreateRequest req) {
 
@@ -67,8 +132,11 @@ public class ShortFormService {
 
         ShortForm saved = shortFormRepository.save(shortForm);
 
-        // 썸네일 생성 비동기 처리 (ID만 전달)
-        generateThumbnailAsync(saved.getId(), saved.getVideoKey());
+        // 커밋 후 팔로워 타임라인 fan-out
+        eventPublisher.publishEvent(new ShortFormCreatedEvent(saved.getId(), saved.getOwnerPid(), saved.getCreatedAt()));
+
+        // 커밋 후 썸네일 생성 (업로드 대기열)
+        eventPublisher.publishEvent(new ThumbnailRequestedEvent(saved.getVideoKey(), ThumbnailExecutionEngine.Lane.UPLOAD));
         
         // AI 처리 시작 (ID만 전달)
         startAiProcessingAsync(saved.getId(), saved.getVideoKey());
@@ -80,31 +148,30 @@ public class ShortFormService {
     }
 
     @Transactional(readOnly = true)
-    public ShortFormDetailResponse getDetail(@NonNull Long shortFormId) {
+    public CompletableFuture<ShortFormDetailResponse> getDetail(@NonNull Long shortFormId) {
+        return getDetail(shortFormId, ThumbnailPreference.DEFAULT);
+    }
+
+    /**
+     * 숏폼 상세 (요약을 S3에서 채우는 중인 숏폼이면 기다리지 않고 그 결과에 이어서 응답을 만듦)
+     */
+    @Transactional(readOnly = true)
+    public CompletableFuture<ShortFormDetailResponse> getDetail(@NonNull Long shortFormId, ThumbnailPreference thumbnailPreference) {
 
         ShortForm sf = shortFormRepository.findById(shortFormId)
                 .orElseThrow(() -> new IllegalArgumentException("ShortForm not found"));
 
-        try {
-            // Summary에서 상세 정보 추출
-            String summary = awsS3Service.getSummaryFromSummary(sf.getVideoKey());
-            String transcript = awsS3Service.getTranscriptFromSummary(sf.getVideoKey());
-            
-            // 비디오 및 썸네일 URL 생성
-            String videoUrl = awsS3Service.generateVideoUrl(sf.getVideoKey());
-            String thumbnailUrl = awsS3Service.getThumbnailUrl(sf.getThumbnailKey());
+        // 비디오 및 썸네일/미리보기 URL 생성
+        String videoUrl = awsS3Service.generateVideoUrl(sf.getVideoKey());
+        String thumbnailUrl = awsS3Service.getThumbnailUrl(sf.thumbnailKeyFor(thumbnailPreference));
+        String previewUrl = awsS3Service.getThumbnailUrl(sf.previewKeyFor(thumbnailPreference));
 
-            return ShortFormDetailResponse.of(sf, summary, transcript, videoUrl, thumbnailUrl);
-            
-        } catch (Exception e) {
-            log.warn("Summary 파일 읽기 실패, 기본 정보만 반환: {} - {}", sf.getVideoKey(), e.getMessage());
-            
-            // Summary 파일이 없거나 읽을 수 없는 경우 기본 정보만 반환
-            String videoUrl = awsS3Service.generateVideoUrl(sf.getVideoKey());
-            String thumbnailUrl = awsS3Service.getThumbnailUrl(sf.getThumbnailKey());
-            
-            return ShortFormDetailResponse.of(sf, "", "", videoUrl, thumbnailUrl);
-        }
+        // 저장된 AI 결과 조회 (DB에 없을 때만 S3 summary 파일로 채움)
+        return summaryIngestionService.findOrBackfillAsync(sf).thenApply(ai -> {
+            String summary = ai.map(ShortFormAi::getSummary).orElse("");
+            String transcript = ai.map(ShortFormAi::getTranscript).orElse("");
+            return ShortFormDetailResponse.of(sf, summary, transcript, videoUrl, thumbnailUrl, previewUrl);
+        });
     }
 
     @Transactional(readOnly = true)
@@ -114,21 +181,28 @@ public class ShortFormService {
     
     @Transactional(readOnly = true)
     public ShortFormReelsResponse getReelsDetail(@NonNull Long shortFormId, String currentUserPid) {
+        return getReelsDetail(shortFormId, currentUserPid, ThumbnailPreference.DEFAULT);
+    }
+
+    @Transactional(readOnly = true)
+    public ShortFormReelsResponse getReelsDetail(@NonNull Long shortFormId, String currentUserPid,
+                                                 ThumbnailPreference thumbnailPreference) {
         ShortForm sf = shortFormRepository.findById(shortFormId)
                 .orElseThrow(() -> new IllegalArgumentException("ShortForm not found"));
 
         OwnerInfo owner = getOwnerInfo(sf.getOwnerPid(), currentUserPid);
         
-        // 비디오 URL 및 썸네일 URL 생성
+        // 비디오 URL 및 썸네일/미리보기 URL 생성
         String videoUrl = awsS3Service.generateVideoUrl(sf.getVideoKey());
-        String thumbnailUrl = awsS3Service.getThumbnailUrl(sf.getThumbnailKey());
+        String thumbnailUrl = awsS3Service.getThumbnailUrl(sf.thumbnailKeyFor(thumbnailPreference));
+        String previewUrl = awsS3Service.getThumbnailUrl(sf.previewKeyFor(thumbnailPreference));
         
         // AI 처리 상태 조회
         Optional<ShortFormAi> aiOpt = shortFormAiRepository.findByShortFormId(shortFormId);
         String summary = aiOpt.map(ShortFormAi::getSummary).orElse("");
         ShortFormAiStatus aiStatus = aiOpt.map(ShortFormAi::getStatus).orElse(ShortFormAiStatus.PENDING);
 
-        return ShortFormReelsResponse.of(sf, owner, videoUrl, thumbnailUrl, summary, aiStatus);
+        return ShortFormReelsResponse.of(sf, owner, videoUrl, thumbnailUrl, previewUrl, summary, aiStatus);
     }
 
     @Transactional(readOnly = true)
@@ -138,18 +212,19 @@ public class ShortFormService {
     
     @Transactional(readOnly = true)
     public ShortFormFeedResponse getFeed(String pageParam, int size, String currentUserPid) {
-        Pageable pageable = PageRequest.of(0, size + 1); // 하나 더 가져와서 다음 페이지 존재 확인
-        
-        List<ShortForm> shortForms;
-        if (pageParam == null) {
-            // 첫 페이지
-            shortForms = shortFormRepository.findAllByOrderByCreatedAtDesc(pageable);
-        } else {
-            // 커서 기반 페이징
-            Long cursorId = decodeCursor(pageParam);
-            shortForms = shortFormRepository.findByIdLessThanOrderByCreatedAtDesc(cursorId, pageable);
+        return getFeed(pageParam, size, currentUserPid, ThumbnailPreference.DEFAULT);
+    }
+
+    @Transactional(readOnly = true)
+    public ShortFormFeedResponse getFeed(String pageParam, int size, String currentUserPid,
+                                         ThumbnailPreference thumbnailPreference) {
+        if (pageParam == null && thumbnailPreference.isDefault() && feedFirstPageCache.supports(size)) {
+            // 첫 페이지는 캐시에서 (팔로우 여부만 조회자 기준으로 적용, 기본 썸네일 기준으로 만든 캐시)
+            return feedFirstPageCache.getFirstPage(size, currentUserPid);
         }
 
+        List<ShortForm> shortForms = findFeedRows(pageParam, size + 1); // 하나 더 가져와서 다음 페이지 존재 확인
+
         boolean hasNextPage = shortForms.size() > size;
         if (hasNextPage) {
             shortForms = shortForms.subList(0, size); // 마지막 항목 제거
@@ -158,45 +233,47 @@ public class ShortFormService {
         log.debug("=== Feed 데이터 생성 시작 ===");
         log.debug("처리할 ShortForm 개수: {}", shortForms.size());
         
-        List<ShortFormReelsResponse> data = shortForms.stream()
-                .<ShortFormReelsResponse>map(sf -> {
-                    try {
-                        OwnerInfo owner = getOwnerInfo(sf.getOwnerPid(), currentUserPid);
-                        String videoUrl = awsS3Service.generateVideoUrl(sf.getVideoKey());
-                        String thumbnailUrl = awsS3Service.getThumbnailUrl(sf.getThumbnailKey());
-                        
-                        Optional<ShortFormAi> aiOpt = shortFormAiRepository.findByShortFormId(sf.getId());
-                        String summary = aiOpt.map(ShortFormAi::getSummary).orElse("");
-                        ShortFormAiStatus aiStatus = aiOpt.map(ShortFormAi::getStatus).orElse(ShortFormAiStatus.PENDING);
-                        
-                        return ShortFormReelsResponse.of(sf, owner, videoUrl, thumbnailUrl, summary, aiStatus);
-                    } catch (Exception e) {
-                        log.error("Feed 항목 처리 실패 (ShortForm ID: {}): {}", sf.getId(), e.getMessage());
-                        // 에러 발생 시 기본값으로 처리
-                        OwnerInfo defaultOwner = OwnerInfo.of(0L, "Unknown", null, false);
-                        String videoUrl = awsS3Service.generateVideoUrl(sf.getVideoKey());
-                        String thumbnailUrl = awsS3Service.getThumbnailUrl(sf.getThumbnailKey());
-                        return ShortFormReelsResponse.of(sf, defaultOwner, videoUrl, thumbnailUrl, "", ShortFormAiStatus.PENDING);
-                    }
-                })
-                .filter(response -> response.getVideoUrl() != null) // 비디오 URL이 없는 항목 제외
-                .toList();
+        List<ShortFormReelsResponse> data = feedHydrationService.hydrate(shortForms, currentUserPid, thumbnailPreference);
 
-        String nextPageParam = hasNextPage && !data.isEmpty() ? encodeCursor(shortForms.get(shortForms.size() - 1).getId()) : null;
+        String nextPageParam = hasNextPage && !data.isEmpty() ? encodeCursor(shortForms.get(shortForms.size() - 1)) : null;
 
         return ShortFormFeedResponse.of(data, nextPageParam, hasNextPage);
     }
 
+    /**
+     * 피드 순서(created_at DESC, id DESC)로 커서 다음의 숏폼을 limit개 조회
+     */
     @Transactional(readOnly = true)
-    public ShortFormFeedResponse searchByTag(String tag, String pageParam, int size, String currentUserPid) {
+    public List<ShortForm> findFeedRows(String pageParam, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        KeysetCursor cursor = resolveCursor(pageParam);
+        if (cursor == null) {
+            // 첫 페이지
+            return shortFormRepository.findFeedFirstPage(pageable);
+        }
+        // (created_at, id) 키셋 페이징
+        return shortFormRepository.findFeedPageBefore(cursor.createdAt(), cursor.id(), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public ShortFormFeedResponse searchByTag(String tag, String pageParam, int size, String currentUserPid,
+                                             ThumbnailPreference thumbnailPreference) {
         Pageable pageable = PageRequest.of(0, size + 1);
         
         List<ShortForm> shortForms;
-        if (pageParam == null) {
-            shortForms = shortFormRepository.findByTagContaining(tag, pageable);
+        KeysetCursor cursor = resolveCursor(pageParam);
+        if (cursor == null) {
+            tagTrendService.recordSearch(tag); // 첫 페이지 조회만 검색으로 집계
+        }
+        // 태그 검색은 색인과 DB 모두 id 내림차순 (커서의 id만 사용)
+        Optional<List<Long>> indexedIds = tagIndex.findIds(tag, cursor == null ? null : cursor.id(), size + 1);
+        if (indexedIds.isPresent()) {
+            // 태그 역색인에서 id를 찾고 숏폼만 PK로 조회
+            shortForms = findAllInOrder(indexedIds.get());
+        } else if (cursor == null) {
+            shortForms = shortFormRepository.findByTagFirstPage(tag, pageable);
         } else {
-            Long cursorId = decodeCursor(pageParam);
-            shortForms = shortFormRepository.findByTagContainingAndIdLessThan(tag, cursorId, pageable);
+            shortForms = shortFormRepository.findByTagPageBefore(tag, cursor.id(), pageable);
         }
 
         boolean hasNextPage = shortForms.size() > size;
@@ -204,120 +281,128 @@ public class ShortFormService {
             shortForms = shortForms.subList(0, size);
         }
 
-        List<ShortFormReelsResponse> data = shortForms.stream()
-                .<ShortFormReelsResponse>map(sf -> {
-                    try {
-                        OwnerInfo owner = getOwnerInfo(sf.getOwnerPid(), currentUserPid);
-                        String videoUrl = awsS3Service.generateVideoUrl(sf.getVideoKey());
-                        String thumbnailUrl = awsS3Service.getThumbnailUrl(sf.getThumbnailKey());
-                        
-                        Optional<ShortFormAi> aiOpt = shortFormAiRepository.findByShortFormId(sf.getId());
-                        String summary = aiOpt.map(ShortFormAi::getSummary).orElse("");
-                        ShortFormAiStatus aiStatus = aiOpt.map(ShortFormAi::getStatus).orElse(ShortFormAiStatus.PENDING);
-                        
-                        return ShortFormReelsResponse.of(sf, owner, videoUrl, thumbnailUrl, summary, aiStatus);
-                    } catch (Exception e) {
-                        log.error("검색 항목 처리 실패 (ShortForm ID: {}): {}", sf.getId(), e.getMessage());
-                        // 에러 발생 시 기본값으로 처리
-                        OwnerInfo defaultOwner = OwnerInfo.of(0L, "Unknown", null, false);
-                        String videoUrl = awsS3Service.generateVideoUrl(sf.getVideoKey());
-                        String thumbnailUrl = awsS3Service.getThumbnailUrl(sf.getThumbnailKey());
-                        return ShortFormReelsResponse.of(sf, defaultOwner, videoUrl, thumbnailUrl, "", ShortFormAiStatus.PENDING);
-                    }
-                })
-                .filter(response -> response.getVideoUrl() != null) // 비디오 URL이 없는 항목 제외
-                .toList();
+        List<ShortFormReelsResponse> data = feedHydrationService.hydrate(shortForms, currentUserPid, thumbnailPreference);
 
-        String nextPageParam = hasNextPage && !data.isEmpty() ? encodeCursor(shortForms.get(shortForms.size() - 1).getId()) : null;
+        String nextPageParam = hasNextPage && !data.isEmpty() ? encodeCursor(shortForms.get(shortForms.size() - 1)) : null;
 
         return ShortFormFeedResponse.of(data, nextPageParam, hasNextPage);
     }
 
-    private Long decodeCursor(String cursor) {
-        try {
-            return Long.parseLong(new String(Base64.getDecoder().decode(cursor)));
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Invalid cursor");
+    /**
+     * 태그 자동완성 - 태그 역색인의 트라이에서 조회 (DB 조회 없음)
+     */
+    public TagSuggestResponse suggestTags(String prefix, int limit) {
+        return TagSuggestResponse.of(prefix, tagIndex.suggest(prefix, limit));
+    }
+
+    /**
+     * 태그 불리언 검색 (AND/OR/NOT) - 태그 역색인의 비트맵 연산으로 평가
+     * 단일 태그 검색과 같이 id 내림차순이며, 커서의 id만 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    public ShortFormFeedResponse searchByTagQuery(String query, String pageParam, int size, String currentUserPid,
+                                                  ThumbnailPreference thumbnailPreference) {
+        TagQuery tagQuery = TagQuery.parse(query);
+        KeysetCursor cursor = resolveCursor(pageParam);
+        if (cursor == null) {
+            tagTrendService.recordSearches(tagQuery.positiveTags());
         }
+
+        List<Long> ids = tagIndex.findIds(tagQuery, cursor == null ? null : cursor.id(), size + 1)
+                .orElseThrow(() -> new IllegalStateException("태그 색인을 준비 중입니다. 잠시 후 다시 시도해주세요."));
+        log.debug("태그 불리언 검색 - query: {}, 조회: {}개", tagQuery, ids.size());
+
+        List<ShortForm> shortForms = findAllInOrder(ids);
+        boolean hasNextPage = shortForms.size() > size;
+        if (hasNextPage) {
+            shortForms = shortForms.subList(0, size);
+        }
+
+        List<ShortFormReelsResponse> data = feedHydrationService.hydrate(shortForms, currentUserPid, thumbnailPreference);
+
+        String nextPageParam = hasNextPage && !data.isEmpty() ? encodeCursor(shortForms.get(shortForms.size() - 1)) : null;
+
+        return ShortFormFeedResponse.of(data, nextPageParam, hasNextPage);
+    }
+
+    /**
+     * AI 요약/자막 전문 검색 (BM25 점수순)
+     */
+    @Transactional(readOnly = true)
+    public ShortFormFeedResponse searchByText(String query, String pageParam, int size, String currentUserPid,
+                                              ThumbnailPreference thumbnailPreference) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어가 비어 있습니다.");
+        }
+        if (!fullTextIndex.isReady()) {
+            throw new IllegalStateException("전문 검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        FullTextIndex.Hit after = pageParam == null ? null : FullTextIndex.Hit.decode(pageParam);
+        List<FullTextIndex.Hit> hits = fullTextIndex.search(query, after, size + 1);
+
+        boolean hasNextPage = hits.size() > size;
+        if (hasNextPage) {
+            hits = hits.subList(0, size);
+        }
+
+        List<ShortForm> shortForms = findAllInOrder(hits.stream().map(FullTextIndex.Hit::shortFormId).toList());
+        List<ShortFormReelsResponse> data = feedHydrationService.hydrate(shortForms, currentUserPid, thumbnailPreference);
+
+        String nextPageParam = hasNextPage ? hits.get(hits.size() - 1).encode() : null;
+
+        return ShortFormFeedResponse.of(data, nextPageParam, hasNextPage);
     }
 
-    private String encodeCursor(Long id) {
-        return Base64.getEncoder().encodeToString(id.toString().getBytes());
+    private List<ShortForm> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ShortForm> byId = shortFormRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(ShortForm::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * pageParam을 (created_at, id) 커서로 변환
+     * 이전 형식(id만 있는 커서)은 해당 숏폼의 created_at으로 보완합니다.
+     */
+    private KeysetCursor resolveCursor(String pageParam) {
+        if (pageParam == null) {
+            return null;
+        }
+        KeysetCursor cursor = KeysetCursor.decode(pageParam);
+        if (!cursor.isLegacy()) {
+            return cursor;
+        }
+        return shortFormRepository.findById(cursor.id())
+                .map(sf -> KeysetCursor.of(sf.getCreatedAt(), sf.getId()))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid cursor"));
+    }
+
+    private String encodeCursor(ShortForm last) {
+        return KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
     }
     
     private OwnerInfo getOwnerInfo(String ownerPid, String currentUserPid) {
-        User owner = userRepository.findByPid(ownerPid)
+        UserProfile owner = userProfileCache.get(ownerPid)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + ownerPid));
         
         // 팔로우 상태 확인
-        boolean isFollowed = false;
-        if (currentUserPid != null && !currentUserPid.equals(ownerPid)) {
-            isFollowed = followRepository.findByFollowerPidAndFolloweePid(currentUserPid, ownerPid)
-                    .isPresent();
-        }
+        boolean isFollowed = currentUserPid != null && !currentUserPid.equals(ownerPid)
+                && followMembershipService.isFollowing(currentUserPid, ownerPid);
         
         return OwnerInfo.of(
-                Long.valueOf(owner.getPid().hashCode()), // 임시 ID 생성
-                owner.getDisplayName(),
-                owner.getProfileImageUrl(),
+                Long.valueOf(owner.pid().hashCode()), // 임시 ID 생성
+                owner.displayName(),
+                owner.profileImageUrl(),
                 isFollowed
         );
     }
     
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void generateThumbnailAsync(@NonNull Long shortFormId, String videoKey) {
-        String thumbnailKey = awsS3Service.generateThumbnailKey(videoKey);
-        
-        try {
-            // 1. 썸네일 실제 생성 (S3 업로드까지 완료)
-            boolean thumbnailGenerated = awsS3Service.generateThumbnail(videoKey);
-            
-            if (thumbnailGenerated) {
-                // 2. 썸네일 생성 성공 시에만 DB 업데이트
-                updateThumbnailInDatabase(shortFormId, thumbnailKey);
-                log.info("썸네일 생성 완료: {} -> {}", videoKey, thumbnailKey);
-            } else {
-                log.warn("썸네일 생성 실패: {}", videoKey);
-            }
-            
-        } catch (Exception e) {
-            log.error("썸네일 생성 중 오류: {} - {}", videoKey, e.getMessage(), e);
-            // 필요시 재시도 로직 추가 가능
-        }
-    }
-    
-    @Transactional
-    public void updateThumbnailInDatabase(@NonNull Long shortFormId, String thumbnailKey) {
-        // shortFormId별 락 획득
-        ReentrantLock lock = shortFormUpdateLocks.computeIfAbsent(shortFormId, k -> new ReentrantLock());
-        
-        lock.lock();
-        try {
-            ShortForm shortForm = shortFormRepository.findById(shortFormId)
-                    .orElseThrow(() -> new IllegalArgumentException("ShortForm not found: " + shortFormId));
-            
-            // 이미 썸네일이 설정되어 있다면 스킵
-            if (shortForm.getThumbnailKey() != null) {
-                log.debug("썸네일이 이미 설정되어 있음: {} -> {}", shortFormId, shortForm.getThumbnailKey());
-                return;
-            }
-            
-            shortForm.updateThumbnail(thumbnailKey);
-            shortFormRepository.save(shortForm);
-            log.info("썸네일 DB 업데이트 완료: {} -> {}", shortFormId, thumbnailKey);
-        } finally {
-            lock.unlock();
-            // 안전한 락 정리
-            shortFormUpdateLocks.computeIfPresent(shortFormId, (key, existingLock) -> {
-                if (existingLock == lock && !lock.hasQueuedThreads()) {
-                    return null;
-                }
-                return existingLock;
-            });
-        }
-    }
-    
     @Async
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void startAiProcessingAsync(@NonNull Long shortFormId, String videoKey) {
@@ -383,12 +468,17 @@ public class ShortFormService {
     
     /**
      * S3 Summary 파일에서 태그 정보를 비동기로 업데이트
+     * summary 파일이 이미 있으면 요약/자막도 함께 DB에 저장됩니다.
      */
     @Async
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void updateTagsFromSummaryAsync(@NonNull Long shortFormId, String videoKey) {
         try {
-            List<String> tags = awsS3Service.extractTagsFromSummary(videoKey);
+            ShortForm shortForm = shortFormRepository.findById(shortFormId)
+                    .orElseThrow(() -> new IllegalArgumentException("ShortForm not found: " + shortFormId));
+            List<String> tags = summaryIngestionService.findOrBackfill(shortForm)
+                    .map(summaryIngestionService::keywords)
+                    .orElse(List.of());
             
             if (!tags.isEmpty()) {
                 log.info("Summary에서 태그 추출 성공: {} - 태그 개수: {}", videoKey, tags.size());
@@ -0,0 +1,28 @@
+package com.xhackathon.server.domain.shortform.service;
+
+import java.util.List;
+
+/**
+ * 파싱한 S3 summary/summary_*.json
+ *
+ * @param raw        원본 JSON (파일이 없으면 null)
+ * @param summary    summary 필드 (없으면 빈 문자열)
+ * @param transcript transcript 필드 (없으면 빈 문자열)
+ * @param keywords   keywords → tags → extraJson.keywords 순으로 찾은 태그
+ */
+public record SummaryDocument(String raw, String summary, String transcript, List<String> keywords) {
+
+    // 파일 없음 (부정 캐시용)
+    public static final SummaryDocument MISSING = new SummaryDocument(null, "", "", List.of());
+
+    public boolean exists() {
+        return raw != null;
+    }
+
+    /**
+     * 캐시 용량 계산용 크기 (문자 수, 대부분 transcript와 원본 JSON)
+     */
+    long weight() {
+        return (raw != null ? raw.length() : 0) + summary.length() + transcript.length();
+    }
+}
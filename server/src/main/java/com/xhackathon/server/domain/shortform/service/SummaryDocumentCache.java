@@ -0,0 +1,178 @@
+package com.xhackathon.server.domain.shortform.service;
+
+import com.xhackathon.server.common.concurrent.SingleFlight;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * videoKey별 파싱된 summary 문서 캐시 (read-through)
+ *
+ * - 전체 크기(문자 수) 합이 maxWeight를 넘으면 가장 오래 사용하지 않은 문서부터 제거합니다.
+ *   크기는 대부분 transcript와 원본 JSON이 차지합니다.
+ * - 파일이 없는 경우도 negativeTtl 동안 캐시해 반복 조회를 막습니다. S3 오류는 캐시하지 않습니다.
+ * - 같은 videoKey를 동시에 요청하면 한 스레드만 S3에서 읽고, 나머지는 그 읽기가 끝나길 기다려 결과를 함께 받습니다.
+ *   상세 조회는 SummaryIngestionService.findOrBackfillAsync에서 합쳐지므로 요청 스레드가 여기서 기다리지 않습니다.
+ * - AI 결과가 새로 저장되면 invalidate로 해당 문서를 제거합니다.
+ *   S3에서 읽는 도중 무효화가 일어나면 읽은 결과는 캐시하지 않습니다.
+ */
+@Slf4j
+@Component
+public class SummaryDocumentCache {
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true); // 접근 순서
+    private final ReentrantLock entriesLock = new ReentrantLock();
+    private final SingleFlight<String, SummaryDocument> loadFlight = new SingleFlight<>();
+    // 무효화할 때마다 증가 (읽기 시작 시점과 다르면 저장하지 않음)
+    private final AtomicLong version = new AtomicLong();
+    private long totalWeight;
+
+    private final long maxWeight;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SummaryDocumentCache(
+            @Value("${app.s3.summary-cache.max-weight-chars:20000000}") long maxWeight,
+            @Value("${app.s3.summary-cache.ttl:PT30M}") Duration ttl,
+            @Value("${app.s3.summary-cache.negative-ttl:PT2M}") Duration negativeTtl) {
+        this.maxWeight = maxWeight;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+    }
+
+    /**
+     * 캐시된 문서를 반환하거나, 없으면 loader로 읽어 캐시
+     *
+     * @param loader 파일이 없으면 SummaryDocument.MISSING, S3 오류면 예외
+     */
+    public SummaryDocument get(String videoKey, Function<String, SummaryDocument> loader) {
+        SummaryDocument cached = lookup(videoKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        return loadFlight.execute(videoKey, () -> {
+            // 직전 읽기가 끝나며 저장했을 수 있음
+            SummaryDocument stored = lookup(videoKey);
+            if (stored != null) {
+                return stored;
+            }
+            loads.increment();
+            long loadVersion = version.get();
+            SummaryDocument loaded = loader.apply(videoKey);
+            store(videoKey, loaded, loadVersion);
+            return loaded;
+        });
+    }
+
+    public void invalidate(String videoKey) {
+        version.incrementAndGet();
+        entriesLock.lock();
+        try {
+            Entry removed = entries.remove(videoKey);
+            if (removed != null) {
+                totalWeight -= removed.document().weight();
+            }
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    private SummaryDocument lookup(String videoKey) {
+        entriesLock.lock();
+        try {
+            Entry entry = entries.get(videoKey);
+            if (entry == null) {
+                return null;
+            }
+            if (Instant.now().isAfter(entry.expiresAt())) {
+                entries.remove(videoKey);
+                totalWeight -= entry.document().weight();
+                return null;
+            }
+            if (entry.document().exists()) {
+                hits.increment();
+            } else {
+                negativeHits.increment();
+            }
+            return entry.document();
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    private void store(String videoKey, SummaryDocument document, long loadVersion) {
+        long weight = document.weight();
+        if (weight > maxWeight) {
+            log.info("Summary 문서가 캐시 용량보다 커서 캐시하지 않음 - videoKey: {}, 크기: {}", videoKey, weight);
+            return;
+        }
+        Instant expiresAt = Instant.now().plus(document.exists() ? ttl : negativeTtl);
+
+        entriesLock.lock();
+        try {
+            // 읽는 동안 무효화되었으면 이전 문서일 수 있으므로 저장하지 않음
+            if (version.get() != loadVersion) {
+                return;
+            }
+            Entry previous = entries.put(videoKey, new Entry(document, expiresAt));
+            if (previous != null) {
+                totalWeight -= previous.document().weight();
+            }
+            totalWeight += weight;
+
+            // 가장 오래 사용하지 않은 문서부터 제거
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (totalWeight > maxWeight && iterator.hasNext()) {
+                Map.Entry<String, Entry> eldest = iterator.next();
+                if (eldest.getKey().equals(videoKey)) {
+                    continue;
+                }
+                iterator.remove();
+                totalWeight -= eldest.getValue().document().weight();
+                evictions.increment();
+            }
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        entriesLock.lock();
+        try {
+            stats.put("entries", entries.size());
+            stats.put("weightChars", totalWeight);
+        } finally {
+            entriesLock.unlock();
+        }
+        long hitCount = hits.sum() + negativeHits.sum();
+        long total = hitCount + loads.sum();
+        stats.put("maxWeightChars", maxWeight);
+        stats.put("hits", hits.sum());
+        stats.put("negativeHits", negativeHits.sum());
+        stats.put("loads", loads.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) hitCount / total);
+        stats.put("loadFlight", loadFlight.stats());
+        return stats;
+    }
+
+    private record Entry(SummaryDocument document, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,226 @@
+package com.xhackathon.server.domain.shortform.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xhackathon.server.common.concurrent.SingleFlight;
+import com.xhackathon.server.domain.shortform.entity.ShortForm;
+import com.xhackathon.server.domain.shortform.entity.ShortFormAi;
+import com.xhackathon.server.domain.shortform.entity.ShortFormAiStatus;
+import com.xhackathon.server.domain.shortform.event.ShortFormAiCompletedEvent;
+import com.xhackathon.server.domain.shortform.repository.ShortFormAiRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * AI 요약/자막 저장 (short_form_ai)
+ *
+ * - AI 콜백과 S3 크롤링 결과를 한 번 DB에 저장하고, 상세/기업 페이지/태그 조회는 저장된 행을 읽습니다.
+ * - DONE 행이 없을 때만 S3 summary 파일을 읽어 채웁니다 (backfill). 이후 조회는 S3를 읽지 않습니다.
+ * - 같은 숏폼의 동시 backfill은 한 번만 실행해 short_form_ai 행이 중복 생성되지 않게 합니다.
+ */
+@Slf4j
+@Service
+public class SummaryIngestionService {
+
+    private final ShortFormAiRepository shortFormAiRepository;
+    private final AwsS3Service awsS3Service;
+    private final SummaryDocumentCache summaryDocumentCache;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    // 조회 트랜잭션(readOnly) 안에서 호출되어도 backfill은 별도 트랜잭션으로 저장
+    private final TransactionTemplate backfillTransaction;
+
+    private final SingleFlight<Long, Optional<ShortFormAi>> backfillFlight = new SingleFlight<>();
+    private final LongAdder ingested = new LongAdder();
+    private final LongAdder unchanged = new LongAdder();
+    private final LongAdder backfilled = new LongAdder();
+    private final LongAdder backfillMisses = new LongAdder();
+
+    public SummaryIngestionService(ShortFormAiRepository shortFormAiRepository, AwsS3Service awsS3Service,
+                                   SummaryDocumentCache summaryDocumentCache, ObjectMapper objectMapper,
+                                   ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
+        this.shortFormAiRepository = shortFormAiRepository;
+        this.awsS3Service = awsS3Service;
+        this.summaryDocumentCache = summaryDocumentCache;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.backfillTransaction = new TransactionTemplate(transactionManager);
+        this.backfillTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 요약/자막 저장 (AI 콜백, S3 크롤링 공통)
+     *
+     * @param aiRecord 이미 조회한 행 (null이면 조회 후 없으면 생성)
+     * @return 저장 여부 (DONE 상태에 같은 요약/자막이면 false)
+     */
+    @Transactional
+    public boolean ingest(ShortForm shortForm, ShortFormAi aiRecord, String transcript, String summary, String extraJson) {
+        ShortFormAi record = aiRecord != null ? aiRecord
+                : shortFormAiRepository.findByShortFormId(shortForm.getId())
+                        .orElseGet(() -> ShortFormAi.createPending(shortForm.getId()));
+        String newTranscript = transcript != null ? transcript : "";
+        String newSummary = summary != null ? summary : "";
+
+        if (record.getStatus() == ShortFormAiStatus.DONE
+                && Objects.equals(record.getTranscript(), newTranscript)
+                && Objects.equals(record.getSummary(), newSummary)) {
+            unchanged.increment();
+            return false;
+        }
+
+        record.updateSuccess(newTranscript, newSummary, extraJson);
+        shortFormAiRepository.save(record);
+        eventPublisher.publishEvent(new ShortFormAiCompletedEvent(shortForm.getId(), newSummary, newTranscript));
+        // DB가 원본이 되었으므로 캐시된 S3 문서(파일 없음 포함) 제거
+        summaryDocumentCache.invalidate(shortForm.getVideoKey());
+        ingested.increment();
+        return true;
+    }
+
+    /**
+     * 저장된 요약 조회, DONE 행이 없으면 S3 summary 파일로 채움
+     *
+     * @return S3에도 summary 파일이 없으면 empty
+     */
+    public Optional<ShortFormAi> findOrBackfill(ShortForm shortForm) {
+        Optional<ShortFormAi> stored = findDone(shortForm);
+        return stored.isPresent() ? stored : backfill(shortForm);
+    }
+
+    /**
+     * findOrBackfill과 같지만, 같은 숏폼을 다른 요청이 채우는 중이면 기다리지 않고 그 결과의 future를 반환 (요청 스레드용)
+     */
+    public CompletableFuture<Optional<ShortFormAi>> findOrBackfillAsync(ShortForm shortForm) {
+        Optional<ShortFormAi> stored = findDone(shortForm);
+        if (stored.isPresent()) {
+            return CompletableFuture.completedFuture(stored);
+        }
+        return backfillFlight.submit(shortForm.getId(), () -> loadBackfill(shortForm));
+    }
+
+    private Optional<ShortFormAi> findDone(ShortForm shortForm) {
+        return shortFormAiRepository.findByShortFormId(shortForm.getId())
+                .filter(ai -> ai.getStatus() == ShortFormAiStatus.DONE);
+    }
+
+    /**
+     * 여러 숏폼의 저장된 요약 일괄 조회 (없는 숏폼만 S3 backfill)
+     */
+    public Map<Long, ShortFormAi> findOrBackfill(Collection<ShortForm> shortForms) {
+        List<Long> ids = shortForms.stream().map(ShortForm::getId).distinct().toList();
+        Map<Long, ShortFormAi> result = shortFormAiRepository.findByShortFormIdIn(ids).stream()
+                .filter(ai -> ai.getStatus() == ShortFormAiStatus.DONE)
+                .collect(Collectors.toMap(ShortFormAi::getShortFormId, Function.identity(), (a, b) -> a));
+        for (ShortForm shortForm : shortForms) {
+            if (!result.containsKey(shortForm.getId())) {
+                backfill(shortForm).ifPresent(ai -> result.put(shortForm.getId(), ai));
+            }
+        }
+        return result;
+    }
+
+    private Optional<ShortFormAi> backfill(ShortForm shortForm) {
+        return backfillFlight.execute(shortForm.getId(), () -> loadBackfill(shortForm));
+    }
+
+    /**
+     * S3 summary 파일을 읽어 DB에 저장 (backfillFlight의 leader 스레드에서 실행)
+     */
+    private Optional<ShortFormAi> loadBackfill(ShortForm shortForm) {
+        SummaryDocument document;
+        try {
+            document = awsS3Service.getSummaryDocument(shortForm.getVideoKey());
+        } catch (Exception e) {
+            log.warn("Summary backfill용 S3 읽기 실패: {} - {}", shortForm.getVideoKey(), e.getMessage());
+            return Optional.empty();
+        }
+        if (!document.exists()) {
+            backfillMisses.increment();
+            return Optional.empty();
+        }
+
+        ShortFormAi saved = backfillTransaction.execute(status -> {
+            ShortFormAi record = shortFormAiRepository.findByShortFormId(shortForm.getId())
+                    .orElseGet(() -> ShortFormAi.createPending(shortForm.getId()));
+            ingest(shortForm, record, document.transcript(), document.summary(),
+                    extraJsonFromS3(document.keywords(), null));
+            return record;
+        });
+        backfilled.increment();
+        log.info("S3 summary를 DB로 backfill 완료 - shortFormId: {}", shortForm.getId());
+        return Optional.ofNullable(saved);
+    }
+
+    /**
+     * S3 summary 파일에서 가져온 결과의 extra_json (키워드와 출처)
+     */
+    public String extraJsonFromS3(List<String> keywords, String summaryKey) {
+        Map<String, Object> extra = new LinkedHashMap<>();
+        extra.put("keywords", keywords != null ? keywords : List.of());
+        extra.put("source", "s3");
+        if (summaryKey != null) {
+            extra.put("resultS3Key", summaryKey);
+        }
+        extra.put("processedAt", System.currentTimeMillis());
+        try {
+            return objectMapper.writeValueAsString(extra);
+        } catch (JsonProcessingException e) {
+            log.warn("extraJson 생성 실패, 빈 객체로 대체: {}", e.getMessage());
+            return "{}";
+        }
+    }
+
+    /**
+     * 저장된 extra_json의 키워드 (keywords, 없으면 tags 필드)
+     */
+    public List<String> keywords(ShortFormAi ai) {
+        List<String> keywords = new ArrayList<>();
+        String extraJson = ai.getExtraJson();
+        if (extraJson == null || extraJson.isBlank()) {
+            return keywords;
+        }
+        try {
+            JsonNode root = objectMapper.readTree(extraJson);
+            JsonNode array = root.path("keywords").isArray() ? root.path("keywords") : root.path("tags");
+            if (array.isArray()) {
+                array.forEach(node -> {
+                    if (node.isTextual()) {
+                        keywords.add(node.asText());
+                    }
+                });
+            }
+        } catch (JsonProcessingException e) {
+            log.debug("extraJson 파싱 실패: {}", e.getMessage());
+        }
+        return keywords;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ingested", ingested.sum());
+        stats.put("unchanged", unchanged.sum());
+        stats.put("backfilled", backfilled.sum());
+        stats.put("backfillMisses", backfillMisses.sum());
+        stats.put("backfillFlight", backfillFlight.stats());
+        return stats;
+    }
+}
@@ -0,0 +1,351 @@
+package com.xhackathon.server.domain.shortform.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 썸네일 생성 전용 작업 엔진
+ *
+ * - @Async 기본 풀과 분리된 고정 개수 작업 스레드에서 실행합니다.
+ * - 업로드(UPLOAD)와 일괄 생성(BACKFILL) 두 대기열을 두고, 작업 스레드는 항상 업로드 대기열부터 꺼냅니다.
+ * - 대기열 크기는 제한됩니다. 업로드 대기열이 가득 차면 바로 거절하고(빠진 썸네일은 일괄 생성이 채움),
+ *   일괄 생성은 submit이면 자리가 날 때까지 제출하는 쪽을 기다리게 하고, trySubmit이면 바로 거절합니다.
+ *   요청 스레드에서는 trySubmit만 사용합니다.
+ * - 실패한 시도는 작업 스레드에서 기다리지 않고, 지연 후 같은 대기열에 다시 넣습니다.
+ * - 같은 key가 대기/실행 중이면 새로 넣지 않고 그 결과를 함께 받습니다.
+ *   일괄 생성으로 받은 작업에 업로드 요청이 오면 업로드 대기열로 옮깁니다 (재시도도 업로드 대기열로).
+ */
+@Slf4j
+@Component
+public class ThumbnailExecutionEngine {
+
+    public enum Lane {
+        UPLOAD, BACKFILL
+    }
+
+    private final ReentrantLock queueLock = new ReentrantLock();
+    private final Condition notEmpty = queueLock.newCondition();
+    private final Condition backfillNotFull = queueLock.newCondition();
+    private final ArrayDeque<Task> uploads = new ArrayDeque<>();
+    private final ArrayDeque<Task> backfills = new ArrayDeque<>();
+    // 대기/실행/재시도 대기 중인 작업 (key 기준)
+    private final ConcurrentHashMap<String, Task> tasks = new ConcurrentHashMap<>();
+
+    private final int uploadCapacity;
+    private final int backfillCapacity;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final List<Thread> workers = new ArrayList<>();
+    private final ScheduledExecutorService retryScheduler;
+    private volatile boolean running = true;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder promoted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder runNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong maxRunNanos = new AtomicLong();
+
+    public ThumbnailExecutionEngine(
+            @Value("${app.thumbnail.workers:2}") int workerCount,
+            @Value("${app.thumbnail.upload-queue-capacity:200}") int uploadCapacity,
+            @Value("${app.thumbnail.backfill-queue-capacity:500}") int backfillCapacity,
+            @Value("${app.thumbnail.max-attempts:3}") int maxAttempts,
+            @Value("${app.thumbnail.retry-delay:PT2S}") Duration retryDelay) {
+        this.uploadCapacity = uploadCapacity;
+        this.backfillCapacity = backfillCapacity;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "thumbnail-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 1; i <= workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "thumbnail-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * 썸네일 작업 제출 (일괄 생성 대기열이 가득 차면 자리가 날 때까지 기다림, 일괄 처리 스레드용)
+     *
+     * @param attempt 한 번의 시도 (true면 성공, false나 예외면 재시도)
+     * @return 최종 성공 여부. 업로드 대기열이 가득 차면 RejectedExecutionException으로 완료
+     */
+    public CompletableFuture<Boolean> submit(String key, Lane lane, Supplier<Boolean> attempt) {
+        return submit(key, lane, attempt, true);
+    }
+
+    /**
+     * 기다리지 않는 썸네일 작업 제출 (요청 스레드용)
+     *
+     * @return 최종 성공 여부. 해당 대기열이 가득 차면 RejectedExecutionException으로 완료
+     */
+    public CompletableFuture<Boolean> trySubmit(String key, Lane lane, Supplier<Boolean> attempt) {
+        return submit(key, lane, attempt, false);
+    }
+
+    private CompletableFuture<Boolean> submit(String key, Lane lane, Supplier<Boolean> attempt, boolean waitForSpace) {
+        Task task = new Task(key, lane, attempt);
+        Task existing = tasks.putIfAbsent(key, task);
+        if (existing != null) {
+            coalesced.increment();
+            if (lane == Lane.UPLOAD) {
+                promote(existing);
+            }
+            return existing.future;
+        }
+
+        submitted.increment();
+        try {
+            enqueue(task, waitForSpace);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            tasks.remove(key, task);
+            task.future.completeExceptionally(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tasks.remove(key, task);
+            task.future.completeExceptionally(e);
+        }
+        return task.future;
+    }
+
+    private void enqueue(Task task, boolean waitForSpace) throws InterruptedException {
+        queueLock.lockInterruptibly();
+        try {
+            if (task.lane == Lane.UPLOAD) {
+                if (!running || uploads.size() >= uploadCapacity) {
+                    throw new RejectedExecutionException("썸네일 업로드 대기열이 가득 찼습니다: " + task.key);
+                }
+                uploads.add(task);
+            } else {
+                // 일괄 생성은 자리가 날 때까지 제출하는 쪽이 기다림 (기다리지 않는 제출은 거절)
+                while (running && task.lane == Lane.BACKFILL && backfills.size() >= backfillCapacity) {
+                    if (!waitForSpace) {
+                        throw new RejectedExecutionException("썸네일 일괄 생성 대기열이 가득 찼습니다: " + task.key);
+                    }
+                    backfillNotFull.await();
+                }
+                if (!running) {
+                    throw new RejectedExecutionException("썸네일 작업 엔진이 종료되었습니다.");
+                }
+                (task.lane == Lane.UPLOAD ? uploads : backfills).add(task);
+            }
+            task.enqueuedAt = System.nanoTime();
+            notEmpty.signal();
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * 일괄 생성 작업을 업로드 작업으로 바꿈 (이미 받은 작업이므로 업로드 대기열 용량 제한을 적용하지 않음)
+     *
+     * 대기열에 있으면 바로 옮기고, 실행/재시도 대기 중이거나 아직 넣기 전이면 lane만 바꿔 다음에 넣을 때 반영됩니다.
+     */
+    private void promote(Task task) {
+        queueLock.lock();
+        try {
+            if (task.lane != Lane.BACKFILL) {
+                return;
+            }
+            task.lane = Lane.UPLOAD;
+            promoted.increment();
+            if (backfills.remove(task)) {
+                uploads.add(task);
+            }
+            // 자리를 기다리던 제출은 업로드 대기열로 넣도록 깨움
+            backfillNotFull.signalAll();
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * 재시도 작업을 원래 대기열에 다시 넣음 (이미 받은 작업이므로 용량 제한을 적용하지 않음)
+     */
+    private void requeue(Task task) {
+        queueLock.lock();
+        try {
+            if (!running) {
+                finish(task, false);
+                return;
+            }
+            (task.lane == Lane.UPLOAD ? uploads : backfills).add(task);
+            task.enqueuedAt = System.nanoTime();
+            notEmpty.signal();
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    private Task take() throws InterruptedException {
+        queueLock.lockInterruptibly();
+        try {
+            while (uploads.isEmpty() && backfills.isEmpty()) {
+                notEmpty.await();
+            }
+            if (!uploads.isEmpty()) {
+                return uploads.poll();
+            }
+            backfillNotFull.signal();
+            return backfills.poll();
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            Task task;
+            try {
+                task = take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            execute(task);
+        }
+    }
+
+    private void execute(Task task) {
+        long startedAt = System.nanoTime();
+        record(waitNanos, maxWaitNanos, startedAt - task.enqueuedAt);
+        task.attempts++;
+        active.incrementAndGet();
+
+        boolean success = false;
+        try {
+            success = Boolean.TRUE.equals(task.attempt.get());
+        } catch (Throwable t) {
+            log.warn("썸네일 작업 오류 (시도 {}/{}): {} - {}", task.attempts, maxAttempts, task.key, t.getMessage());
+        } finally {
+            active.decrementAndGet();
+            runs.increment();
+            record(runNanos, maxRunNanos, System.nanoTime() - startedAt);
+        }
+
+        if (success) {
+            finish(task, true);
+        } else if (task.attempts < maxAttempts && running) {
+            retries.increment();
+            log.info("썸네일 작업 재시도 예약 ({}/{}): {} - {}ms 후", task.attempts, maxAttempts, task.key, retryDelay.toMillis());
+            try {
+                retryScheduler.schedule(() -> requeue(task), retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                finish(task, false);
+            }
+        } else {
+            log.error("썸네일 작업 최종 실패 ({}회 시도): {}", task.attempts, task.key);
+            finish(task, false);
+        }
+    }
+
+    private void finish(Task task, boolean success) {
+        (success ? succeeded : failed).increment();
+        tasks.remove(task.key, task);
+        task.future.complete(success);
+    }
+
+    private static void record(LongAdder total, AtomicLong max, long nanos) {
+        total.add(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        retryScheduler.shutdownNow();
+        workers.forEach(Thread::interrupt);
+
+        List<Task> pending = new ArrayList<>();
+        queueLock.lock();
+        try {
+            pending.addAll(uploads);
+            pending.addAll(backfills);
+            uploads.clear();
+            backfills.clear();
+            backfillNotFull.signalAll();
+        } finally {
+            queueLock.unlock();
+        }
+        pending.forEach(task -> finish(task, false));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        queueLock.lock();
+        try {
+            stats.put("uploadQueued", uploads.size());
+            stats.put("backfillQueued", backfills.size());
+        } finally {
+            queueLock.unlock();
+        }
+        long runCount = runs.sum();
+        stats.put("uploadCapacity", uploadCapacity);
+        stats.put("backfillCapacity", backfillCapacity);
+        stats.put("workers", workers.size());
+        stats.put("active", active.get());
+        stats.put("tracked", tasks.size());
+        stats.put("submitted", submitted.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("promoted", promoted.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("retries", retries.sum());
+        stats.put("succeeded", succeeded.sum());
+        stats.put("failed", failed.sum());
+        stats.put("avgWaitMs", runCount == 0 ? 0.0 : waitNanos.sum() / 1_000_000.0 / runCount);
+        stats.put("maxWaitMs", maxWaitNanos.get() / 1_000_000.0);
+        stats.put("avgRunMs", runCount == 0 ? 0.0 : runNanos.sum() / 1_000_000.0 / runCount);
+        stats.put("maxRunMs", maxRunNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    private static final class Task {
+        private final String key;
+        private final Supplier<Boolean> attempt;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        // queueLock 안에서만 읽고 바꿈 (업로드 요청이 오면 UPLOAD로 승격)
+        private Lane lane;
+        // 대기열을 거쳐 한 번에 한 스레드만 접근
+        private long enqueuedAt;
+        private int attempts;
+
+        private Task(String key, Lane lane, Supplier<Boolean> attempt) {
+            this.key = key;
+            this.lane = lane;
+            this.attempt = attempt;
+        }
+    }
+}
@@ -2,9 +2,19 @@ package com.xhackathon.server.domain.shortform.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bytedeco.ffmpeg.global.avcodec;
+import org.bytedeco.ffmpeg.global.avutil;
+import org.bytedeco.javacpp.BytePointer;
 import org.bytedeco.javacv.FFmpegFrameGrabber;
+import org.bytedeco.javacv.FFmpegFrameRecorder;
 import org.bytedeco.javacv.Frame;
 import org.bytedeco.javacv.Java2DFrameConverter;
+import org.bytedeco.javacv.Seekable;
+import com.xhackathon.server.domain.shortform.media.Mp4FrameLocator;
+import com.xhackathon.server.domain.shortform.media.S3RangeSource;
+import com.xhackathon.server.domain.shortform.media.SparseVideo;
+import com.xhackathon.server.domain.shortform.media.ThumbnailVariant;
+import com.xhackathon.server.domain.shortform.media.VideoProbe;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -15,13 +25,41 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * S3 비디오에서 썸네일 생성
+ *
+ * - 비디오를 한 번만 열어(FFmpegFrameGrabber.start 1회) 대표 프레임과 이어지는 미리보기 프레임을 디코딩하고,
+ *   여러 크기/형식(JPEG, WebP)의 정지 이미지와 저프레임 움직이는 미리보기(GIF, 가능하면 애니메이션 WebP도)를 만듭니다.
+ * - MP4/MOV는 박스 구조를 읽어 moov와 프레임 디코딩에 필요한 샘플 범위만 Range GET으로 가져옵니다
+ *   (Mp4FrameLocator). moov가 파일 끝에 있어도 전체를 받지 않습니다.
+ * - 그 외 형식이나 해석에 실패한 파일은 S3 Range 응답 스트림을 FFmpeg에 바로 넘깁니다
+ *   (읽은 부분만 메모리에 두어 앞쪽 seek 가능).
+ * - 인코딩 결과는 작업 스레드별 재사용 버퍼에 담아 복사 없이 업로드합니다. 임시 파일을 만들지 않습니다.
+ * - 디코딩하면서 길이, 해상도, 코덱, 비트레이트, moov 위치(VideoProbe)도 함께 읽습니다.
+ *   썸네일이 이미 있는 비디오는 헤더만 열어 읽습니다 (probeS3Video).
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -30,111 +68,264 @@ public class ThumbnailGeneratorService {
     private final S3Client s3Client;
     
     // 썸네일 크기 설정
-    private static final int THUMBNAIL_WIDTH = 320;
-    private static final int THUMBNAIL_HEIGHT = 180;
     private static final double FRAME_POSITION_SECONDS = 1.0; // 1초 지점에서 프레임 추출
-    private static final int MAX_RETRY_ATTEMPTS = 3; // 최대 재시도 횟수
-    private static final long RETRY_DELAY_MS = 2000; // 재시도 간격 (2초)
-    private static final long PARTIAL_DOWNLOAD_SIZE = 10 * 1024 * 1024; // 처음 10MB만 다운로드 (1초 분량 충분)
+    private static final long PARTIAL_DOWNLOAD_SIZE = 10 * 1024 * 1024; // 처음 10MB까지만 읽음 (1초 분량 충분)
+    private static final int ENCODE_BUFFER_SIZE = 256 * 1024; // 1280x720 JPEG/미리보기도 보통 수백 KB 이내
+    private static final int MAX_RETAINED_ENCODE_BUFFER = 4 * 1024 * 1024; // 이보다 커진 버퍼는 재사용하지 않음
+    
+    // 미리보기: 대표 프레임부터 5fps로 2초
+    private static final int PREVIEW_FPS = 5;
+    private static final int PREVIEW_FRAMES = 10;
+    private static final double PREVIEW_SECONDS = (double) PREVIEW_FRAMES / PREVIEW_FPS;
+    private static final int MAX_PREVIEW_GRABS = 300; // 디코딩할 최대 프레임 수 (고프레임 영상 대비)
+    private static final String WEBP_QUALITY = "80";
+    
+    private static final int MP4_PROBE_SIZE = 64 * 1024; // 첫 Range 요청 크기 (ftyp, 앞쪽 moov)
+    private static final int MAX_MOOV_BYTES = 16 * 1024 * 1024;
+    private static final int MAX_FRAME_WINDOW_BYTES = 4 * 1024 * 1024;
+    private static final Set<String> ISO_MEDIA_EXTENSIONS = Set.of("mp4", "m4v", "mov", "3gp");
+    
+    private final Mp4FrameLocator frameLocator = new Mp4FrameLocator(MP4_PROBE_SIZE, MAX_MOOV_BYTES, MAX_FRAME_WINDOW_BYTES);
+    private final LongAdder rangeExtractions = new LongAdder();
+    private final LongAdder rangeFallbacks = new LongAdder();
+    private final LongAdder rangeRequests = new LongAdder();
+    private final LongAdder rangeBytes = new LongAdder();
+    private final LongAdder streamExtractions = new LongAdder();
+    private final LongAdder variantsUploaded = new LongAdder();
+    private final LongAdder previewFrames = new LongAdder();
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder probeFailures = new LongAdder();
+    
+    private volatile Set<ThumbnailVariant> supportedVariants;
+    
+    // 작업 스레드(ThumbnailExecutionEngine)별 인코딩 버퍼
+    private static final ThreadLocal<EncodeBuffer> ENCODE_BUFFER = ThreadLocal.withInitial(EncodeBuffer::new);
     
     /**
-     * S3 비디오 파일에서 썸네일을 생성하고 S3에 업로드 (재시도 포함)
-     * 
+     * S3 비디오 파일을 한 번 디코딩해 종류별 썸네일을 만들고 S3에 업로드 (단일 시도)
+     * 재시도는 ThumbnailExecutionEngine이 지연 작업으로 다시 실행합니다.
+     *
      * @param bucket S3 버킷명
      * @param videoKey 비디오 파일 S3 키
-     * @param thumbnailKey 썸네일 파일 S3 키
-     * @return 성공 여부
+     * @param variantKeys 만들 썸네일 종류별 S3 키 (이 순서대로 업로드)
+     * @return 모든 종류를 올렸으면 디코딩하며 읽은 비디오 메타데이터, 실패하면 null
      */
-    public boolean generateThumbnailFromS3Video(String bucket, String videoKey, String thumbnailKey) {
-        for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
-            try {
-                log.info("썸네일 생성 시도 {}/{}: {} -> {}", attempt, MAX_RETRY_ATTEMPTS, videoKey, thumbnailKey);
-                
-                boolean success = doGenerateThumbnailFromS3Video(bucket, videoKey, thumbnailKey);
-                
-                if (success) {
-                    log.info("썸네일 생성 성공 (시도 {}): {} -> {}", attempt, videoKey, thumbnailKey);
-                    return true;
-                } else {
-                    log.warn("썸네일 생성 실패 (시도 {}): {}", attempt, videoKey);
+    public VideoProbe generateThumbnailsFromS3Video(String bucket, String videoKey, Map<ThumbnailVariant, String> variantKeys) {
+        EncodeBuffer buffer = ENCODE_BUFFER.get();
+        
+        try {
+            // 1. S3에서 한 번 디코딩해 필요한 크기의 프레임 준비
+            DecodedFrames frames = decode(bucket, videoKey, variantKeys.keySet());
+            if (frames == null) {
+                log.error("썸네일 생성 실패: {}", videoKey);
+                return null;
+            }
+            
+            // 2. 종류별로 인코딩해 S3에 업로드 (버퍼 재사용)
+            for (Map.Entry<ThumbnailVariant, String> entry : variantKeys.entrySet()) {
+                ThumbnailVariant variant = entry.getKey();
+                buffer.reset();
+                if (!encode(variant, frames, buffer) || !uploadThumbnailToS3(bucket, entry.getValue(), variant, buffer)) {
+                    log.error("썸네일 인코딩/업로드 실패: {} - {}", videoKey, variant);
+                    return null;
                 }
-                
-            } catch (Exception e) {
-                log.error("썸네일 생성 중 오류 (시도 {}): {} - {}", attempt, videoKey, e.getMessage(), e);
+                variantsUploaded.increment();
             }
+            probes.increment();
+            return frames.probe();
             
-            // 마지막 시도가 아니면 잠시 대기
-            if (attempt < MAX_RETRY_ATTEMPTS) {
+        } catch (Exception e) {
+            log.error("썸네일 생성 중 오류 발생: {} - {}", videoKey, e.getMessage(), e);
+            return null;
+        } finally {
+            buffer.release();
+        }
+    }
+    
+    /**
+     * 프레임을 디코딩하지 않고 비디오 메타데이터만 읽음 (썸네일이 이미 있는 비디오 일괄 처리용)
+     * MP4/MOV는 앞부분과 moov만 Range GET으로 읽고, 그 외 형식은 처음 부분 스트림으로 헤더만 엽니다.
+     *
+     * @return 실패하면 null
+     */
+    public VideoProbe probeS3Video(String bucket, String videoKey) {
+        VideoProbe probe = null;
+        if (isIsoMediaFile(videoKey)) {
+            S3RangeSource source = new S3RangeSource(s3Client, bucket, videoKey);
+            try {
+                SparseVideo video = frameLocator.readHeader(source);
+                probe = openProbe(video.newInputStream(), Integer.MAX_VALUE, video);
+            } catch (Exception e) {
+                log.info("MP4 헤더 범위 읽기 불가, 스트림 방식으로 처리: {} - {}", videoKey, e.getMessage());
+            } finally {
+                rangeRequests.add(source.requests());
+                rangeBytes.add(source.fetchedBytes());
+            }
+        }
+        
+        if (probe == null) {
+            ResponseInputStream<GetObjectResponse> videoStream = openVideoStream(bucket, videoKey);
+            if (videoStream != null) {
                 try {
-                    Thread.sleep(RETRY_DELAY_MS);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    log.warn("재시도 대기 중 인터럽트: {}", ie.getMessage());
-                    break;
+                    probe = openProbe(videoStream, (int) PARTIAL_DOWNLOAD_SIZE, null);
+                } finally {
+                    videoStream.abort();
                 }
             }
         }
         
-        log.error("썸네일 생성 최종 실패 ({}회 시도): {}", MAX_RETRY_ATTEMPTS, videoKey);
-        return false;
+        if (probe == null) {
+            probeFailures.increment();
+            log.error("비디오 메타데이터 읽기 실패: {}", videoKey);
+            return null;
+        }
+        probes.increment();
+        return probe;
+    }
+    
+    private VideoProbe openProbe(InputStream videoStream, int maximumSize, SparseVideo video) {
+        FFmpegFrameGrabber grabber = null;
+        try {
+            grabber = new FFmpegFrameGrabber(videoStream, maximumSize);
+            if (video != null) {
+                grabber.setAudioStream(Integer.MAX_VALUE);
+            }
+            grabber.start();
+            return probe(grabber, video);
+        } catch (Exception e) {
+            log.warn("FFmpeg 헤더 읽기 실패: {}", e.getMessage());
+            return null;
+        } finally {
+            releaseGrabber(grabber);
+        }
     }
     
     /**
-     * 실제 썸네일 생성 로직 (단일 시도)
+     * 시작된 grabber에서 메타데이터를 읽음 (moov 위치는 범위 읽기로 찾은 경우에만)
      */
-    private boolean doGenerateThumbnailFromS3Video(String bucket, String videoKey, String thumbnailKey) {
-        Path tempVideoFile = null;
-        Path tempThumbnailFile = null;
+    private static VideoProbe probe(FFmpegFrameGrabber grabber, SparseVideo video) {
+        long lengthMicros = grabber.getLengthInTime();
+        int width = grabber.getImageWidth();
+        int height = grabber.getImageHeight();
         
-        try {
-            
-            // 1. S3에서 비디오 파일을 임시 파일로 다운로드
-            tempVideoFile = downloadVideoFromS3(bucket, videoKey);
-            if (tempVideoFile == null) {
-                log.error("비디오 파일 다운로드 실패: {}", videoKey);
-                return false;
+        String codec = null;
+        int codecId = grabber.getVideoCodec();
+        if (codecId != avcodec.AV_CODEC_ID_NONE) {
+            BytePointer name = avcodec.avcodec_get_name(codecId);
+            codec = name != null ? name.getString() : null;
+        }
+        
+        // 컨테이너 전체 비트레이트 우선, 없으면 비디오 스트림 비트레이트
+        long bitrate = grabber.getFormatContext() != null ? grabber.getFormatContext().bit_rate() : 0;
+        if (bitrate <= 0) {
+            bitrate = grabber.getVideoBitrate();
+        }
+        
+        return new VideoProbe(
+                lengthMicros > 0 ? lengthMicros : null,
+                width > 0 ? width : null,
+                height > 0 ? height : null,
+                codec,
+                bitrate > 0 ? bitrate : null,
+                video != null ? video.moovOffset() : null,
+                video != null ? video.faststart() : null);
+    }
+    
+    /**
+     * FFmpeg 빌드에서 인코딩할 수 있는 썸네일 종류 (JPEG와 GIF 미리보기는 항상 포함, WebP를 못 쓰는 클라이언트용)
+     */
+    public Set<ThumbnailVariant> supportedVariants() {
+        Set<ThumbnailVariant> variants = supportedVariants;
+        if (variants == null) {
+            variants = EnumSet.of(ThumbnailVariant.JPEG_320, ThumbnailVariant.JPEG_640, ThumbnailVariant.JPEG_1280);
+            if (hasEncoder("libwebp")) {
+                variants.addAll(EnumSet.of(ThumbnailVariant.WEBP_320, ThumbnailVariant.WEBP_640, ThumbnailVariant.WEBP_1280));
             }
-            
-            // 2. FFmpeg로 썸네일 생성
-            tempThumbnailFile = generateThumbnailFromVideo(tempVideoFile);
-            if (tempThumbnailFile == null) {
-                log.error("썸네일 생성 실패: {}", videoKey);
-                return false;
+            if (hasEncoder("libwebp_anim")) {
+                variants.add(ThumbnailVariant.PREVIEW_WEBP);
             }
-            
-            // 3. 생성된 썸네일을 S3에 업로드
-            boolean uploadSuccess = uploadThumbnailToS3(bucket, thumbnailKey, tempThumbnailFile);
-            
-            return uploadSuccess;
-            
-        } catch (Exception e) {
-            log.error("썸네일 생성 중 오류 발생: {} - {}", videoKey, e.getMessage(), e);
+            variants.add(ThumbnailVariant.PREVIEW_GIF);
+            log.info("썸네일 종류: {}", variants);
+            supportedVariants = variants = Collections.unmodifiableSet(variants);
+        }
+        return variants;
+    }
+    
+    private static boolean hasEncoder(String name) {
+        try {
+            return avcodec.avcodec_find_encoder_by_name(name) != null;
+        } catch (Throwable t) {
+            log.warn("FFmpeg 인코더 확인 실패: {} - {}", name, t.getMessage());
             return false;
+        }
+    }
+    
+    private DecodedFrames decode(String bucket, String videoKey, Set<ThumbnailVariant> variants) {
+        if (isIsoMediaFile(videoKey)) {
+            DecodedFrames frames = decodeFromMp4Ranges(bucket, videoKey, variants);
+            if (frames != null) {
+                return frames;
+            }
+        }
+        
+        ResponseInputStream<GetObjectResponse> videoStream = openVideoStream(bucket, videoKey);
+        if (videoStream == null) {
+            log.error("비디오 파일 스트림 열기 실패: {}", videoKey);
+            return null;
+        }
+        streamExtractions.increment();
+        try {
+            return grabFrames(videoStream, (int) PARTIAL_DOWNLOAD_SIZE, null, Long.MAX_VALUE, variants, null);
         } finally {
-            // 임시 파일들 정리
-            cleanupTempFiles(tempVideoFile, tempThumbnailFile);
+            // 남은 응답 본문은 읽지 않고 연결 종료
+            videoStream.abort();
         }
     }
     
     /**
-     * 비디오 파일 확장자 추출
+     * MP4/MOV 박스 구조로 moov와 필요한 샘플 범위만 읽어 프레임 디코딩
+     * 지원하지 않는 구조이거나 디코딩에 실패하면 null (스트림 방식으로 처리)
      */
-    private String getVideoExtension(String videoKey) {
-        int lastDotIndex = videoKey.lastIndexOf('.');
-        if (lastDotIndex > 0 && lastDotIndex < videoKey.length() - 1) {
-            return videoKey.substring(lastDotIndex);
+    private DecodedFrames decodeFromMp4Ranges(String bucket, String videoKey, Set<ThumbnailVariant> variants) {
+        S3RangeSource source = new S3RangeSource(s3Client, bucket, videoKey);
+        double spanSeconds = variants.stream().anyMatch(ThumbnailVariant::isPreview) ? PREVIEW_SECONDS : 0;
+        try {
+            SparseVideo video = frameLocator.locate(source, FRAME_POSITION_SECONDS, spanSeconds);
+            rangeRequests.add(source.requests());
+            rangeBytes.add(source.fetchedBytes());
+            log.debug("MP4 범위 읽기: {} - {}회 요청, {} / {} bytes", videoKey,
+                    source.requests(), source.fetchedBytes(), video.size());
+                    
+            DecodedFrames frames = grabFrames(video.newInputStream(), Integer.MAX_VALUE,
+                    video.frameTimestampMicros(), video.lastFrameMicros(), variants, video);
+            if (frames != null) {
+                rangeExtractions.increment();
+                return frames;
+            }
+            log.info("범위 읽기로 프레임 추출 실패, 스트림 방식으로 재시도: {}", videoKey);
+        } catch (Exception e) {
+            rangeRequests.add(source.requests());
+            rangeBytes.add(source.fetchedBytes());
+            log.info("MP4 구조 기반 범위 읽기 불가, 스트림 방식으로 처리: {} - {}", videoKey, e.getMessage());
         }
-        // 확장자가 없으면 기본값으로 .mp4 사용
-        return ".mp4";
+        rangeFallbacks.increment();
+        return null;
+    }
+    
+    private static boolean isIsoMediaFile(String videoKey) {
+        String lower = videoKey.toLowerCase(Locale.ROOT);
+        int lastDotIndex = lower.lastIndexOf('.');
+        // 확장자가 없으면 mp4로 간주
+        return lastDotIndex < 0 || ISO_MEDIA_EXTENSIONS.contains(lower.substring(lastDotIndex + 1));
     }
     
     /**
-     * S3에서 비디오 파일의 처음 부분만 다운로드 (Range 요청 사용)
-     * 처음 10MB만 다운로드하여 네트워크 트래픽과 시간을 절약
+     * S3 비디오의 처음 부분 스트림 (Range 요청 사용)
+     * 처음 10MB까지만 요청하여 네트워크 트래픽과 시간을 절약
      */
-    private Path downloadVideoFromS3(String bucket, String videoKey) {
+    private ResponseInputStream<GetObjectResponse> openVideoStream(String bucket, String videoKey) {
         try {
-            // Range 요청: 처음 PARTIAL_DOWNLOAD_SIZE 바이트만 다운로드
+            // Range 요청: 처음 PARTIAL_DOWNLOAD_SIZE 바이트만 요청
             String range = "bytes=0-" + (PARTIAL_DOWNLOAD_SIZE - 1);
             
             GetObjectRequest getObjectRequest = GetObjectRequest.builder()
@@ -142,108 +333,126 @@ public class ThumbnailGeneratorService {
                     .key(videoKey)
                     .range(range)  // Range 헤더 추가
                     .build();
+                    
+            return s3Client.getObject(getObjectRequest);
             
-            ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(getObjectRequest);
-            
-            // 원본 파일 확장자 유지하여 임시 파일 생성
-            String extension = getVideoExtension(videoKey);
-            Path tempFile = Files.createTempFile("video_partial_", extension);
-            Files.copy(s3Object, tempFile, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-            
-            long fileSize = Files.size(tempFile);
-            log.debug("비디오 파일 부분 다운로드 완료: {} -> {} ({} bytes)", videoKey, tempFile, fileSize);
-            return tempFile;
-            
-        } catch (S3Exception | IOException e) {
-            log.error("S3에서 비디오 파일 부분 다운로드 실패: {} - {}", videoKey, e.getMessage());
-            // Range 요청이 실패하면 전체 다운로드로 폴백
-            log.info("Range 요청 실패, 전체 다운로드로 폴백: {}", videoKey);
-            return downloadFullVideoFromS3(bucket, videoKey);
+        } catch (S3Exception e) {
+            log.error("S3 비디오 Range 요청 실패: {} - {}", videoKey, e.getMessage());
+            // Range 요청이 실패하면 전체 객체 스트림으로 폴백 (읽는 양은 동일하게 제한됨)
+            log.info("Range 요청 실패, 전체 객체 스트림으로 폴백: {}", videoKey);
+            return openFullVideoStream(bucket, videoKey);
         }
     }
     
     /**
-     * S3에서 전체 비디오 파일 다운로드 (폴백용)
+     * S3 비디오 전체 객체 스트림 (폴백용)
      */
-    private Path downloadFullVideoFromS3(String bucket, String videoKey) {
+    private ResponseInputStream<GetObjectResponse> openFullVideoStream(String bucket, String videoKey) {
         try {
             GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                     .bucket(bucket)
                     .key(videoKey)
                     .build();
+                    
+            return s3Client.getObject(getObjectRequest);
             
-            ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(getObjectRequest);
-            
-            // 원본 파일 확장자 유지하여 임시 파일 생성
-            String extension = getVideoExtension(videoKey);
-            Path tempFile = Files.createTempFile("video_full_", extension);
-            Files.copy(s3Object, tempFile, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-            
-            log.debug("비디오 파일 전체 다운로드 완료: {} -> {}", videoKey, tempFile);
-            return tempFile;
-            
-        } catch (S3Exception | IOException e) {
-            log.error("S3에서 비디오 파일 전체 다운로드 실패: {} - {}", videoKey, e.getMessage());
+        } catch (S3Exception e) {
+            log.error("S3 비디오 전체 요청 실패: {} - {}", videoKey, e.getMessage());
             return null;
         }
     }
     
     /**
-     * FFmpeg를 사용하여 비디오에서 썸네일 생성
+     * FFmpeg로 비디오를 한 번 열어 대표 프레임(크기별)과 미리보기 프레임을 디코딩하고 메타데이터를 읽음
+     *
+     * @param maximumSize seek를 위해 메모리에 남겨둘 최대 바이트 (mark 미지원 스트림)
+     * @param frameTimestampMicros 추출 시각 (null이면 1초 또는 길이의 1/10 지점)
+     * @param lastFrameMicros 이 시각 이후 프레임은 미리보기에 쓰지 않음 (읽지 않은 샘플)
+     * @param video 범위 읽기로 만든 비디오 (스트림 방식이면 null)
      */
-    private Path generateThumbnailFromVideo(Path videoFile) {
+    private DecodedFrames grabFrames(InputStream videoStream, int maximumSize, Long frameTimestampMicros,
+                                     long lastFrameMicros, Set<ThumbnailVariant> variants, SparseVideo video) {
         FFmpegFrameGrabber grabber = null;
-        try {
-            // FFmpeg 프레임 그래버 생성
-            grabber = new FFmpegFrameGrabber(videoFile.toFile());
+        try (Java2DFrameConverter converter = new Java2DFrameConverter()) {
+            grabber = new FFmpegFrameGrabber(videoStream, maximumSize);
+            if (frameTimestampMicros != null) {
+                // 범위 읽기에서는 오디오 샘플을 가져오지 않으므로 오디오 스트림을 선택하지 않음
+                grabber.setAudioStream(Integer.MAX_VALUE);
+            }
             grabber.start();
             
-            // 비디오 정보 로그
+            // 비디오 정보 (DB에 저장)
+            VideoProbe probe = probe(grabber, video);
             double duration = grabber.getLengthInTime() / 1_000_000.0; // 마이크로초를 초로 변환
-            log.debug("비디오 정보 - 길이: {}초, 프레임레이트: {}", duration, grabber.getFrameRate());
+            log.debug("비디오 정보 - 길이: {}초, 프레임레이트: {}, {}", duration, grabber.getFrameRate(), probe);
             
             // 1초 지점으로 이동 (또는 비디오 길이의 1/10 지점)
-            double seekTime = Math.min(FRAME_POSITION_SECONDS, duration * 0.1);
-            grabber.setTimestamp((long)(seekTime * 1_000_000)); // 마이크로초로 변환
+            long seekMicros = frameTimestampMicros != null ? frameTimestampMicros
+                    : (long) (Math.min(FRAME_POSITION_SECONDS, duration * 0.1) * 1_000_000); // 마이크로초로 변환
+            if (seekMicros > 0) {
+                grabber.setTimestamp(seekMicros);
+            }
             
-            // 프레임 추출
+            // 대표 프레임 추출
             Frame frame = grabber.grabImage();
             if (frame == null) {
                 log.error("프레임 추출 실패");
                 return null;
             }
             
-            // Frame을 BufferedImage로 변환
-            BufferedImage image;
-            try (Java2DFrameConverter converter = new Java2DFrameConverter()) {
-                image = converter.convert(frame);
-                if (image == null) {
-                    log.error("이미지 변환 실패");
-                    return null;
+            // Frame을 BufferedImage로 변환 (변환기 버퍼를 재사용하므로 바로 크기별로 복사)
+            BufferedImage image = converter.convert(frame);
+            if (image == null) {
+                log.error("이미지 변환 실패");
+                return null;
+            }
+            Map<Integer, BufferedImage> stills = new HashMap<>();
+            for (ThumbnailVariant variant : variants) {
+                if (!variant.isPreview()) {
+                    stills.computeIfAbsent(variant.width(), width -> resizeImage(image, width, variant.height()));
                 }
             }
             
-            // 썸네일 크기로 리사이즈
-            BufferedImage thumbnail = resizeImage(image, THUMBNAIL_WIDTH, THUMBNAIL_HEIGHT);
-            
-            // 임시 파일로 저장
-            Path thumbnailFile = Files.createTempFile("thumbnail_", ".jpg");
-            ImageIO.write(thumbnail, "jpg", thumbnailFile.toFile());
+            // 미리보기: 이어지는 프레임을 PREVIEW_FPS 간격으로 골라 축소
+            List<BufferedImage> preview = new ArrayList<>();
+            ThumbnailVariant previewVariant = variants.stream().filter(ThumbnailVariant::isPreview).findFirst().orElse(null);
+            if (previewVariant != null) {
+                preview.add(resizeImage(image, previewVariant.width(), previewVariant.height()));
+                long nextMicros = frame.timestamp + 1_000_000L / PREVIEW_FPS;
+                for (int grabs = 0; preview.size() < PREVIEW_FRAMES && grabs < MAX_PREVIEW_GRABS; grabs++) {
+                    Frame next = grabber.grabImage();
+                    if (next == null || next.timestamp > lastFrameMicros) {
+                        break;
+                    }
+                    if (next.timestamp >= nextMicros) {
+                        BufferedImage nextImage = converter.convert(next);
+                        if (nextImage != null) {
+                            preview.add(resizeImage(nextImage, previewVariant.width(), previewVariant.height()));
+                        }
+                        nextMicros += 1_000_000L / PREVIEW_FPS;
+                    }
+                }
+                previewFrames.add(preview.size());
+            }
             
-            log.debug("썸네일 생성 완료: {}", thumbnailFile);
-            return thumbnailFile;
+            log.debug("프레임 디코딩 완료: 정지 {}종, 미리보기 {}프레임", stills.size(), preview.size());
+            return new DecodedFrames(stills, preview, probe);
             
         } catch (Exception e) {
-            log.error("FFmpeg 썸네일 생성 실패: {}", e.getMessage(), e);
+            log.error("FFmpeg 프레임 디코딩 실패: {}", e.getMessage(), e);
             return null;
         } finally {
-            if (grabber != null) {
-                try {
-                    grabber.stop();
-                    grabber.release();
-                } catch (Exception e) {
-                    log.warn("FFmpeg grabber 해제 실패: {}", e.getMessage());
-                }
+            releaseGrabber(grabber);
+        }
+    }
+    
+    private static void releaseGrabber(FFmpegFrameGrabber grabber) {
+        if (grabber != null) {
+            try {
+                grabber.stop();
+                grabber.release();
+            } catch (Exception e) {
+                log.warn("FFmpeg grabber 해제 실패: {}", e.getMessage());
             }
         }
     }
@@ -252,7 +461,8 @@ public class ThumbnailGeneratorService {
      * 이미지 리사이즈 (고품질)
      */
     private BufferedImage resizeImage(BufferedImage originalImage, int width, int height) {
-        BufferedImage resizedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        // FFmpegFrameRecorder에 그대로 넘길 수 있는 BGR 배열
+        BufferedImage resizedImage = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
         Graphics2D g2d = resizedImage.createGraphics();
         
         // 고품질 리사이즈 설정
@@ -267,43 +477,178 @@ public class ThumbnailGeneratorService {
     }
     
     /**
-     * 생성된 썸네일을 S3에 업로드
+     * JPEG 인코딩
+     *
+     * ImageIO.write(OutputStream)는 useCache 기본값(true) 때문에 임시 파일(FileCacheImageOutputStream)을 거치므로,
+     * 메모리 캐시 스트림에 직접 씁니다.
+     */
+    private boolean writeJpeg(BufferedImage image, EncodeBuffer buffer) throws Exception {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+        if (!writers.hasNext()) {
+            log.error("JPEG 인코더를 찾을 수 없음");
+            return false;
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream output = new MemoryCacheImageOutputStream(buffer)) {
+            writer.setOutput(output);
+            writer.write(image);
+        } finally {
+            writer.dispose();
+        }
+        return true;
+    }
+    
+    /**
+     * 썸네일 한 종류를 버퍼에 인코딩 (JPEG는 ImageIO, WebP/GIF는 FFmpeg)
      */
-    private boolean uploadThumbnailToS3(String bucket, String thumbnailKey, Path thumbnailFile) {
+    private boolean encode(ThumbnailVariant variant, DecodedFrames frames, EncodeBuffer buffer) throws Exception {
+        if (variant.format() == ThumbnailVariant.Format.JPEG) {
+            return writeJpeg(frames.stills().get(variant.width()), buffer);
+        }
+        List<BufferedImage> images = variant.isPreview() ? frames.preview() : List.of(frames.stills().get(variant.width()));
+        
+        FFmpegFrameRecorder recorder = new FFmpegFrameRecorder(buffer, variant.width(), variant.height(), 0);
+        try (Java2DFrameConverter converter = new Java2DFrameConverter()) {
+            switch (variant.format()) {
+                case WEBP -> {
+                    recorder.setFormat("webp");
+                    recorder.setVideoCodecName("libwebp");
+                    recorder.setPixelFormat(avutil.AV_PIX_FMT_YUV420P);
+                    recorder.setVideoOption("quality", WEBP_QUALITY);
+                }
+                case ANIMATED_WEBP -> {
+                    recorder.setFormat("webp");
+                    recorder.setVideoCodecName("libwebp_anim");
+                    recorder.setPixelFormat(avutil.AV_PIX_FMT_YUV420P);
+                    recorder.setVideoOption("quality", WEBP_QUALITY);
+                    recorder.setOption("loop", "0"); // 무한 반복
+                }
+                default -> {
+                    recorder.setFormat("gif");
+                    recorder.setVideoCodec(avcodec.AV_CODEC_ID_GIF);
+                    recorder.setPixelFormat(avutil.AV_PIX_FMT_RGB8);
+                    recorder.setOption("loop", "0");
+                }
+            }
+            recorder.setFrameRate(PREVIEW_FPS);
+            recorder.start();
+            for (BufferedImage image : images) {
+                recorder.record(converter.convert(image));
+            }
+            recorder.stop();
+            return buffer.size() > 0;
+        } finally {
+            recorder.release();
+        }
+    }
+    
+    /**
+     * 인코딩된 썸네일을 S3에 업로드 (버퍼를 복사하지 않고 스트림으로 전달)
+     */
+    private boolean uploadThumbnailToS3(String bucket, String thumbnailKey, ThumbnailVariant variant, EncodeBuffer buffer) {
         try {
-            byte[] thumbnailData = Files.readAllBytes(thumbnailFile);
-            
+            String contentType = variant.format().contentType();
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(thumbnailKey)
-                    .contentType("image/jpeg")
-                    .contentLength((long) thumbnailData.length)
+                    .contentType(contentType)
+                    .contentLength((long) buffer.size())
                     .build();
-            
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(thumbnailData));
-            
-            log.debug("썸네일 S3 업로드 완료: {}", thumbnailKey);
+                    
+            s3Client.putObject(putObjectRequest,
+                    RequestBody.fromContentProvider(buffer::newInputStream, buffer.size(), contentType));
+                    
+            log.debug("썸네일 S3 업로드 완료: {} ({} bytes)", thumbnailKey, buffer.size());
             return true;
             
-        } catch (S3Exception | IOException e) {
+        } catch (S3Exception e) {
             log.error("썸네일 S3 업로드 실패: {} - {}", thumbnailKey, e.getMessage());
             return false;
         }
     }
     
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long extractions = rangeExtractions.sum();
+        stats.put("rangeExtractions", extractions);
+        stats.put("rangeFallbacks", rangeFallbacks.sum());
+        stats.put("rangeRequests", rangeRequests.sum());
+        stats.put("rangeBytes", rangeBytes.sum());
+        stats.put("avgRangeBytes", extractions == 0 ? 0 : rangeBytes.sum() / extractions);
+        stats.put("streamExtractions", streamExtractions.sum());
+        stats.put("variantsUploaded", variantsUploaded.sum());
+        stats.put("previewFrames", previewFrames.sum());
+        stats.put("probes", probes.sum());
+        stats.put("probeFailures", probeFailures.sum());
+        Set<ThumbnailVariant> variants = supportedVariants;
+        stats.put("variants", variants != null ? variants.stream().map(Enum::name).toList() : List.of());
+        return stats;
+    }
+    
     /**
-     * 임시 파일들 정리
+     * 한 번의 디코딩 결과 (폭별 대표 프레임, 미리보기 프레임, 메타데이터)
      */
-    private void cleanupTempFiles(Path... files) {
-        for (Path file : files) {
-            if (file != null) {
-                try {
-                    Files.deleteIfExists(file);
-                    log.debug("임시 파일 삭제: {}", file);
-                } catch (IOException e) {
-                    log.warn("임시 파일 삭제 실패: {} - {}", file, e.getMessage());
-                }
+    private record DecodedFrames(Map<Integer, BufferedImage> stills, List<BufferedImage> preview, VideoProbe probe) {
+    }
+    
+    /**
+     * 재사용 인코딩 버퍼 (FFmpeg 출력 헤더 갱신을 위한 seek 지원, 내부 배열을 그대로 읽는 스트림 제공)
+     */
+    private static final class EncodeBuffer extends ByteArrayOutputStream implements Seekable {
+        
+        private int position;
+        
+        private EncodeBuffer() {
+            super(ENCODE_BUFFER_SIZE);
+        }
+        
+        @Override
+        public synchronized void write(int b) {
+            ensureCapacity(position + 1);
+            buf[position++] = (byte) b;
+            count = Math.max(count, position);
+        }
+        
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            ensureCapacity(position + len);
+            System.arraycopy(b, off, buf, position, len);
+            position += len;
+            count = Math.max(count, position);
+        }
+        
+        @Override
+        public synchronized void seek(long offset, int whence) {
+            long base = switch (whence) {
+                case 1 -> position; // SEEK_CUR
+                case 2 -> count;    // SEEK_END
+                default -> 0;       // SEEK_SET
+            };
+            position = Math.toIntExact(base + offset);
+        }
+        
+        @Override
+        public synchronized void reset() {
+            super.reset();
+            position = 0;
+        }
+        
+        private void ensureCapacity(int minCapacity) {
+            if (minCapacity > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, minCapacity));
+            }
+        }
+        
+        private InputStream newInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+        
+        // 비정상적으로 커진 배열은 놓아줌
+        private void release() {
+            if (buf.length > MAX_RETAINED_ENCODE_BUFFER) {
+                buf = new byte[ENCODE_BUFFER_SIZE];
             }
+            reset();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package com.xhackathon.server.domain.shortform.service;
+
+import com.xhackathon.server.domain.shortform.event.ThumbnailRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 커밋된 숏폼의 썸네일 생성을 작업 엔진에 제출하고, 성공하면 thumbnail_key와 종류별 썸네일 키를 저장
+ *
+ * 제출만 하고 바로 돌아오므로 요청 스레드나 @Async 풀을 점유하지 않습니다.
+ * 대기열이 가득 차면 건너뛰고 누락 썸네일 일괄 생성이 나중에 채웁니다.
+ * 일괄 처리 스레드가 발행한 요청(waitForSpace)만 자리가 날 때까지 발행한 스레드를 기다리게 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThumbnailRequestListener {
+
+    private final AwsS3Service awsS3Service;
+    private final S3CrawlingService s3CrawlingService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onThumbnailRequested(ThumbnailRequestedEvent event) {
+        String videoKey = event.videoKey();
+        awsS3Service.generateThumbnail(videoKey, event.lane(), event.waitForSpace()).whenComplete((success, error) -> {
+            if (error != null) {
+                log.warn("썸네일 작업 제출 실패 (누락 썸네일 일괄 생성으로 보완): {} - {}", videoKey, error.getMessage());
+            } else if (Boolean.TRUE.equals(success)) {
+                try {
+                    Map<String, String> variants = new LinkedHashMap<>();
+                    awsS3Service.thumbnailVariantKeys(videoKey).forEach((variant, key) -> variants.put(variant.name(), key));
+                    s3CrawlingService.updateShortFormThumbnail(videoKey, awsS3Service.generateThumbnailKey(videoKey), variants);
+                } catch (Exception e) {
+                    log.error("썸네일 DB 업데이트 실패: {} - {}", videoKey, e.getMessage(), e);
+                }
+            } else {
+                log.error("썸네일 생성 실패: {}", videoKey);
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.xhackathon.server.domain.shortform.service;
+
+import com.xhackathon.server.domain.shortform.event.VideoProbedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 썸네일 디코딩(또는 메타데이터 작업)에서 읽은 길이/해상도/코덱/비트레이트/moov 위치를 ShortForm에 저장
+ *
+ * 작업 엔진 스레드에는 트랜잭션이 없으므로 발행 즉시 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoMetadataListener {
+
+    private final S3CrawlingService s3CrawlingService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVideoProbed(VideoProbedEvent event) {
+        try {
+            s3CrawlingService.updateVideoMetadata(event.videoKey(), event.probe());
+        } catch (Exception e) {
+            log.error("비디오 메타데이터 DB 업데이트 실패: {} - {}", event.videoKey(), e.getMessage(), e);
+        }
+    }
+}
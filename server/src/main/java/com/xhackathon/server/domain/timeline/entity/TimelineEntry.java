@@ -0,0 +1,37 @@
+package com.xhackathon.server.domain.timeline.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 팔로잉 타임라인 항목 (viewer의 타임라인에 들어간 숏폼 하나)
+ * 작성 시점에 작성자의 팔로워마다 한 행씩 기록됩니다 (fan-out-on-write).
+ */
+@Entity
+@Getter
+@Table(name = "timeline_entries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_timeline_viewer_short_form",
+                columnNames = {"viewer_pid", "short_form_id"}),
+        indexes = @Index(name = "idx_timeline_viewer_author", columnList = "viewer_pid, author_pid"))
+public class TimelineEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "viewer_pid", nullable = false)
+    private String viewerPid;
+
+    @Column(name = "short_form_id", nullable = false)
+    private Long shortFormId;
+
+    @Column(name = "author_pid", nullable = false)
+    private String authorPid;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    protected TimelineEntry() {}
+}
@@ -0,0 +1,46 @@
+package com.xhackathon.server.domain.timeline.repository;
+
+import com.xhackathon.server.domain.timeline.entity.TimelineEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, Long> {
+
+    List<TimelineEntry> findByViewerPidOrderByShortFormIdDesc(String viewerPid, Pageable pageable);
+
+    List<TimelineEntry> findByViewerPidAndShortFormIdLessThanOrderByShortFormIdDesc(String viewerPid, Long shortFormId, Pageable pageable);
+
+    //작성자의 모든 팔로워 타임라인에 한 번에 추가 (팔로워 목록을 애플리케이션으로 가져오지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO timeline_entries (viewer_pid, short_form_id, author_pid, created_at) " +
+           "SELECT f.follower_pid, :shortFormId, :authorPid, :createdAt FROM follows f " +
+           "WHERE f.followee_pid = :authorPid " +
+           "ON CONFLICT (viewer_pid, short_form_id) DO NOTHING",
+           nativeQuery = true)
+    int fanOut(@Param("shortFormId") Long shortFormId,
+               @Param("authorPid") String authorPid,
+               @Param("createdAt") OffsetDateTime createdAt);
+
+    //새로 팔로우한 작성자의 최근 숏폼을 타임라인에 채워넣기
+    @Modifying
+    @Query(value = "INSERT INTO timeline_entries (viewer_pid, short_form_id, author_pid, created_at) " +
+           "SELECT :viewerPid, s.id, s.owner_pid, s.created_at FROM (" +
+           "  SELECT id, owner_pid, created_at FROM short_forms WHERE owner_pid = :authorPid ORDER BY id DESC LIMIT :limit" +
+           ") s " +
+           "ON CONFLICT (viewer_pid, short_form_id) DO NOTHING",
+           nativeQuery = true)
+    int backfill(@Param("viewerPid") String viewerPid,
+                 @Param("authorPid") String authorPid,
+                 @Param("limit") int limit);
+
+    //언팔로우 시 해당 작성자 항목 제거
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.viewerPid = :viewerPid AND t.authorPid = :authorPid")
+    int deleteByViewerPidAndAuthorPid(@Param("viewerPid") String viewerPid, @Param("authorPid") String authorPid);
+}
@@ -0,0 +1,31 @@
+package com.xhackathon.server.domain.timeline.service;
+
+import com.xhackathon.server.domain.shortform.event.ShortFormCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 숏폼 생성 트랜잭션이 커밋된 뒤 팔로워 타임라인 fan-out (비동기)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimelineFanoutListener {
+
+    private final TimelineService timelineService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onShortFormCreated(ShortFormCreatedEvent event) {
+        try {
+            timelineService.fanOut(event);
+        } catch (Exception e) {
+            log.error("타임라인 fan-out 실패 - shortFormId: {}, ownerPid: {}, error: {}",
+                    event.shortFormId(), event.ownerPid(), e.getMessage(), e);
+        }
+    }
+}
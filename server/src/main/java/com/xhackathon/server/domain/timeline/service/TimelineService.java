@@ -0,0 +1,222 @@
+package com.xhackathon.server.domain.timeline.service;
+
+import com.xhackathon.server.domain.follow.repository.FollowRepository;
+import com.xhackathon.server.domain.follow.service.FollowMembershipService;
+import com.xhackathon.server.domain.shortform.dto.response.ShortFormFeedResponse;
+import com.xhackathon.server.domain.shortform.dto.response.ShortFormReelsResponse;
+import com.xhackathon.server.domain.shortform.entity.ShortForm;
+import com.xhackathon.server.domain.shortform.event.ShortFormCreatedEvent;
+import com.xhackathon.server.domain.shortform.media.ThumbnailPreference;
+import com.xhackathon.server.domain.shortform.repository.ShortFormRepository;
+import com.xhackathon.server.domain.shortform.service.FeedHydrationService;
+import com.xhackathon.server.domain.timeline.entity.TimelineEntry;
+import com.xhackathon.server.domain.timeline.repository.TimelineEntryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 팔로잉 타임라인
+ *
+ * - 숏폼이 생성되면 작성자의 팔로워 타임라인에 id를 미리 넣어둡니다 (fan-out-on-write).
+ * - 팔로워가 fanout-threshold를 넘는 대형 계정은 fan-out을 생략하고,
+ *   조회 시점에 해당 계정의 최신 숏폼을 직접 가져와 타임라인과 병합합니다 (pull).
+ * - 대형 계정 목록은 refresh 주기마다 한 번만 다시 집계합니다.
+ *   push/pull 판단에 같은 목록을 사용하므로, 목록이 바뀌는 계정의 경계 구간 숏폼은
+ *   다음 백필(재팔로우) 전까지 타임라인에서 빠질 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimelineService {
+
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final FollowRepository followRepository;
+    private final FollowMembershipService followMembershipService;
+    private final ShortFormRepository shortFormRepository;
+    private final FeedHydrationService feedHydrationService;
+
+    private final ReentrantLock largeAccountRefreshLock = new ReentrantLock();
+    private volatile Set<String> largeAccounts = Collections.emptySet();
+    private volatile Instant largeAccountsLoadedAt = Instant.EPOCH;
+
+    @Value("${app.timeline.fanout-threshold:5000}")
+    private long fanoutThreshold;
+
+    @Value("${app.timeline.large-account-refresh:PT5M}")
+    private Duration largeAccountRefresh;
+
+    @Value("${app.timeline.follow-backfill-size:20}")
+    private int followBackfillSize;
+
+    /**
+     * 새 숏폼을 작성자의 모든 팔로워 타임라인에 추가 (INSERT ... SELECT 한 번)
+     */
+    @Transactional
+    public void fanOut(ShortFormCreatedEvent event) {
+        if (isLargeAccount(event.ownerPid())) {
+            log.info("대형 계정 fan-out 생략 (조회 시 병합) - ownerPid: {}, shortFormId: {}",
+                    event.ownerPid(), event.shortFormId());
+            return;
+        }
+
+        int inserted = timelineEntryRepository.fanOut(event.shortFormId(), event.ownerPid(), event.createdAt());
+        log.info("타임라인 fan-out 완료 - shortFormId: {}, ownerPid: {}, 팔로워 타임라인: {}개",
+                event.shortFormId(), event.ownerPid(), inserted);
+    }
+
+    /**
+     * 팔로우 시 작성자의 최근 숏폼을 타임라인에 채워넣기
+     */
+    @Transactional
+    public void onFollow(String followerPid, String followeePid) {
+        if (isLargeAccount(followeePid)) {
+            return; // 조회 시 병합되므로 백필 불필요
+        }
+        int inserted = timelineEntryRepository.backfill(followerPid, followeePid, followBackfillSize);
+        log.debug("팔로우 타임라인 백필 - follower: {}, followee: {}, 추가: {}개", followerPid, followeePid, inserted);
+    }
+
+    /**
+     * 언팔로우 시 해당 작성자의 항목을 타임라인에서 제거
+     */
+    @Transactional
+    public void onUnfollow(String followerPid, String followeePid) {
+        int deleted = timelineEntryRepository.deleteByViewerPidAndAuthorPid(followerPid, followeePid);
+        log.debug("언팔로우 타임라인 정리 - follower: {}, followee: {}, 삭제: {}개", followerPid, followeePid, deleted);
+    }
+
+    /**
+     * 팔로잉 피드 조회 (shortFormId 내림차순 커서 페이지네이션)
+     */
+    @Transactional(readOnly = true)
+    public ShortFormFeedResponse getFollowingFeed(String viewerPid, String pageParam, int size) {
+        return getFollowingFeed(viewerPid, pageParam, size, ThumbnailPreference.DEFAULT);
+    }
+
+    @Transactional(readOnly = true)
+    public ShortFormFeedResponse getFollowingFeed(String viewerPid, String pageParam, int size,
+                                                  ThumbnailPreference thumbnailPreference) {
+        if (viewerPid == null || viewerPid.isBlank()) {
+            throw new IllegalArgumentException("팔로잉 피드는 currentUserPid가 필요합니다.");
+        }
+
+        Long cursorId = pageParam == null ? null : decodeCursor(pageParam);
+        Pageable pageable = PageRequest.of(0, size + 1); // 하나 더 가져와서 다음 페이지 존재 확인
+
+        TreeSet<Long> ids = new TreeSet<>(Comparator.reverseOrder());
+        Map<Long, ShortForm> loaded = new HashMap<>();
+
+        // 1) push: 타임라인 저장소
+        List<TimelineEntry> entries = cursorId == null
+                ? timelineEntryRepository.findByViewerPidOrderByShortFormIdDesc(viewerPid, pageable)
+                : timelineEntryRepository.findByViewerPidAndShortFormIdLessThanOrderByShortFormIdDesc(viewerPid, cursorId, pageable);
+        entries.forEach(entry -> ids.add(entry.getShortFormId()));
+
+        // 2) pull: 팔로우 중인 대형 계정의 최신 숏폼
+        List<String> followedLargeAccounts = findFollowedLargeAccounts(viewerPid);
+        if (!followedLargeAccounts.isEmpty()) {
+            List<ShortForm> pulled = cursorId == null
+                    ? shortFormRepository.findByOwnerPidInOrderByIdDesc(followedLargeAccounts, pageable)
+                    : shortFormRepository.findByOwnerPidInAndIdLessThanOrderByIdDesc(followedLargeAccounts, cursorId, pageable);
+            for (ShortForm sf : pulled) {
+                ids.add(sf.getId());
+                loaded.put(sf.getId(), sf);
+            }
+        }
+
+        List<Long> pageIds = ids.stream().limit(size + 1L).toList();
+        boolean hasNextPage = pageIds.size() > size;
+        if (hasNextPage) {
+            pageIds = pageIds.subList(0, size); // 마지막 항목 제거
+        }
+
+        // 3) 아직 로드하지 않은 숏폼만 한 번에 조회
+        List<Long> missingIds = pageIds.stream().filter(id -> !loaded.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            shortFormRepository.findAllById(missingIds).forEach(sf -> loaded.put(sf.getId(), sf));
+        }
+        List<ShortForm> shortForms = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            ShortForm sf = loaded.get(id);
+            if (sf != null) {
+                shortForms.add(sf);
+            }
+        }
+
+        log.debug("팔로잉 피드 - viewer: {}, 타임라인: {}개, 대형 계정: {}개, 페이지: {}개",
+                viewerPid, entries.size(), followedLargeAccounts.size(), shortForms.size());
+
+        List<ShortFormReelsResponse> data = feedHydrationService.hydrate(shortForms, viewerPid, thumbnailPreference);
+        String nextPageParam = hasNextPage ? encodeCursor(pageIds.get(pageIds.size() - 1)) : null;
+
+        return ShortFormFeedResponse.of(data, nextPageParam, hasNextPage);
+    }
+
+    private List<String> findFollowedLargeAccounts(String viewerPid) {
+        Set<String> accounts = largeAccounts();
+        if (accounts.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return List.copyOf(followMembershipService.filterFollowed(viewerPid, accounts));
+    }
+
+    private boolean isLargeAccount(String pid) {
+        return largeAccounts().contains(pid);
+    }
+
+    /**
+     * 대형 계정 목록 (refresh 주기가 지나면 한 스레드만 다시 집계하고, 나머지는 기존 목록 사용)
+     */
+    private Set<String> largeAccounts() {
+        if (Duration.between(largeAccountsLoadedAt, Instant.now()).compareTo(largeAccountRefresh) <= 0) {
+            return largeAccounts;
+        }
+
+        boolean firstLoad = largeAccountsLoadedAt.equals(Instant.EPOCH);
+        if (firstLoad) {
+            largeAccountRefreshLock.lock(); // 최초 로드는 모두 대기
+        } else if (!largeAccountRefreshLock.tryLock()) {
+            return largeAccounts;
+        }
+        try {
+            if (Duration.between(largeAccountsLoadedAt, Instant.now()).compareTo(largeAccountRefresh) > 0) {
+                largeAccounts = Set.copyOf(followRepository.findFolloweePidsWithFollowerCountOver(fanoutThreshold));
+                largeAccountsLoadedAt = Instant.now();
+                log.info("대형 계정 목록 갱신 - 기준: 팔로워 {}명 초과, 계정 수: {}", fanoutThreshold, largeAccounts.size());
+            }
+        } finally {
+            largeAccountRefreshLock.unlock();
+        }
+        return largeAccounts;
+    }
+
+    private Long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getDecoder().decode(cursor)));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private String encodeCursor(Long id) {
+        return Base64.getEncoder().encodeToString(id.toString().getBytes());
+    }
+}
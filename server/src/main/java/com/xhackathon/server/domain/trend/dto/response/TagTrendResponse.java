@@ -0,0 +1,27 @@
+package com.xhackathon.server.domain.trend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TagTrendResponse {
+
+    private String window; // hour | day
+    private List<TrendingTag> tags; // 점수 내림차순
+
+    public static TagTrendResponse of(String window, List<TrendingTag> tags) {
+        return new TagTrendResponse(window, tags);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TrendingTag {
+        private String tag;
+        private double score;      // 최근일수록 가중치가 큰 감쇠 점수
+        private long uploadCount;  // 기간 내 업로드 수
+        private long searchCount;  // 기간 내 검색 수
+    }
+}
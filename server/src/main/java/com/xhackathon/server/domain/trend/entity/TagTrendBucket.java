@@ -0,0 +1,37 @@
+package com.xhackathon.server.domain.trend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 태그 트렌드 시간 버킷 (태그별 1시간 단위 업로드/검색 수)
+ * 메모리 카운터를 주기적으로 체크포인트한 값이며, 재시작 시 최근 하루치를 복원합니다.
+ */
+@Entity
+@Getter
+@Table(name = "tag_trend_buckets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_tag_trend_tag_bucket",
+                columnNames = {"tag", "bucket_start"}),
+        indexes = @Index(name = "idx_tag_trend_bucket_start", columnList = "bucket_start"))
+public class TagTrendBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tag", nullable = false)
+    private String tag;
+
+    @Column(name = "bucket_start", nullable = false)
+    private OffsetDateTime bucketStart;
+
+    @Column(name = "upload_count", nullable = false)
+    private long uploadCount;
+
+    @Column(name = "search_count", nullable = false)
+    private long searchCount;
+
+    protected TagTrendBucket() {}
+}
@@ -0,0 +1,31 @@
+package com.xhackathon.server.domain.trend.repository;
+
+import com.xhackathon.server.domain.trend.entity.TagTrendBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface TagTrendBucketRepository extends JpaRepository<TagTrendBucket, Long> {
+
+    List<TagTrendBucket> findByBucketStartGreaterThanEqual(OffsetDateTime from);
+
+    //버킷 값을 메모리 카운터 값으로 덮어쓰기 (누적값이므로 재실행해도 안전)
+    @Modifying
+    @Query(value = "INSERT INTO tag_trend_buckets (tag, bucket_start, upload_count, search_count) " +
+           "VALUES (:tag, :bucketStart, :uploadCount, :searchCount) " +
+           "ON CONFLICT (tag, bucket_start) DO UPDATE " +
+           "SET upload_count = EXCLUDED.upload_count, search_count = EXCLUDED.search_count",
+           nativeQuery = true)
+    int upsert(@Param("tag") String tag,
+               @Param("bucketStart") OffsetDateTime bucketStart,
+               @Param("uploadCount") long uploadCount,
+               @Param("searchCount") long searchCount);
+
+    @Modifying
+    @Query("DELETE FROM TagTrendBucket b WHERE b.bucketStart < :before")
+    int deleteByBucketStartBefore(@Param("before") OffsetDateTime before);
+}
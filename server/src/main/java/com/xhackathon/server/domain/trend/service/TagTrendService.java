@@ -0,0 +1,292 @@
+package com.xhackathon.server.domain.trend.service;
+
+import com.xhackathon.server.domain.shortform.event.ShortFormChangedEvent;
+import com.xhackathon.server.domain.trend.dto.response.TagTrendResponse;
+import com.xhackathon.server.domain.trend.entity.TagTrendBucket;
+import com.xhackathon.server.domain.trend.repository.TagTrendBucketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 태그 트렌드 (최근 1시간 / 하루)
+ *
+ * - 새 업로드에 붙은 태그와 태그 검색을 메모리의 시간 버킷 카운터로 집계합니다 (short_forms 재조회 없음).
+ *   1시간 기간은 1분 버킷 60개, 하루 기간은 1시간 버킷 24개의 링으로 관리합니다.
+ * - 카운터는 락 없이 CAS로 갱신합니다. 버킷이 바뀌는 순간 동시에 들어온 소량의 카운트는 유실될 수 있습니다 (근사 집계).
+ * - 점수는 (업로드 + 검색 × SEARCH_WEIGHT)를 버킷 나이에 따라 감쇠해 합산합니다.
+ * - 1시간 버킷은 주기적으로 DB에 체크포인트하고, 재시작 시 최근 하루치를 복원합니다.
+ *   1분 버킷은 저장하지 않으므로 재시작 직후 1시간 트렌드는 비어 있습니다.
+ */
+@Slf4j
+@Service
+public class TagTrendService {
+
+    private static final double SEARCH_WEIGHT = 0.3; // 검색 1회 = 업로드 0.3회
+    private static final int MAX_TAG_LENGTH = 100;
+    private static final int MAX_LIMIT = 50;
+    private static final Duration RETENTION = Duration.ofDays(2);
+    private static final long MINUTE_MILLIS = TrendWindow.HOUR.bucketMillis();
+    private static final long HOUR_MILLIS = TrendWindow.DAY.bucketMillis();
+    private static final long DAY_MILLIS = Duration.ofDays(1).toMillis();
+
+    private final TagTrendBucketRepository tagTrendBucketRepository;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<String, TagCounter> counters = new ConcurrentHashMap<>();
+    // 마지막 체크포인트 이후 바뀐 (태그, 1시간 버킷)
+    private final Set<DirtyBucket> dirtyBuckets = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public TagTrendService(TagTrendBucketRepository tagTrendBucketRepository) {
+        this(tagTrendBucketRepository, Clock.systemUTC());
+    }
+
+    TagTrendService(TagTrendBucketRepository tagTrendBucketRepository, Clock clock) {
+        this.tagTrendBucketRepository = tagTrendBucketRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * 새로 붙은 태그만 업로드로 집계 (생성 시 태그, AI 콜백 등으로 추가된 태그)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onShortFormChanged(ShortFormChangedEvent event) {
+        if (event.tags() == null || event.tags().isEmpty()) {
+            return;
+        }
+        Set<String> previous = new HashSet<>();
+        if (event.previousTags() != null) {
+            event.previousTags().forEach(tag -> previous.add(normalize(tag)));
+        }
+        for (String tag : new HashSet<>(event.tags())) {
+            if (!previous.contains(normalize(tag))) {
+                record(tag, true);
+            }
+        }
+    }
+
+    public void recordSearch(String tag) {
+        record(tag, false);
+    }
+
+    public void recordSearches(Collection<String> tags) {
+        new HashSet<>(tags).forEach(tag -> record(tag, false));
+    }
+
+    private void record(String rawTag, boolean upload) {
+        String tag = normalize(rawTag);
+        if (tag == null) {
+            return;
+        }
+        long now = clock.millis();
+        counters.computeIfAbsent(tag, k -> new TagCounter()).add(now, upload);
+        dirtyBuckets.add(new DirtyBucket(tag, now / HOUR_MILLIS));
+    }
+
+    /**
+     * 기간 내 감쇠 점수 상위 태그
+     */
+    public TagTrendResponse getTrending(String window, int limit) {
+        TrendWindow trendWindow = TrendWindow.from(window);
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        long now = clock.millis();
+
+        Comparator<TagTrendResponse.TrendingTag> byScore = Comparator.comparingDouble(TagTrendResponse.TrendingTag::getScore);
+        PriorityQueue<TagTrendResponse.TrendingTag> top = new PriorityQueue<>(size + 1, byScore);
+        counters.forEach((tag, counter) -> {
+            TagTrendResponse.TrendingTag item = counter.summarize(tag, trendWindow, now);
+            if (item.getScore() <= 0) {
+                return;
+            }
+            top.offer(item);
+            if (top.size() > size) {
+                top.poll();
+            }
+        });
+
+        List<TagTrendResponse.TrendingTag> tags = new ArrayList<>(top);
+        tags.sort(byScore.reversed().thenComparing(TagTrendResponse.TrendingTag::getTag));
+        return TagTrendResponse.of(trendWindow.label(), tags);
+    }
+
+    /**
+     * 재시작 시 최근 하루치 1시간 버킷 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void restore() {
+        long now = clock.millis();
+        long fromBucket = now / HOUR_MILLIS - (TrendWindow.DAY.slots() - 1);
+        List<TagTrendBucket> buckets = tagTrendBucketRepository.findByBucketStartGreaterThanEqual(toDateTime(fromBucket));
+        for (TagTrendBucket bucket : buckets) {
+            long hourBucket = bucket.getBucketStart().toInstant().toEpochMilli() / HOUR_MILLIS;
+            counters.computeIfAbsent(bucket.getTag(), k -> new TagCounter())
+                    .restoreHour(hourBucket, bucket.getUploadCount(), bucket.getSearchCount(), now);
+        }
+        log.info("태그 트렌드 복원 완료 - 버킷: {}개, 태그: {}개", buckets.size(), counters.size());
+    }
+
+    /**
+     * 바뀐 1시간 버킷을 DB에 기록하고, 오래된 버킷과 유휴 태그 정리
+     */
+    @Scheduled(fixedDelayString = "${app.trend.checkpoint-interval:PT5M}",
+               initialDelayString = "${app.trend.checkpoint-interval:PT5M}")
+    @Transactional
+    public void checkpoint() {
+        long now = clock.millis();
+        int written = 0;
+        Iterator<DirtyBucket> iterator = dirtyBuckets.iterator();
+        while (iterator.hasNext()) {
+            DirtyBucket dirty = iterator.next();
+            iterator.remove();
+            TagCounter counter = counters.get(dirty.tag());
+            long[] counts = counter != null ? counter.hourCounts(dirty.hourBucket()) : null;
+            if (counts == null) {
+                continue; // 링에서 이미 밀려난 버킷
+            }
+            tagTrendBucketRepository.upsert(dirty.tag(), toDateTime(dirty.hourBucket()), counts[0], counts[1]);
+            written++;
+        }
+
+        int deleted = tagTrendBucketRepository.deleteByBucketStartBefore(
+                OffsetDateTime.ofInstant(Instant.ofEpochMilli(now).minus(RETENTION), ZoneOffset.UTC));
+        int evicted = 0;
+        for (var entry : counters.entrySet()) {
+            if (now - entry.getValue().lastActivityMillis > DAY_MILLIS
+                    && counters.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        log.info("태그 트렌드 체크포인트 - 기록: {}개, 만료 버킷 삭제: {}개, 유휴 태그 정리: {}개", written, deleted, evicted);
+    }
+
+    private static OffsetDateTime toDateTime(long hourBucket) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(hourBucket * HOUR_MILLIS), ZoneOffset.UTC);
+    }
+
+    private static String normalize(String tag) {
+        if (tag == null || tag.isBlank()) {
+            return null;
+        }
+        String trimmed = tag.trim();
+        return trimmed.length() > MAX_TAG_LENGTH ? null : trimmed;
+    }
+
+    private record DirtyBucket(String tag, long hourBucket) {
+    }
+
+    private static final class TagCounter {
+
+        private final Ring minutes = new Ring(TrendWindow.HOUR.slots());
+        private final Ring hours = new Ring(TrendWindow.DAY.slots());
+        private volatile long lastActivityMillis;
+
+        void add(long now, boolean upload) {
+            minutes.add(now / MINUTE_MILLIS, upload ? 1 : 0, upload ? 0 : 1);
+            hours.add(now / HOUR_MILLIS, upload ? 1 : 0, upload ? 0 : 1);
+            lastActivityMillis = now;
+        }
+
+        void restoreHour(long hourBucket, long uploads, long searches, long now) {
+            hours.add(hourBucket, uploads, searches);
+            lastActivityMillis = Math.max(lastActivityMillis, now);
+        }
+
+        long[] hourCounts(long hourBucket) {
+            return hours.counts(hourBucket);
+        }
+
+        TagTrendResponse.TrendingTag summarize(String tag, TrendWindow window, long now) {
+            Ring ring = window == TrendWindow.HOUR ? minutes : hours;
+            long currentBucket = now / window.bucketMillis();
+            double bucketsPerHalfLife = (double) window.halfLifeMillis() / window.bucketMillis();
+
+            long uploads = 0;
+            long searches = 0;
+            double score = 0;
+            for (int slot = 0; slot < ring.size; slot++) {
+                long age = currentBucket - ring.buckets.get(slot);
+                if (age < 0 || age >= ring.size) {
+                    continue;
+                }
+                long u = ring.uploads.get(slot);
+                long s = ring.searches.get(slot);
+                uploads += u;
+                searches += s;
+                score += (u + SEARCH_WEIGHT * s) * Math.pow(0.5, age / bucketsPerHalfLife);
+            }
+            return new TagTrendResponse.TrendingTag(tag, score, uploads, searches);
+        }
+    }
+
+    /**
+     * 시간 버킷 링 (슬롯 = 버킷 번호 % size, 슬롯의 버킷 번호가 바뀌면 0부터 다시 셈)
+     */
+    private static final class Ring {
+
+        private final int size;
+        private final AtomicLongArray buckets;
+        private final AtomicLongArray uploads;
+        private final AtomicLongArray searches;
+
+        Ring(int size) {
+            this.size = size;
+            this.buckets = new AtomicLongArray(size);
+            this.uploads = new AtomicLongArray(size);
+            this.searches = new AtomicLongArray(size);
+        }
+
+        void add(long bucket, long uploadDelta, long searchDelta) {
+            int slot = (int) (bucket % size);
+            long current = buckets.get(slot);
+            while (current < bucket) {
+                if (buckets.compareAndSet(slot, current, bucket)) {
+                    uploads.set(slot, 0);
+                    searches.set(slot, 0);
+                    break;
+                }
+                current = buckets.get(slot);
+            }
+            if (buckets.get(slot) != bucket) {
+                return; // 링보다 오래된 버킷
+            }
+            if (uploadDelta != 0) {
+                uploads.addAndGet(slot, uploadDelta);
+            }
+            if (searchDelta != 0) {
+                searches.addAndGet(slot, searchDelta);
+            }
+        }
+
+        long[] counts(long bucket) {
+            int slot = (int) (bucket % size);
+            if (buckets.get(slot) != bucket) {
+                return null;
+            }
+            return new long[]{uploads.get(slot), searches.get(slot)};
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.xhackathon.server.domain.trend.service;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 트렌드 집계 기간
+ * 기간을 slots개의 버킷으로 나누고, 점수는 버킷 나이에 따라 halfLife마다 절반으로 감쇠합니다.
+ */
+public enum TrendWindow {
+
+    HOUR(Duration.ofMinutes(1), 60, Duration.ofMinutes(15)),
+    DAY(Duration.ofHours(1), 24, Duration.ofHours(6));
+
+    private final Duration bucket;
+    private final int slots;
+    private final Duration halfLife;
+
+    TrendWindow(Duration bucket, int slots, Duration halfLife) {
+        this.bucket = bucket;
+        this.slots = slots;
+        this.halfLife = halfLife;
+    }
+
+    public long bucketMillis() {
+        return bucket.toMillis();
+    }
+
+    public int slots() {
+        return slots;
+    }
+
+    public long halfLifeMillis() {
+        return halfLife.toMillis();
+    }
+
+    public String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static TrendWindow from(String value) {
+        if (value == null || value.isBlank()) {
+            return HOUR;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 트렌드 기간입니다 (hour, day): " + value);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.xhackathon.server.domain.user.event;
+
+/**
+ * 사용자 프로필(이름, 소개, 프로필 이미지) 변경 이벤트 (트랜잭션 커밋 후 처리)
+ */
+public record UserProfileChangedEvent(String pid) {
+}
@@ -4,10 +4,13 @@ import com.xhackathon.server.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
     boolean existsByLoginId(String loginId);
     Optional<User> findByPid(String pid);
+    List<User> findByPidIn(Collection<String> pids);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.xhackathon.server.domain.user.service;
+
+import com.xhackathon.server.domain.user.entity.User;
+
+/**
+ * 목록/상세 응답에 쓰는 사용자 프로필 스냅샷 (불변)
+ */
+public record UserProfile(String pid, String displayName, String profileImageUrl, String bio) {
+
+    public static UserProfile from(User user) {
+        return new UserProfile(user.getPid(), user.getDisplayName(), user.getProfileImageUrl(), user.getBio());
+    }
+}
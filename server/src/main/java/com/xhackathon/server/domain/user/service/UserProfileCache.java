@@ -0,0 +1,174 @@
+package com.xhackathon.server.domain.user.service;
+
+import com.xhackathon.server.domain.user.entity.User;
+import com.xhackathon.server.domain.user.event.UserProfileChangedEvent;
+import com.xhackathon.server.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * pid별 사용자 프로필 스냅샷 캐시 (피드/릴스/기업 페이지/북마크 지원자 목록의 소유자 정보)
+ *
+ * - 최대 항목 수를 넘으면 가장 오래 사용하지 않은 프로필부터 제거하고, ttl이 지나면 다시 읽습니다.
+ * - 프로필이 바뀌면 커밋 후 UserProfileChangedEvent로 해당 항목을 제거합니다.
+ *   DB에서 읽는 도중 무효화가 일어나면 읽은 결과는 캐시하지 않습니다.
+ * - 없는 사용자는 캐시하지 않습니다.
+ */
+@Component
+public class UserProfileCache {
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true); // 접근 순서
+    private final ReentrantLock entriesLock = new ReentrantLock();
+    // 무효화할 때마다 증가 (읽기 시작 시점과 다르면 저장하지 않음)
+    private final AtomicLong version = new AtomicLong();
+
+    private final Function<Collection<String>, List<User>> loader;
+    private final int maxEntries;
+    private final Duration ttl;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired
+    public UserProfileCache(
+            UserRepository userRepository,
+            @Value("${app.user.profile-cache.max-entries:10000}") int maxEntries,
+            @Value("${app.user.profile-cache.ttl:PT10M}") Duration ttl) {
+        this(userRepository::findByPidIn, maxEntries, ttl);
+    }
+
+    UserProfileCache(Function<Collection<String>, List<User>> loader, int maxEntries, Duration ttl) {
+        this.loader = loader;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+    }
+
+    public Optional<UserProfile> get(String pid) {
+        if (pid == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getAll(List.of(pid)).get(pid));
+    }
+
+    /**
+     * 여러 사용자 프로필 일괄 조회 (캐시에 없는 pid만 한 번에 DB 조회)
+     *
+     * @return pid → 프로필 (없는 사용자는 포함하지 않음)
+     */
+    public Map<String, UserProfile> getAll(Collection<String> pids) {
+        Map<String, UserProfile> result = new LinkedHashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        Instant now = Instant.now();
+
+        entriesLock.lock();
+        try {
+            for (String pid : pids) {
+                if (pid == null || result.containsKey(pid)) {
+                    continue;
+                }
+                Entry entry = entries.get(pid);
+                if (entry != null && now.isBefore(entry.expiresAt())) {
+                    result.put(pid, entry.profile());
+                } else {
+                    missing.add(pid);
+                }
+            }
+        } finally {
+            entriesLock.unlock();
+        }
+        hits.add(result.size());
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        misses.add(missing.size());
+        long loadVersion = version.get();
+        List<UserProfile> loaded = new ArrayList<>(missing.size());
+        for (User user : loader.apply(missing)) {
+            UserProfile profile = UserProfile.from(user);
+            loaded.add(profile);
+            result.put(profile.pid(), profile);
+        }
+        store(loaded, loadVersion, now.plus(ttl));
+        return result;
+    }
+
+    public void invalidate(String pid) {
+        version.incrementAndGet();
+        invalidations.increment();
+        entriesLock.lock();
+        try {
+            entries.remove(pid);
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        invalidate(event.pid());
+    }
+
+    private void store(List<UserProfile> profiles, long loadVersion, Instant expiresAt) {
+        entriesLock.lock();
+        try {
+            // 읽는 동안 무효화된 프로필이 있을 수 있으므로 저장하지 않음
+            if (version.get() != loadVersion) {
+                return;
+            }
+            for (UserProfile profile : profiles) {
+                entries.put(profile.pid(), new Entry(profile, expiresAt));
+            }
+            Iterator<String> eldest = entries.keySet().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        entriesLock.lock();
+        try {
+            stats.put("entries", entries.size());
+        } finally {
+            entriesLock.unlock();
+        }
+        long total = hits.sum() + misses.sum();
+        stats.put("maxEntries", maxEntries);
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("invalidations", invalidations.sum());
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) hits.sum() / total);
+        return stats;
+    }
+
+    private record Entry(UserProfile profile, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.xhackathon.server.common.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> flight = new SingleFlight<>();
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flight.execute("a", () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "결과";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // 실행 중에는 기다리지 않고 같은 future를 받음
+        CompletableFuture<String> first = flight.submit("a", () -> "다른 결과");
+        CompletableFuture<String> second = flight.submit("a", () -> "다른 결과");
+        assertSame(first, second);
+        assertFalse(first.isDone());
+
+        release.countDown();
+        assertEquals("결과", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("결과", first.get(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+        assertEquals(1L, flight.stats().get("executions"));
+        assertEquals(2L, flight.stats().get("coalescedCallers"));
+        assertEquals(0, flight.stats().get("inFlight"));
+    }
+
+    @Test
+    void completedResultIsNotReused() {
+        flight.execute("a", () -> "v" + runs.incrementAndGet());
+
+        assertEquals("v2", flight.execute("a", () -> "v" + runs.incrementAndGet()));
+    }
+
+    @Test
+    void differentKeysRunSeparately() {
+        assertEquals("a", flight.execute("a", () -> "a"));
+        assertEquals("b", flight.execute("b", () -> "b"));
+
+        assertEquals(2L, flight.stats().get("executions"));
+    }
+
+    @Test
+    void execute_rethrowsTaskExceptionAndAllowsRetry() {
+        assertThrows(IllegalStateException.class,
+                () -> flight.execute("a", () -> { throw new IllegalStateException("S3 오류"); }));
+
+        assertEquals("재시도", flight.execute("a", () -> "재시도"));
+        assertEquals(1L, flight.stats().get("failures"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.xhackathon.server.common.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeDecode_roundTripsAtMicrosecondPrecision() {
+        OffsetDateTime createdAt = OffsetDateTime.of(2025, 11, 8, 14, 3, 21, 123_456_000, ZoneOffset.ofHours(9));
+
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of(createdAt, 42L).encode());
+
+        assertFalse(decoded.isLegacy());
+        assertEquals(42L, decoded.id());
+        assertTrue(createdAt.isEqual(decoded.createdAt()));
+    }
+
+    @Test
+    void encode_truncatesSubMicrosecondPart() {
+        OffsetDateTime createdAt = OffsetDateTime.of(2025, 11, 8, 5, 0, 0, 123_456_789, ZoneOffset.UTC);
+
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of(createdAt, 7L).encode());
+
+        assertEquals(123_456_000, decoded.createdAt().getNano());
+    }
+
+    @Test
+    void encode_isUrlSafe() {
+        String encoded = KeysetCursor.of(OffsetDateTime.now(), Long.MAX_VALUE).encode();
+
+        assertFalse(encoded.contains("+"));
+        assertFalse(encoded.contains("/"));
+        assertFalse(encoded.contains("="));
+    }
+
+    @Test
+    void decode_acceptsLegacyIdOnlyCursor() {
+        String legacy = Base64.getEncoder().encodeToString("1234".getBytes(StandardCharsets.UTF_8));
+
+        KeysetCursor decoded = KeysetCursor.decode(legacy);
+
+        assertTrue(decoded.isLegacy());
+        assertEquals(1234L, decoded.id());
+    }
+
+    @Test
+    void decode_rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetCursor.decode(Base64.getUrlEncoder().encodeToString("abc:def".getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -0,0 +1,161 @@
+package com.xhackathon.server.domain.follow.service;
+
+import com.xhackathon.server.domain.follow.event.FollowChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FollowCountServiceTest {
+
+    private final MemoryStore store = new MemoryStore();
+    private final FollowCountService service = new FollowCountService(store);
+
+    @Test
+    void accumulatesDeltasUntilFlush() {
+        store.rows.put("star", new long[]{10, 0});
+        store.rows.put("fan", new long[]{0, 3});
+
+        service.onFollowChanged(new FollowChangedEvent("fan", "star", true));
+        service.onFollowChanged(new FollowChangedEvent("fan2", "star", true));
+        service.onFollowChanged(new FollowChangedEvent("fan2", "star", false));
+
+        assertEquals(11, service.getFollowerCount("star"));
+        assertEquals(4, service.getFollowingCount("fan"));
+        assertEquals(10, store.rows.get("star")[0]);
+
+        service.flush();
+
+        // 반영 후에도 같은 값, 0이 된 항목은 제거
+        assertEquals(11, store.rows.get("star")[0]);
+        assertEquals(11, service.getFollowerCount("star"));
+        assertEquals(4, service.getFollowingCount("fan"));
+        assertEquals(0, service.stats().get("trackedAccounts"));
+    }
+
+    @Test
+    void seedsRowOnlyForExistingUsers() {
+        store.users.add("user");
+        store.followers.put("user", 2L);
+        store.followers.put("ghost", 5L);
+
+        assertEquals(2, service.getFollowerCount("user"));
+        assertEquals(5, service.getFollowerCount("ghost"));
+        assertEquals(1, service.stats().get("pendingSeeds"));
+        assertEquals(0, service.stats().get("trackedAccounts"));
+
+        service.flush();
+
+        assertArrayEquals(new long[]{2, 0}, store.rows.get("user"));
+        assertFalse(store.rows.containsKey("ghost"));
+        assertEquals(0, service.stats().get("pendingSeeds"));
+        assertEquals(List.of(1), store.batchSizes);
+    }
+
+    @Test
+    void failedFlushKeepsDeltasAndSeeds() {
+        store.rows.put("star", new long[]{1, 0});
+        store.users.add("user");
+        service.onFollowChanged(new FollowChangedEvent("fan", "star", true));
+        service.getFollowerCount("user");
+
+        store.failing = true;
+        service.flush();
+        assertEquals(2, service.getFollowerCount("star"));
+
+        store.failing = false;
+        service.flush();
+        assertEquals(2, store.rows.get("star")[0]);
+        assertTrue(store.rows.containsKey("user"));
+        assertEquals(0, service.stats().get("trackedAccounts"));
+    }
+
+    @Test
+    void concurrentChangesAreNotLostAcrossFlushes() throws Exception {
+        store.rows.put("star", new long[]{0, 0});
+        int threads = 4;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            String fan = "fan" + t;
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    service.onFollowChanged(new FollowChangedEvent(fan, "star", true));
+                }
+                done.countDown();
+            });
+        }
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            service.flush();
+        }
+        executor.shutdown();
+        service.flush();
+
+        assertEquals((long) threads * perThread, store.rows.get("star")[0]);
+        assertEquals((long) threads * perThread, service.getFollowerCount("star"));
+    }
+
+    private static final class MemoryStore implements FollowCountService.Store {
+
+        private final Map<String, long[]> rows = new HashMap<>();
+        private final Map<String, Long> followers = new HashMap<>();
+        private final Set<String> users = new HashSet<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public synchronized Optional<FollowCountService.Counts> find(String pid) {
+            long[] row = rows.get(pid);
+            return row == null ? Optional.empty() : Optional.of(new FollowCountService.Counts(row[0], row[1]));
+        }
+
+        @Override
+        public synchronized long countFollowers(String pid) {
+            return followers.getOrDefault(pid, 0L);
+        }
+
+        @Override
+        public long countFollowings(String pid) {
+            return 0;
+        }
+
+        @Override
+        public synchronized boolean userExists(String pid) {
+            return users.contains(pid);
+        }
+
+        @Override
+        public synchronized void applyDeltas(List<FollowCountService.Snapshot> snapshots) {
+            if (failing) {
+                throw new IllegalStateException("DB 오류");
+            }
+            batchSizes.add(snapshots.size());
+            for (FollowCountService.Snapshot snapshot : snapshots) {
+                long[] row = rows.get(snapshot.pid());
+                if (row == null) {
+                    rows.put(snapshot.pid(), new long[]{countFollowers(snapshot.pid()), countFollowings(snapshot.pid())});
+                } else {
+                    row[0] = Math.max(0, row[0] + snapshot.followers());
+                    row[1] = Math.max(0, row[1] + snapshot.followings());
+                }
+            }
+        }
+
+        @Override
+        public int reconcile() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.xhackathon.server.domain.follow.service;
+
+import com.xhackathon.server.domain.follow.event.FollowChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FollowMembershipServiceTest {
+
+    private final Map<String, List<String>> follows = new HashMap<>();
+    private final List<String> loads = new ArrayList<>();
+    private final FollowMembershipService service = new FollowMembershipService(viewer -> {
+        loads.add(viewer);
+        return follows.getOrDefault(viewer, List.of());
+    }, 2, Duration.ofMinutes(30));
+
+    @Test
+    void filterFollowed_answersPageWithOneLoad() {
+        follows.put("me", List.of("a", "b"));
+
+        assertEquals(Set.of("a", "b"), service.filterFollowed("me", List.of("a", "b", "c")));
+        assertTrue(service.isFollowing("me", "a"));
+        assertFalse(service.isFollowing("me", "c"));
+        assertEquals(List.of("me"), loads);
+    }
+
+    @Test
+    void followChangesUpdateCachedSet() {
+        follows.put("me", List.of("a"));
+        service.isFollowing("me", "a");
+
+        service.onFollowChanged(new FollowChangedEvent("me", "b", true));
+        service.onFollowChanged(new FollowChangedEvent("me", "a", false));
+
+        assertEquals(Set.of("b"), service.filterFollowed("me", List.of("a", "b")));
+        assertEquals(1, loads.size());
+    }
+
+    @Test
+    void followChangeDuringLoadSkipsStoreOnlyForThatViewer() {
+        FollowMembershipService[] racing = new FollowMembershipService[1];
+        racing[0] = new FollowMembershipService(viewer -> {
+            loads.add(viewer);
+            // 읽는 도중 커밋된 팔로우 변경
+            racing[0].onFollowChanged(new FollowChangedEvent(viewer.equals("me") ? "other" : viewer, "b", true));
+            return follows.getOrDefault(viewer, List.of());
+        }, 2, Duration.ofMinutes(30));
+
+        // 다른 viewer의 변경은 캐시를 막지 않음
+        racing[0].isFollowing("me", "a");
+        racing[0].isFollowing("me", "a");
+        assertEquals(List.of("me"), loads);
+
+        // 자신의 변경이 있으면 저장하지 않고 다음 확인 때 다시 읽음
+        racing[0].isFollowing("you", "a");
+        racing[0].isFollowing("you", "a");
+        assertEquals(List.of("me", "you", "you"), loads);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedViewer() {
+        service.isFollowing("v1", "a");
+        service.isFollowing("v2", "a");
+        service.isFollowing("v1", "a"); // v1을 최근 사용으로
+        service.isFollowing("v3", "a"); // v2 제거
+        loads.clear();
+
+        service.isFollowing("v1", "a");
+        service.isFollowing("v2", "a");
+
+        assertEquals(List.of("v2"), loads);
+    }
+
+    @Test
+    void followeeSet_hasNoFalseNegativesAndRejectsMostMisses() {
+        List<String> followed = IntStream.range(0, 1_000).mapToObj(i -> "user_" + i).toList();
+        FolloweeSet set = FolloweeSet.of(followed);
+
+        followed.forEach(pid -> assertTrue(set.contains(pid)));
+        long bloomPasses = IntStream.range(1_000, 11_000)
+                .mapToObj(i -> "user_" + i)
+                .filter(pid -> {
+                    assertFalse(set.contains(pid));
+                    return set.mightContain(FolloweeSet.hash(pid));
+                })
+                .count();
+        assertTrue(bloomPasses < 500, "블룸 필터 통과 비율이 너무 높음: " + bloomPasses);
+        assertEquals(999, set.without("user_0").size());
+        assertSame(set, set.with("user_1"));
+    }
+}
@@ -0,0 +1,195 @@
+package com.xhackathon.server.domain.shortform.media;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Mp4FrameLocatorTest {
+
+    private static final int TIMESCALE = 1000;
+    private static final int SAMPLE_DELTA = 100; // 10fps
+    private static final int SAMPLE_COUNT = 100; // 10초
+    private static final int SAMPLE_SIZE = 1000;
+
+    @Test
+    void readsMoovAtEndAndOnlyTheSamplesUpToTarget() throws Exception {
+        Mp4 mp4 = buildMp4();
+        MemorySource source = new MemorySource(mp4.bytes);
+
+        SparseVideo video = new Mp4FrameLocator(64, 1024 * 1024, 1024 * 1024).locate(source, 1.0);
+
+        // 1초 = 11번째 샘플, 디코더 여유 8개까지 (19개)
+        long windowEnd = mp4.mdatPayload + 19L * SAMPLE_SIZE;
+        assertEquals(1_000_000L, video.frameTimestampMicros());
+        assertTrue(video.covers(mp4.mdatPayload, windowEnd - mp4.mdatPayload));
+        assertTrue(video.covers(mp4.moovOffset, mp4.bytes.length - mp4.moovOffset));
+        assertFalse(video.covers(windowEnd, 1));
+        assertTrue(source.fetched < mp4.bytes.length / 2);
+
+        // 채운 범위는 원본과 같고 나머지는 0
+        byte[] streamed = video.newInputStream().readAllBytes();
+        assertEquals(mp4.bytes.length, streamed.length);
+        for (int i = 0; i < streamed.length; i++) {
+            byte expected = video.covers(i, 1) ? mp4.bytes[i] : 0;
+            assertEquals(expected, streamed[i], "offset " + i);
+        }
+    }
+
+    @Test
+    void fallsBackToFirstKeyframeWhenWindowIsTooLarge() throws Exception {
+        Mp4 mp4 = buildMp4();
+
+        SparseVideo video = new Mp4FrameLocator(64, 1024 * 1024, 10 * SAMPLE_SIZE).locate(new MemorySource(mp4.bytes), 1.0);
+
+        assertEquals(0L, video.frameTimestampMicros());
+        assertTrue(video.covers(mp4.mdatPayload, 9L * SAMPLE_SIZE));
+        assertFalse(video.covers(mp4.mdatPayload + 9L * SAMPLE_SIZE, 1));
+    }
+
+    @Test
+    void extendsWindowForPreviewSpanWithinLimit() throws Exception {
+        Mp4 mp4 = buildMp4();
+
+        // 1초 + 2초 = 31번째 샘플까지 (+8)
+        SparseVideo preview = new Mp4FrameLocator(64, 1024 * 1024, 1024 * 1024).locate(new MemorySource(mp4.bytes), 1.0, 2.0);
+        assertEquals(1_000_000L, preview.frameTimestampMicros());
+        assertEquals(3_000_000L, preview.lastFrameMicros());
+        assertTrue(preview.covers(mp4.mdatPayload, 39L * SAMPLE_SIZE));
+
+        // 이어지는 구간까지 한도를 넘으면 목표 프레임까지만
+        SparseVideo limited = new Mp4FrameLocator(64, 1024 * 1024, 25 * SAMPLE_SIZE).locate(new MemorySource(mp4.bytes), 1.0, 2.0);
+        assertEquals(1_000_000L, limited.lastFrameMicros());
+        assertFalse(limited.covers(mp4.mdatPayload + 19L * SAMPLE_SIZE, 1));
+    }
+
+    @Test
+    void readsOnlyHeaderAndRecordsMoovPosition() throws Exception {
+        Mp4 mp4 = buildMp4();
+        MemorySource source = new MemorySource(mp4.bytes);
+
+        SparseVideo header = new Mp4FrameLocator(64, 1024 * 1024, 1024 * 1024).readHeader(source);
+
+        assertEquals(Long.valueOf(mp4.moovOffset), header.moovOffset());
+        assertEquals(Boolean.FALSE, header.faststart());
+        assertTrue(header.covers(mp4.moovOffset, mp4.bytes.length - mp4.moovOffset));
+        assertFalse(header.covers(64, 1));
+        // 첫 요청(ftyp, mdat 헤더)과 박스 헤더, moov만 읽음
+        assertTrue(source.fetched < 64 + 64 + mp4.bytes.length - mp4.moovOffset);
+    }
+
+    @Test
+    void rejectsNonMp4() {
+        byte[] webm = new byte[4096];
+        webm[0] = 0x1A;
+        webm[1] = 0x45;
+        webm[2] = (byte) 0xDF;
+        webm[3] = (byte) 0xA3;
+
+        assertThrows(IOException.class,
+                () -> new Mp4FrameLocator(64, 1024 * 1024, 1024 * 1024).locate(new MemorySource(webm), 1.0));
+    }
+
+    @Test
+    void sparseStreamSupportsSkipAndReset() throws Exception {
+        SparseVideo video = new SparseVideo(10);
+        video.add(2, new byte[]{1, 2});
+        video.add(4, new byte[]{3});
+        video.add(8, new byte[]{9});
+        assertEquals(2, video.segmentCount());
+
+        InputStream in = video.newInputStream();
+        assertEquals(3, in.skip(3));
+        in.mark(0);
+        assertArrayEquals(new byte[]{2, 3, 0, 0, 0, 9, 0}, in.readAllBytes());
+        in.reset();
+        assertEquals(2, in.read());
+    }
+
+    // ftyp | mdat(샘플 100개) | moov (moov가 파일 끝에 있는 구조)
+    private static Mp4 buildMp4() {
+        byte[] ftyp = box("ftyp", "isom".getBytes(StandardCharsets.ISO_8859_1), new byte[8]);
+        byte[] samples = new byte[SAMPLE_COUNT * SAMPLE_SIZE];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (byte) (i % 251 + 1);
+        }
+        byte[] mdat = box("mdat", samples);
+        int mdatPayload = ftyp.length + 8;
+
+        // 10개 샘플씩 청크 10개, 키프레임은 1, 51
+        ByteBuffer stco = ByteBuffer.allocate(8 + 10 * 4).putInt(0).putInt(10);
+        for (int chunk = 0; chunk < 10; chunk++) {
+            stco.putInt(mdatPayload + chunk * 10 * SAMPLE_SIZE);
+        }
+        byte[] stbl = box("stbl",
+                box("stts", ints(0, 1, SAMPLE_COUNT, SAMPLE_DELTA)),
+                box("stss", ints(0, 2, 1, 51)),
+                box("stsz", ints(0, SAMPLE_SIZE, SAMPLE_COUNT)),
+                box("stsc", ints(0, 1, 1, 10, 1)),
+                box("stco", stco.array()));
+        byte[] mdia = box("mdia",
+                box("mdhd", ints(0, 0, 0, TIMESCALE, SAMPLE_COUNT * SAMPLE_DELTA, 0)),
+                box("hdlr", ints(0, 0), "vide".getBytes(StandardCharsets.ISO_8859_1), new byte[13]),
+                box("minf", stbl));
+        byte[] moov = box("moov", box("mvhd", new byte[100]), box("trak", mdia));
+
+        return new Mp4(concat(ftyp, mdat, moov), mdatPayload, ftyp.length + mdat.length);
+    }
+
+    private static byte[] box(String type, byte[]... payloads) {
+        byte[] payload = concat(payloads);
+        return ByteBuffer.allocate(8 + payload.length)
+                .putInt(8 + payload.length)
+                .put(type.getBytes(StandardCharsets.ISO_8859_1))
+                .put(payload)
+                .array();
+    }
+
+    private static byte[] ints(int... values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * 4);
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+
+    private record Mp4(byte[] bytes, int mdatPayload, int moovOffset) {
+    }
+
+    private static final class MemorySource implements RangeSource {
+
+        private final byte[] data;
+        private long fetched;
+
+        private MemorySource(byte[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public byte[] read(long offset, int length) {
+            int from = (int) Math.min(offset, data.length);
+            int to = (int) Math.min(offset + length, data.length);
+            fetched += to - from;
+            return Arrays.copyOfRange(data, from, to);
+        }
+
+        @Override
+        public long size() {
+            return data.length;
+        }
+    }
+}
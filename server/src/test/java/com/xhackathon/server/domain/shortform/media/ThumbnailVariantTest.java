@@ -0,0 +1,63 @@
+package com.xhackathon.server.domain.shortform.media;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThumbnailVariantTest {
+
+    private static final Map<String, String> VARIANTS = Map.of(
+            "JPEG_320", "v_thumbnail.jpg",
+            "JPEG_640", "v_thumbnail_640.jpg",
+            "JPEG_1280", "v_thumbnail_1280.jpg",
+            "WEBP_640", "v_thumbnail_640.webp",
+            "PREVIEW_WEBP", "v_preview.webp");
+
+    @Test
+    void keysReplaceVideoExtension() {
+        assertEquals("videos/u1/a_thumbnail.jpg", ThumbnailVariant.JPEG_320.keyFor("videos/u1/a.mp4"));
+        assertEquals("videos/u1/a_preview.gif", ThumbnailVariant.PREVIEW_GIF.keyFor("videos/u1/a"));
+    }
+
+    @Test
+    void selectsSmallestStillAtLeastRequestedWidth() {
+        assertEquals("v_thumbnail.jpg", ThumbnailVariant.selectStill(VARIANTS, ThumbnailPreference.DEFAULT));
+        assertEquals("v_thumbnail_640.jpg", ThumbnailVariant.selectStill(VARIANTS, ThumbnailPreference.of(400, "jpeg")));
+        assertEquals("v_thumbnail_1280.jpg", ThumbnailVariant.selectStill(VARIANTS, ThumbnailPreference.of(2000, null)));
+    }
+
+    @Test
+    void prefersWebpAndFallsBackToJpeg() {
+        // WebP는 640만 있으면 더 작은 요청에도 640, 더 큰 요청에도 가장 큰 WebP
+        assertEquals("v_thumbnail_640.webp", ThumbnailVariant.selectStill(VARIANTS, ThumbnailPreference.of(320, "webp")));
+        assertEquals("v_thumbnail_640.webp", ThumbnailVariant.selectStill(VARIANTS, ThumbnailPreference.of(1280, "webp")));
+        assertEquals("v_thumbnail_640.jpg",
+                ThumbnailVariant.selectStill(Map.of("JPEG_640", "v_thumbnail_640.jpg"), ThumbnailPreference.of(320, "webp")));
+        assertEquals("v_preview.webp", ThumbnailVariant.selectPreview(VARIANTS, ThumbnailPreference.of(320, "webp")));
+    }
+
+    @Test
+    void nonWebpClientGetsOnlyGifPreview() {
+        assertNull(ThumbnailVariant.selectPreview(VARIANTS, ThumbnailPreference.of(320, "jpeg")));
+        Map<String, String> both = Map.of("PREVIEW_WEBP", "v_preview.webp", "PREVIEW_GIF", "v_preview.gif");
+        assertEquals("v_preview.gif", ThumbnailVariant.selectPreview(both, ThumbnailPreference.DEFAULT));
+        assertEquals("v_preview.webp", ThumbnailVariant.selectPreview(both, ThumbnailPreference.of(null, "webp")));
+        assertEquals("v_preview.gif",
+                ThumbnailVariant.selectPreview(Map.of("PREVIEW_GIF", "v_preview.gif"), ThumbnailPreference.of(null, "webp")));
+    }
+
+    @Test
+    void legacyRowsHaveNoVariants() {
+        assertNull(ThumbnailVariant.selectStill(null, ThumbnailPreference.DEFAULT));
+        assertNull(ThumbnailVariant.selectPreview(Map.of(), ThumbnailPreference.DEFAULT));
+    }
+
+    @Test
+    void rejectsInvalidPreference() {
+        assertThrows(IllegalArgumentException.class, () -> ThumbnailPreference.of(0, null));
+        assertThrows(IllegalArgumentException.class, () -> ThumbnailPreference.of(320, "avif"));
+        assertTrue(ThumbnailPreference.of(null, "JPG").isDefault());
+    }
+}
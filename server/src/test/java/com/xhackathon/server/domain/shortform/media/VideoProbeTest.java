@@ -0,0 +1,43 @@
+package com.xhackathon.server.domain.shortform.media;
+
+import com.xhackathon.server.domain.shortform.entity.ShortForm;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoProbeTest {
+
+    @Test
+    void durationRoundsToSecondsWithOneSecondMinimum() {
+        assertNull(durationOf(null).durationSec());
+        assertNull(durationOf(0L).durationSec());
+        assertNull(durationOf(-1L).durationSec());
+        assertEquals(1, durationOf(400_000L).durationSec());
+        assertEquals(2, durationOf(1_500_000L).durationSec());
+        assertEquals(10, durationOf(10_400_000L).durationSec());
+    }
+
+    @Test
+    void metadataUpdateKeepsValuesThatWereNotRead() {
+        ShortForm shortForm = new ShortForm("u1", "제목", null, "videos/u1/a.mp4", 30, List.of());
+        shortForm.updateVideoMetadata(new VideoProbe(12_000_000L, 1080, 1920, "h264", 2_000_000L, 32L, true));
+
+        // 헤더만 연 FFmpeg 결과처럼 일부만 읽은 경우
+        shortForm.updateVideoMetadata(new VideoProbe(null, 720, null, null, 1_500_000L, null, null));
+
+        assertEquals(12, shortForm.getDurationSec());
+        assertEquals(1080, shortForm.getVideoWidth());
+        assertEquals(1920, shortForm.getVideoHeight());
+        assertEquals("h264", shortForm.getVideoCodec());
+        assertEquals(1_500_000L, shortForm.getVideoBitrate());
+        assertEquals(32L, shortForm.getMoovOffset());
+        assertTrue(shortForm.getFaststart());
+        assertNotNull(shortForm.getProbedAt());
+    }
+
+    private static VideoProbe durationOf(Long durationMicros) {
+        return new VideoProbe(durationMicros, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,80 @@
+package com.xhackathon.server.domain.shortform.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FullTextIndexTest {
+
+    private final FullTextIndex index = new FullTextIndex(null);
+
+    @Test
+    void tokenize_splitsKoreanIntoBigramsAndEnglishIntoWords() {
+        assertEquals(List.of("카프", "프카", "spring", "boot", "3"), TextTokenizer.tokenize("카프카, Spring-Boot 3!"));
+        assertEquals(List.of("백", "엔드"), TextTokenizer.tokenize("백 엔드"));
+        assertEquals(List.of(), TextTokenizer.tokenize("a ! ?"));
+    }
+
+    @Test
+    void search_matchesKoreanWithParticles() {
+        index.index(1L, "카프카를 이용한 이벤트 처리", "");
+        index.index(2L, "레디스 캐시 설계", "");
+
+        List<FullTextIndex.Hit> hits = index.search("카프카", null, 10);
+
+        assertEquals(1, hits.size());
+        assertEquals(1L, hits.get(0).shortFormId());
+    }
+
+    @Test
+    void search_ranksDocumentsMatchingMoreTermsHigher() {
+        index.index(1L, "spring 소개", "");
+        index.index(2L, "spring kafka 연동", "");
+        index.index(3L, "react 입문", "");
+
+        List<FullTextIndex.Hit> hits = index.search("spring kafka", null, 10);
+
+        assertEquals(List.of(2L, 1L), hits.stream().map(FullTextIndex.Hit::shortFormId).toList());
+    }
+
+    @Test
+    void search_weighsSummaryAboveTranscript() {
+        index.index(1L, "면접 준비", "kafka");
+        index.index(2L, "kafka", "면접 준비");
+
+        assertEquals(2L, index.search("kafka", null, 10).get(0).shortFormId());
+    }
+
+    @Test
+    void search_pagesWithLastHitAsCursor() {
+        for (long id = 1; id <= 5; id++) {
+            index.index(id, "spring", "");
+        }
+
+        List<FullTextIndex.Hit> first = index.search("spring", null, 2);
+        FullTextIndex.Hit cursor = FullTextIndex.Hit.decode(first.get(1).encode());
+        List<FullTextIndex.Hit> second = index.search("spring", cursor, 2);
+        List<FullTextIndex.Hit> third = index.search("spring", second.get(1), 2);
+
+        assertEquals(List.of(5L, 4L), first.stream().map(FullTextIndex.Hit::shortFormId).toList());
+        assertEquals(List.of(3L, 2L), second.stream().map(FullTextIndex.Hit::shortFormId).toList());
+        assertEquals(List.of(1L), third.stream().map(FullTextIndex.Hit::shortFormId).toList());
+    }
+
+    @Test
+    void index_replacesPreviousContent() {
+        index.index(1L, "spring", "");
+        index.index(1L, "react", "");
+
+        assertTrue(index.search("spring", null, 10).isEmpty());
+        assertEquals(1, index.search("react", null, 10).size());
+        assertEquals(1, index.stats().get("shortForms"));
+    }
+
+    @Test
+    void decode_rejectsInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> FullTextIndex.Hit.decode("not-a-cursor"));
+    }
+}
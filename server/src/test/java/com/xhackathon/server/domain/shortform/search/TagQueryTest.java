@@ -0,0 +1,83 @@
+package com.xhackathon.server.domain.shortform.search;
+
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagQueryTest {
+
+    private final Map<String, RoaringBitmap> postings = Map.of(
+            "spring", RoaringBitmap.bitmapOf(1, 2, 3, 4, 5),
+            "kafka", RoaringBitmap.bitmapOf(2, 3, 6),
+            "intern", RoaringBitmap.bitmapOf(3, 7),
+            "spring boot", RoaringBitmap.bitmapOf(8)
+    );
+    private final RoaringBitmap universe = RoaringBitmap.bitmapOf(1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+    private int[] eval(String query) {
+        return TagQuery.parse(query).evaluate(postings::get, universe).toArray();
+    }
+
+    @Test
+    void andNot_excludesNegatedTag() {
+        assertArrayEquals(new int[]{2}, eval("spring AND kafka NOT intern"));
+    }
+
+    @Test
+    void adjacentTerms_areImplicitAnd() {
+        assertArrayEquals(new int[]{2, 3}, eval("spring kafka"));
+    }
+
+    @Test
+    void andBindsTighterThanOr() {
+        assertArrayEquals(new int[]{2, 3, 7}, eval("spring AND kafka OR intern"));
+        assertArrayEquals(new int[]{2, 3}, eval("spring AND (kafka OR intern)"));
+    }
+
+    @Test
+    void quotedTag_andDashNegation() {
+        assertArrayEquals(new int[]{1, 2, 4, 5, 8}, eval("(spring OR \"spring boot\") -intern"));
+    }
+
+    @Test
+    void standaloneNot_usesUniverse() {
+        assertArrayEquals(new int[]{3, 7, 8, 9}, eval("NOT kafka -spring OR intern"));
+        assertArrayEquals(new int[]{6, 7, 8, 9}, eval("not spring"));
+    }
+
+    @Test
+    void unknownTag_matchesNothing() {
+        assertArrayEquals(new int[]{}, eval("spring AND rust"));
+        assertArrayEquals(new int[]{3, 7}, eval("intern OR rust"));
+    }
+
+    @Test
+    void evaluate_doesNotModifyPostings() {
+        eval("spring AND kafka NOT intern");
+        eval("spring OR kafka");
+
+        assertEquals(5, postings.get("spring").getCardinality());
+        assertEquals(3, postings.get("kafka").getCardinality());
+    }
+
+    @Test
+    void parse_rejectsMalformedQueries() {
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse(" "));
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("spring AND"));
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("(spring OR kafka"));
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("spring )"));
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("\"spring"));
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse("OR spring"));
+    }
+
+    @Test
+    void parse_limitsTermCount() {
+        String query = "t ".repeat(TagQuery.MAX_TERMS + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> TagQuery.parse(query));
+        assertEquals(TagQuery.MAX_TERMS, TagQuery.parse("t ".repeat(TagQuery.MAX_TERMS)).termCount());
+    }
+}
@@ -0,0 +1,72 @@
+package com.xhackathon.server.domain.shortform.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagTrieTest {
+
+    private final TagTrie trie = new TagTrie();
+
+    private List<String> tags(String prefix, int limit) {
+        return trie.suggest(prefix, limit).stream().map(TagSuggestion::tag).toList();
+    }
+
+    @Test
+    void suggest_ordersByCountWithinPrefix() {
+        trie.set("spring", 5);
+        trie.set("spring boot", 9);
+        trie.set("sql", 7);
+        trie.set("kafka", 20);
+
+        assertEquals(List.of("spring boot", "sql", "spring"), tags("s", 10));
+        assertEquals(List.of("spring boot", "spring"), tags("spr", 10));
+        assertEquals(List.of("spring boot"), tags("s", 1));
+        assertEquals(List.of(), tags("x", 10));
+    }
+
+    @Test
+    void suggest_returnsEmptyForNonPositiveLimit() {
+        trie.set("spring", 5);
+
+        assertEquals(List.of(), tags("s", 0));
+        assertEquals(List.of(), tags("s", -1));
+    }
+
+    @Test
+    void suggest_ignoresCaseAndKeepsOriginalTag() {
+        trie.set("Java", 3);
+        trie.set("백엔드", 2);
+
+        assertEquals(List.of("Java"), tags("ja", 10));
+        assertEquals(List.of("백엔드"), tags("백", 10));
+    }
+
+    @Test
+    void set_updatesCountsIncrementally() {
+        trie.set("spring", 5);
+        trie.set("sql", 7);
+
+        trie.set("spring", 8);
+        assertEquals(List.of("spring", "sql"), tags("s", 10));
+
+        trie.set("spring", 0);
+        assertEquals(List.of("sql"), tags("s", 10));
+        assertEquals(List.of(), tags("spr", 10));
+        assertEquals(7, trie.suggest("", 10).get(0).count());
+    }
+
+    @Test
+    void suggest_keepsOnlyTopK() {
+        for (int i = 0; i < TagTrie.TOP_K + 5; i++) {
+            trie.set("tag" + i, i + 1);
+        }
+
+        List<TagSuggestion> top = trie.suggest("tag", 100);
+
+        assertEquals(TagTrie.TOP_K, top.size());
+        assertEquals("tag" + (TagTrie.TOP_K + 4), top.get(0).tag());
+    }
+}
@@ -0,0 +1,94 @@
+package com.xhackathon.server.domain.shortform.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummaryDocumentCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private SummaryDocument document(String transcript) {
+        loads.incrementAndGet();
+        return new SummaryDocument("{}", "요약", transcript, List.of());
+    }
+
+    @Test
+    void get_loadsOncePerKey() {
+        SummaryDocumentCache cache = new SummaryDocumentCache(1_000, Duration.ofMinutes(30), Duration.ofMinutes(2));
+
+        cache.get("videos/a", key -> document("자막"));
+        SummaryDocument second = cache.get("videos/a", key -> document("자막"));
+
+        assertEquals(1, loads.get());
+        assertEquals("자막", second.transcript());
+    }
+
+    @Test
+    void get_cachesMissingFiles() {
+        SummaryDocumentCache cache = new SummaryDocumentCache(1_000, Duration.ofMinutes(30), Duration.ofMinutes(2));
+
+        cache.get("videos/missing", key -> { loads.incrementAndGet(); return SummaryDocument.MISSING; });
+        SummaryDocument second = cache.get("videos/missing", key -> document("자막"));
+
+        assertEquals(1, loads.get());
+        assertFalse(second.exists());
+    }
+
+    @Test
+    void get_doesNotCacheLoaderFailures() {
+        SummaryDocumentCache cache = new SummaryDocumentCache(1_000, Duration.ofMinutes(30), Duration.ofMinutes(2));
+
+        assertThrows(IllegalStateException.class,
+                () -> cache.get("videos/a", key -> { throw new IllegalStateException("S3 오류"); }));
+        cache.get("videos/a", key -> document("자막"));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void store_evictsLeastRecentlyUsedByWeight() {
+        // 문서 하나의 크기: "{}"(2) + "요약"(2) + transcript(10) = 14
+        SummaryDocumentCache cache = new SummaryDocumentCache(30, Duration.ofMinutes(30), Duration.ofMinutes(2));
+        String transcript = "0123456789";
+
+        cache.get("a", key -> document(transcript));
+        cache.get("b", key -> document(transcript));
+        cache.get("a", key -> document(transcript)); // a를 최근 사용으로
+        cache.get("c", key -> document(transcript)); // b 제거
+        assertEquals(3, loads.get());
+
+        cache.get("a", key -> document(transcript));
+        assertEquals(3, loads.get());
+        cache.get("b", key -> document(transcript));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void invalidate_forcesReload() {
+        SummaryDocumentCache cache = new SummaryDocumentCache(1_000, Duration.ofMinutes(30), Duration.ofMinutes(2));
+
+        cache.get("videos/a", key -> SummaryDocument.MISSING);
+        cache.invalidate("videos/a");
+
+        assertTrue(cache.get("videos/a", key -> document("자막")).exists());
+    }
+
+    @Test
+    void invalidate_duringLoadSkipsStore() {
+        SummaryDocumentCache cache = new SummaryDocumentCache(1_000, Duration.ofMinutes(30), Duration.ofMinutes(2));
+
+        // 이전 문서를 읽는 도중 새 AI 결과가 저장됨
+        cache.get("videos/a", key -> {
+            cache.invalidate("videos/a");
+            return SummaryDocument.MISSING;
+        });
+
+        assertTrue(cache.get("videos/a", key -> document("자막")).exists());
+        assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,174 @@
+package com.xhackathon.server.domain.shortform.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThumbnailExecutionEngineTest {
+
+    private ThumbnailExecutionEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    void uploadLaneRunsBeforeQueuedBackfill() throws Exception {
+        engine = new ThumbnailExecutionEngine(1, 10, 10, 1, Duration.ofMillis(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        // 작업 스레드를 점유한 상태에서 일괄 생성, 업로드 순서로 제출
+        engine.submit("blocker", ThumbnailExecutionEngine.Lane.BACKFILL, () -> {
+            started.countDown();
+            await(release);
+            return true;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> backfill = engine.submit("old", ThumbnailExecutionEngine.Lane.BACKFILL,
+                () -> order.add("old"));
+        CompletableFuture<Boolean> upload = engine.submit("new", ThumbnailExecutionEngine.Lane.UPLOAD,
+                () -> order.add("new"));
+
+        release.countDown();
+        assertTrue(backfill.get(5, TimeUnit.SECONDS));
+        assertTrue(upload.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of("new", "old"), order);
+    }
+
+    @Test
+    void uploadForQueuedBackfillKeyMovesItToUploadLane() throws Exception {
+        engine = new ThumbnailExecutionEngine(1, 10, 10, 1, Duration.ofMillis(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        engine.submit("blocker", ThumbnailExecutionEngine.Lane.BACKFILL, () -> {
+            started.countDown();
+            await(release);
+            return true;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> older = engine.submit("older", ThumbnailExecutionEngine.Lane.BACKFILL,
+                () -> order.add("older"));
+        CompletableFuture<Boolean> backfill = engine.submit("video", ThumbnailExecutionEngine.Lane.BACKFILL,
+                () -> order.add("video"));
+
+        // 같은 key의 업로드 요청은 일괄 생성 작업을 업로드 대기열로 옮겨 먼저 실행
+        CompletableFuture<Boolean> upload = engine.submit("video", ThumbnailExecutionEngine.Lane.UPLOAD, () -> false);
+        assertSame(backfill, upload);
+
+        release.countDown();
+        assertTrue(upload.get(5, TimeUnit.SECONDS));
+        assertTrue(older.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of("video", "older"), order);
+        assertEquals(1L, engine.stats().get("promoted"));
+    }
+
+    @Test
+    void failedAttemptIsRetriedAfterDelay() throws Exception {
+        engine = new ThumbnailExecutionEngine(1, 10, 10, 3, Duration.ofMillis(10));
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<Boolean> result = engine.submit("a", ThumbnailExecutionEngine.Lane.UPLOAD, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("S3 오류");
+            }
+            return attempts.get() == 3;
+        });
+
+        assertTrue(result.get(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+        assertEquals(2L, engine.stats().get("retries"));
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() throws Exception {
+        engine = new ThumbnailExecutionEngine(1, 10, 10, 2, Duration.ofMillis(10));
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<Boolean> result = engine.submit("a", ThumbnailExecutionEngine.Lane.UPLOAD, () -> {
+            attempts.incrementAndGet();
+            return false;
+        });
+
+        assertFalse(result.get(5, TimeUnit.SECONDS));
+        assertEquals(2, attempts.get());
+        assertEquals(1L, engine.stats().get("failed"));
+    }
+
+    @Test
+    void fullUploadLaneRejectsAndSameKeyIsCoalesced() throws Exception {
+        engine = new ThumbnailExecutionEngine(1, 1, 10, 1, Duration.ofMillis(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        engine.submit("running", ThumbnailExecutionEngine.Lane.UPLOAD, () -> {
+            started.countDown();
+            await(release);
+            return true;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = engine.submit("queued", ThumbnailExecutionEngine.Lane.UPLOAD, () -> true);
+
+        // 대기 중인 key는 새로 넣지 않고 같은 결과를 받음
+        assertSame(queued, engine.submit("queued", ThumbnailExecutionEngine.Lane.UPLOAD, () -> false));
+
+        CompletableFuture<Boolean> overflow = engine.submit("overflow", ThumbnailExecutionEngine.Lane.UPLOAD, () -> true);
+        ExecutionException error = assertThrows(ExecutionException.class, () -> overflow.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+
+        release.countDown();
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1L, engine.stats().get("rejected"));
+        assertEquals(1L, engine.stats().get("coalesced"));
+    }
+
+    @Test
+    void trySubmitRejectsFullBackfillLaneWithoutWaiting() throws Exception {
+        engine = new ThumbnailExecutionEngine(1, 10, 1, 1, Duration.ofMillis(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        engine.submit("running", ThumbnailExecutionEngine.Lane.BACKFILL, () -> {
+            started.countDown();
+            await(release);
+            return true;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = engine.submit("queued", ThumbnailExecutionEngine.Lane.BACKFILL, () -> true);
+
+        // 요청 스레드용 제출은 자리를 기다리지 않고 바로 거절
+        CompletableFuture<Boolean> skipped = engine.trySubmit("skipped", ThumbnailExecutionEngine.Lane.BACKFILL, () -> true);
+        assertTrue(skipped.isDone());
+        ExecutionException error = assertThrows(ExecutionException.class, skipped::get);
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+
+        release.countDown();
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1L, engine.stats().get("rejected"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.xhackathon.server.domain.trend.service;
+
+import com.xhackathon.server.domain.shortform.event.ShortFormChangedEvent;
+import com.xhackathon.server.domain.trend.dto.response.TagTrendResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagTrendServiceTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-11-08T10:00:00Z"));
+    private final TagTrendService service = new TagTrendService(null, clock);
+
+    private List<String> trending(String window) {
+        return service.getTrending(window, 10).getTags().stream().map(TagTrendResponse.TrendingTag::getTag).toList();
+    }
+
+    @Test
+    void uploadsOutweighSearches() {
+        service.recordSearch("kafka");
+        service.recordSearch("kafka");
+        service.onShortFormChanged(event(List.of("spring"), List.of()));
+
+        assertEquals(List.of("spring", "kafka"), trending("hour"));
+        TagTrendResponse.TrendingTag kafka = service.getTrending("hour", 10).getTags().get(1);
+        assertEquals(0, kafka.getUploadCount());
+        assertEquals(2, kafka.getSearchCount());
+    }
+
+    @Test
+    void onlyNewlyAddedTagsCountAsUploads() {
+        service.onShortFormChanged(event(List.of("spring", "kafka"), List.of("spring")));
+
+        assertEquals(List.of("kafka"), trending("hour"));
+    }
+
+    @Test
+    void recentActivityDecaysLess() {
+        service.onShortFormChanged(event(List.of("old"), List.of()));
+        service.onShortFormChanged(event(List.of("old"), List.of()));
+        clock.advance(Duration.ofMinutes(45));
+        service.onShortFormChanged(event(List.of("new"), List.of()));
+
+        assertEquals(List.of("new", "old"), trending("hour"));
+    }
+
+    @Test
+    void hourWindowExpiresWhileDayWindowKeepsCounting() {
+        service.onShortFormChanged(event(List.of("spring"), List.of()));
+        clock.advance(Duration.ofMinutes(61));
+
+        assertEquals(List.of(), trending("hour"));
+        assertEquals(List.of("spring"), trending("day"));
+
+        clock.advance(Duration.ofHours(24));
+        assertEquals(List.of(), trending("day"));
+    }
+
+    @Test
+    void reusedSlotStartsFromZero() {
+        service.recordSearch("spring");
+        clock.advance(Duration.ofMinutes(60)); // 같은 1분 슬롯, 다음 바퀴
+        service.recordSearch("spring");
+
+        assertEquals(1, service.getTrending("hour", 10).getTags().get(0).getSearchCount());
+    }
+
+    @Test
+    void rejectsUnknownWindow() {
+        assertThrows(IllegalArgumentException.class, () -> service.getTrending("week", 10));
+    }
+
+    private static ShortFormChangedEvent event(List<String> tags, List<String> previousTags) {
+        return new ShortFormChangedEvent(1L, "owner", previousTags.isEmpty(), tags, previousTags, null);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
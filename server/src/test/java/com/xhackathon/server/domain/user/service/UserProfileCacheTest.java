@@ -0,0 +1,79 @@
+package com.xhackathon.server.domain.user.service;
+
+import com.xhackathon.server.domain.user.entity.User;
+import com.xhackathon.server.domain.user.entity.UserRole;
+import com.xhackathon.server.domain.user.event.UserProfileChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserProfileCacheTest {
+
+    private final Map<String, User> users = new HashMap<>();
+    private final List<Collection<String>> loads = new ArrayList<>();
+    private final UserProfileCache cache = new UserProfileCache(this::load, 2, Duration.ofMinutes(10));
+
+    private List<User> load(Collection<String> pids) {
+        loads.add(List.copyOf(pids));
+        return pids.stream().filter(users::containsKey).map(users::get).toList();
+    }
+
+    private void addUser(String pid, String displayName) {
+        users.put(pid, new User(pid, pid + "@login", "pw", UserRole.USER, displayName));
+    }
+
+    @Test
+    void getAll_loadsOnlyMissingPidsInOneQuery() {
+        addUser("a", "에이");
+        addUser("b", "비");
+        cache.get("a");
+
+        Map<String, UserProfile> profiles = cache.getAll(List.of("a", "b", "a"));
+
+        assertEquals("에이", profiles.get("a").displayName());
+        assertEquals("비", profiles.get("b").displayName());
+        assertEquals(List.of(List.of("a"), List.of("b")), loads);
+    }
+
+    @Test
+    void missingUsersAreNotCached() {
+        assertTrue(cache.get("ghost").isEmpty());
+        addUser("ghost", "유령");
+
+        assertEquals("유령", cache.get("ghost").orElseThrow().displayName());
+    }
+
+    @Test
+    void profileChangeInvalidatesSnapshot() {
+        addUser("a", "에이");
+        cache.get("a");
+        users.get("a").updateProfileImage("profiles/new.png");
+
+        assertNull(cache.get("a").orElseThrow().profileImageUrl());
+        cache.onProfileChanged(new UserProfileChangedEvent("a"));
+        assertEquals("profiles/new.png", cache.get("a").orElseThrow().profileImageUrl());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        addUser("a", "에이");
+        addUser("b", "비");
+        addUser("c", "씨");
+        cache.get("a");
+        cache.get("b");
+        cache.get("a"); // a를 최근 사용으로
+        cache.get("c"); // b 제거
+        loads.clear();
+
+        cache.getAll(List.of("a", "b", "c"));
+
+        assertEquals(List.of(List.of("b")), loads);
+    }
+}